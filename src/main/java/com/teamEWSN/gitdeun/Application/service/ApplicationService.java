@@ -8,6 +8,7 @@ import com.teamEWSN.gitdeun.Application.repository.ApplicationRepository;
 import com.teamEWSN.gitdeun.recruitment.entity.Recruitment;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
 import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentRepository;
+import com.teamEWSN.gitdeun.recruitment.service.RecruitmentRecommendationIndex;
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.exception.GlobalException;
 import com.teamEWSN.gitdeun.notification.dto.NotificationCreateDto;
@@ -34,6 +35,7 @@ public class ApplicationService {
     private final UserRepository userRepository;
     private final ApplicationMapper applicationMapper;
     private final NotificationService notificationService;
+    private final RecruitmentRecommendationIndex recruitmentRecommendationIndex;
 
     /**
      * 모집 공고에 지원하기
@@ -190,6 +192,7 @@ public class ApplicationService {
         if (wasAccepted) {
             Recruitment recruitment = application.getRecruitment();
             recruitment.increaseQuota();
+            recruitmentRecommendationIndex.refresh(recruitment.getId());
 
             // 철회 알림
             String notificationMessage = String.format(
@@ -239,6 +242,7 @@ public class ApplicationService {
         // 모집 인원 감소
         Recruitment recruitment = application.getRecruitment();
         recruitment.decreaseQuota();
+        recruitmentRecommendationIndex.refresh(recruitment.getId());
 
         // 지원자에게 알림 전송
         String notificationMessage = String.format(
@@ -8,11 +8,10 @@ import com.teamEWSN.gitdeun.codereference.mapper.CodeReferenceMapper;
 import com.teamEWSN.gitdeun.codereference.repository.CodeReferenceRepository;
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.exception.GlobalException;
-import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
-import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
 import com.teamEWSN.gitdeun.mindmap.entity.Mindmap;
 import com.teamEWSN.gitdeun.mindmap.repository.MindmapRepository;
 import com.teamEWSN.gitdeun.mindmap.util.FileContentCache;
+import com.teamEWSN.gitdeun.mindmap.util.IndexedMindmapGraph;
 import com.teamEWSN.gitdeun.mindmap.util.MindmapGraphCache;
 import com.teamEWSN.gitdeun.mindmapmember.service.MindmapAuthService;
 import com.teamEWSN.gitdeun.repo.entity.Repo;
@@ -157,16 +156,14 @@ public class CodeReferenceService {
         LocalDateTime lastCommit = mindmap.getRepo().getLastCommit();
 
         // 그래프 데이터에서 노드 정보 가져오기
-        MindmapGraphResponseDto graphData = mindmapGraphCache.getGraphWithHybridCache(repoUrl, lastCommit, authorizationHeader);
-        NodeDto targetNode = graphData.getNodes().stream()
-            .filter(node -> nodeKey.equals(node.getKey()))
-            .findFirst()
-            .orElseThrow(() -> new GlobalException(ErrorCode.NODE_NOT_FOUND));
+        IndexedMindmapGraph graph = mindmapGraphCache.getIndexedGraph(repoUrl, lastCommit, authorizationHeader);
+        int nodeIndex = graph.indexOf(nodeKey);
+        if (nodeIndex < 0) {
+            throw new GlobalException(ErrorCode.NODE_NOT_FOUND);
+        }
 
         // 요청된 filePath가 노드에 실제 포함된 파일인지 확인
-        boolean fileExists = targetNode.getRelatedFiles().stream()
-            .anyMatch(file -> request.getFilePath().equals(file.getFilePath()));
-        if (!fileExists) {
+        if (!graph.containsFile(nodeIndex, request.getFilePath())) {
             throw new GlobalException(ErrorCode.FILE_NOT_FOUND_IN_NODE);
         }
 
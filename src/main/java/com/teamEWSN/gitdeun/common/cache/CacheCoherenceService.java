@@ -0,0 +1,184 @@
+package com.teamEWSN.gitdeun.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 L1 캐시 일관성 유지
+ *
+ * 로컬 L1 을 즉시 무효화하고, 같은 이벤트를 모아(중복 제거) Redis 채널로 한 번에 발행합니다.
+ * 다른 인스턴스는 메시지를 받아 자신의 L1 에 적용합니다.
+ * Spring CacheManager 캐시는 기본 처리되며, 직접 관리하는 캐시는 registerHandler 로 등록합니다.
+ */
+@Slf4j
+@Service
+public class CacheCoherenceService implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 발행 대기 이벤트 (dedupKey 기준 중복 제거)
+    private final Map<String, CacheInvalidationEvent> pending = new ConcurrentHashMap<>();
+
+    // CacheManager 밖에서 관리되는 캐시의 무효화 처리기 (key == null 이면 전체)
+    private final Map<String, Consumer<Object>> handlers = new ConcurrentHashMap<>();
+
+    private final Timer invalidationLag;
+    private final Counter publishedEvents;
+    private final Counter receivedEvents;
+
+    @Value("${app.cache.invalidation.max-batch-size:500}")
+    private int maxBatchSize;
+
+    public CacheCoherenceService(RedisTemplate<String, String> stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 CacheManager cacheManager,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.listenerContainer = listenerContainer;
+        this.invalidationLag = Timer.builder("app.cache.invalidation.lag")
+            .description("무효화 이벤트 발행부터 다른 인스턴스 적용까지의 지연")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.publishedEvents = Counter.builder("app.cache.invalidation.published")
+            .description("발행한 무효화 이벤트 수")
+            .register(meterRegistry);
+        this.receivedEvents = Counter.builder("app.cache.invalidation.received")
+            .description("수신하여 적용한 무효화 이벤트 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void registerHandler(String cacheName, Consumer<Object> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * 로컬 L1 에서 키를 제거하고 다른 인스턴스에도 전파
+     */
+    public void evict(String cacheName, Object key) {
+        applyLocally(cacheName, key);
+        broadcast(cacheName, key);
+    }
+
+    /**
+     * 로컬 L1 캐시 전체를 비우고 다른 인스턴스에도 전파
+     */
+    public void clear(String cacheName) {
+        evict(cacheName, null);
+    }
+
+    /**
+     * 로컬은 이미 처리된 경우(@CacheEvict 등) 다른 인스턴스에만 전파
+     */
+    public void broadcast(String cacheName, Object key) {
+        CacheInvalidationEvent event = CacheInvalidationEvent.of(cacheName, key);
+        pending.put(event.dedupKey(), event);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.flush-interval-ms:50}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<CacheInvalidationEvent> batch = new ArrayList<>();
+        for (String dedupKey : pending.keySet()) {
+            // remove 로 꺼내야 그 사이 들어온 같은 키의 최신 이벤트를 잃지 않음
+            CacheInvalidationEvent event = pending.remove(dedupKey);
+            if (event != null) {
+                batch.add(event);
+            }
+            if (batch.size() >= maxBatchSize) {
+                publish(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        publish(batch);
+    }
+
+    private void publish(List<CacheInvalidationEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(instanceId, batch));
+            stringRedisTemplate.convertAndSend(CHANNEL, payload);
+            publishedEvents.increment(batch.size());
+        } catch (Exception e) {
+            log.warn("캐시 무효화 이벤트 발행 실패 - 이벤트 수: {}", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage received = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+            if (instanceId.equals(received.originId()) || received.events() == null) {
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            for (CacheInvalidationEvent event : received.events()) {
+                applyLocally(event.cacheName(), event.typedKey());
+                invalidationLag.record(Duration.ofMillis(Math.max(0, now - event.publishedAt())));
+            }
+            receivedEvents.increment(received.events().size());
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private void applyLocally(String cacheName, Object key) {
+        Consumer<Object> handler = handlers.get(cacheName);
+        if (handler != null) {
+            handler.accept(key);
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.teamEWSN.gitdeun.common.cache;
+
+/**
+ * 인스턴스 간 L1 캐시 무효화 이벤트
+ *
+ * @param cacheName   캐시 이름
+ * @param key         무효화할 키 (null 이면 캐시 전체)
+ * @param keyType     키 타입 (Long/Integer/String) - 역직렬화 후 원래 타입으로 복원
+ * @param publishedAt 발행 시각 (epoch millis, 지연 측정용)
+ */
+public record CacheInvalidationEvent(String cacheName, String key, String keyType, long publishedAt) {
+
+    public static CacheInvalidationEvent of(String cacheName, Object key) {
+        return new CacheInvalidationEvent(
+            cacheName,
+            key != null ? key.toString() : null,
+            key != null ? key.getClass().getSimpleName() : null,
+            System.currentTimeMillis());
+    }
+
+    public Object typedKey() {
+        if (key == null) {
+            return null;
+        }
+        return switch (keyType != null ? keyType : "String") {
+            case "Long" -> Long.valueOf(key);
+            case "Integer" -> Integer.valueOf(key);
+            default -> key;
+        };
+    }
+
+    // 배치 내 중복 제거용 식별자
+    public String dedupKey() {
+        return cacheName + "|" + (key != null ? keyType + ":" + key : "*");
+    }
+}
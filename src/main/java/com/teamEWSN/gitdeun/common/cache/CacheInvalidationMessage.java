@@ -0,0 +1,11 @@
+package com.teamEWSN.gitdeun.common.cache;
+
+import java.util.List;
+
+/**
+ * Redis 채널로 전송되는 무효화 이벤트 묶음
+ *
+ * @param originId 발행 인스턴스 ID (자기 자신이 보낸 메시지는 무시)
+ */
+public record CacheInvalidationMessage(String originId, List<CacheInvalidationEvent> events) {
+}
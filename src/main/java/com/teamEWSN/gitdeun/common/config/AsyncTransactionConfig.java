@@ -3,17 +3,24 @@ package com.teamEWSN.gitdeun.common.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
 /**
  * 비동기 처리 및 트랜잭션 설정
@@ -27,8 +34,21 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Configuration
 @EnableAsync
 @EnableTransactionManagement
+@RequiredArgsConstructor
 public class AsyncTransactionConfig implements AsyncConfigurer {
 
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    // Tomcat 요청 처리와 동일한 스위치로 실행자 모드를 결정
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${app.async.virtual.mindmap-concurrency:200}")
+    private int mindmapConcurrency;
+
+    @Value("${app.async.virtual.general-concurrency:100}")
+    private int generalConcurrency;
+
     @Value("${app.async.core-pool-size:10}")
     private int corePoolSize;
 
@@ -48,9 +68,19 @@ public class AsyncTransactionConfig implements AsyncConfigurer {
      * - 최대 풀 크기: 50개 (피크 시간 대응)
      * - 큐 용량: 100개 (대기 중인 작업 수)
      * - 거부 정책: CallerRuns (호출자 스레드에서 직접 실행)
+     * 가상 스레드 모드에서는 풀 대신 Semaphore 로 동시 실행 수만 제한합니다.
      */
     @Bean(name = "mindmapExecutor")
     public Executor mindmapTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                "mindmapExecutor", "Mindmap-VT-", mindmapConcurrency, 30);
+            registerMetrics("mindmapExecutor", executor::getQueuedCount, executor::getInFlightCount);
+
+            log.info("마인드맵 비동기 실행자 초기화 완료 (가상 스레드) - 동시 실행 제한: {}", mindmapConcurrency);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         executor.setCorePoolSize(corePoolSize);
@@ -67,6 +97,8 @@ public class AsyncTransactionConfig implements AsyncConfigurer {
         executor.setAwaitTerminationSeconds(30);
 
         executor.initialize();
+        registerMetrics("mindmapExecutor",
+            () -> executor.getThreadPoolExecutor().getQueue().size(), executor::getActiveCount);
 
         log.info("마인드맵 비동기 실행자 초기화 완료 - 코어: {}, 최대: {}, 큐: {}",
             corePoolSize, maxPoolSize, queueCapacity);
@@ -74,6 +106,23 @@ public class AsyncTransactionConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 마인드맵 리액티브 파이프라인용 스케줄러
+     *
+     * FastAPI 응답 대기는 Netty 이벤트 루프에서 Non-blocking 으로 처리하고,
+     * DB 저장/알림 같은 블로킹 구간만 별도 스레드로 넘겨 실행합니다.
+     * - 플랫폼 스레드 모드: mindmapExecutor 의 CallerRuns 정책을 쓰면 포화 시 블로킹 작업이 이벤트 루프에서 실행되므로,
+     *   전용 bounded elastic 스케줄러를 사용 (포화 시 RejectedExecutionException 으로 실패 → 작업 큐가 재시도)
+     * - 가상 스레드 모드: 작업이 항상 가상 스레드에서 허가를 기다리므로 mindmapExecutor 를 그대로 사용
+     */
+    @Bean(name = "mindmapScheduler", destroyMethod = "dispose")
+    public Scheduler mindmapScheduler() {
+        if (virtualThreadsEnabled) {
+            return Schedulers.fromExecutor(mindmapTaskExecutor());
+        }
+        return Schedulers.newBoundedElastic(maxPoolSize, queueCapacity, "Mindmap-Reactive");
+    }
+
     /**
      * 일반적인 비동기 작업용 실행자
      *
@@ -81,6 +130,15 @@ public class AsyncTransactionConfig implements AsyncConfigurer {
      */
     @Bean(name = "generalExecutor")
     public Executor generalTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                "generalExecutor", "General-VT-", generalConcurrency, 20);
+            registerMetrics("generalExecutor", executor::getQueuedCount, executor::getInFlightCount);
+
+            log.info("일반 비동기 실행자 초기화 완료 (가상 스레드) - 동시 실행 제한: {}", generalConcurrency);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         executor.setCorePoolSize(5);
@@ -94,11 +152,54 @@ public class AsyncTransactionConfig implements AsyncConfigurer {
         executor.setAwaitTerminationSeconds(20);
 
         executor.initialize();
+        registerMetrics("generalExecutor",
+            () -> executor.getThreadPoolExecutor().getQueue().size(), executor::getActiveCount);
 
         log.info("일반 비동기 실행자 초기화 완료");
         return executor;
     }
 
+    /**
+     * 인메모리 색인(모집 공고 검색/추천) 갱신 전용 실행자
+     *
+     * 전체 재구성과 단건 갱신을 한 스레드에서 순서대로 실행합니다.
+     * Redis 리스너/스케줄러 스레드에서 DB 전체 조회를 하지 않도록 분리하고, 같은 공고의 갱신 순서도 유지합니다.
+     */
+    @Bean(name = "indexExecutor")
+    public Executor indexTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("Index-Refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+        registerMetrics("indexExecutor",
+            () -> executor.getThreadPoolExecutor().getQueue().size(), executor::getActiveCount);
+
+        log.info("색인 갱신 실행자 초기화 완료");
+        return executor;
+    }
+
+    /**
+     * 실행자 대기/실행 중 작업 수를 Micrometer 게이지로 노출
+     */
+    private void registerMetrics(String executorName, Supplier<Number> queued, Supplier<Number> inFlight) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Gauge.builder("app.async.executor.queued", queued)
+            .tag("executor", executorName)
+            .description("실행 대기 중인 비동기 작업 수")
+            .register(registry);
+        Gauge.builder("app.async.executor.in-flight", inFlight)
+            .tag("executor", executorName)
+            .description("실행 중인 비동기 작업 수")
+            .register(registry);
+    }
+
     /**
      * 기본 비동기 실행자 (AsyncConfigurer 인터페이스 구현)
      */
@@ -0,0 +1,89 @@
+package com.teamEWSN.gitdeun.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 기반 실행자
+ *
+ * 작업마다 가상 스레드를 하나씩 생성하고, 동시 실행 수는 풀 크기 대신 Semaphore 로 제한합니다.
+ * 허가를 얻지 못한 작업은 가상 스레드 안에서 대기하므로 플랫폼 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+public final class BoundedVirtualThreadExecutor implements TaskExecutor, DisposableBean {
+
+    private final String name;
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int awaitTerminationSeconds;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public BoundedVirtualThreadExecutor(String name, String threadNamePrefix,
+                                        int concurrencyLimit, int awaitTerminationSeconds) {
+        this.name = name;
+        this.delegate = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.permits = new Semaphore(concurrencyLimit);
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> runWithPermit(task));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+            log.warn("[{}] 실행 허가 대기 중 인터럽트 - 작업 취소", name);
+            return;
+        }
+
+        queued.decrementAndGet();
+        inFlight.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /** 허가를 기다리는 작업 수 */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /** 실행 중인 작업 수 */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        delegate.shutdown();
+        if (!delegate.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("[{}] 종료 대기 시간 초과 - 대기: {}, 실행 중: {}", name, queued.get(), inFlight.get());
+            delegate.shutdownNow();
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.teamEWSN.gitdeun.common.config.redis;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
+import com.teamEWSN.gitdeun.mindmap.util.CachedValue;
+import com.teamEWSN.gitdeun.mindmap.util.MindmapGraphRedisSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,8 +13,14 @@ import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 @Configuration
 public class RedisConfig {
@@ -46,4 +57,67 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(Object.class));
         return redisTemplate;
     }
+
+    /**
+     * 마인드맵 그래프 L2 캐시 전용 템플릿
+     * codec: smile(바이너리, 기본값) | json, 임계값 이상의 값은 압축하여 저장
+     */
+    @Bean
+    public RedisTemplate<String, CachedValue<MindmapGraphResponseDto>> mindmapGraphRedisTemplate(
+        RedisConnectionFactory redisConnectionFactory,
+        ObjectMapper objectMapper,
+        @Value("${app.cache.mindmap-graph.codec:smile}") String codec,
+        @Value("${app.cache.mindmap-graph.compression-threshold-bytes:8192}") int compressionThreshold,
+        @Value("${app.cache.mindmap-graph.soft-ttl-minutes:90}") long softTtlMinutes) {
+
+        RedisTemplate<String, CachedValue<MindmapGraphResponseDto>> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new MindmapGraphRedisSerializer(
+            objectMapper, "smile".equalsIgnoreCase(codec), compressionThreshold,
+            Duration.ofMinutes(softTtlMinutes)));  // 이전 형식 값은 TTL 까지 사용하되 즉시 백그라운드 재적재
+        return redisTemplate;
+    }
+
+    /**
+     * 바이너리 값 전용 템플릿 (압축된 파일 내용 등)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너 (각 구독 서비스가 자신의 채널을 등록)
+     * 메시지는 단일 스레드에서 수신 순서대로 처리합니다 (SSE 이벤트 순서 보장, 리스너는 가벼운 작업만 수행).
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       @Qualifier("redisListenerExecutor") Executor redisListenerExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(redisListenerExecutor);
+        return container;
+    }
+
+    /**
+     * Redis Pub/Sub 수신 전용 단일 스레드 실행자 (Spring 이 종료 시 정리)
+     */
+    @Bean(name = "redisListenerExecutor")
+    public Executor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("Redis-Listener-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
 }
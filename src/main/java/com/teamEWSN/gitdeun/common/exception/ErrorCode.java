@@ -46,6 +46,7 @@ public enum ErrorCode {
     MINDMAP_NOT_FOUND(HttpStatus.NOT_FOUND, "MINDMAP-001", "요청한 마인드맵을 찾을 수 없습니다."),
     MINDMAP_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "MINDMAP-002", "마인드맵 생성 중 오류가 발생했습니다."),
     NODE_NOT_FOUND(HttpStatus.NOT_FOUND, "MINDMAP-003", "요청한 마인드맵 노드 정보를 찾을 수 없습니다."),
+    MINDMAP_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "MINDMAP-004", "요청한 마인드맵 작업을 찾을 수 없습니다."),
 
     // 마인드맵 요청 검증 관련
     INVALID_USER_ID(HttpStatus.BAD_REQUEST, "VALIDATE-001", "유효하지 않은 사용자 ID입니다."),
@@ -107,6 +108,7 @@ public enum ErrorCode {
     RECRUITMENT_FULL(HttpStatus.BAD_REQUEST, "RECRUIT-004", "모집 인원이 마감되었습니다."),
     INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "RECRUIT-005", "시작일은 종료일보다 이전이어야 합니다."),
     END_DATE_IN_PAST(HttpStatus.BAD_REQUEST, "RECRUIT-006", "종료일은 현재보다 이후여야 합니다."),
+    INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "RECRUIT-007", "유효하지 않은 검색 커서입니다."),
 
     // 지원 관련
     APPLICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "APPLICATION-001", "요청한 지원 정보를 찾을 수 없습니다."),
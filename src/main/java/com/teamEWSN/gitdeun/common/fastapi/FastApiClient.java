@@ -41,65 +41,66 @@ public class FastApiClient {
      * 3. 그래프 데이터 조회 및 DTO 구성
      */
     public AnalysisResultDto analyzeResult(String repoUrl, String prompt, String authorizationHeader) {
+        return analyzeResultMono(repoUrl, prompt, authorizationHeader).block();
+    }
+
+    /**
+     * 통합 분석 프로세스 (Non-blocking)
+     * - fetch → saveRepoInfo → analyzeAI → getRepoInfo 를 하나의 리액티브 파이프라인으로 연결
+     * - 각 단계의 응답 대기 중 스레드를 점유하지 않음
+     */
+    public Mono<AnalysisResultDto> analyzeResultMono(String repoUrl, String prompt, String authorizationHeader) {
         String mapId = extractMapId(repoUrl);
         log.info("저장소 분석 시작 - mapId: {}", mapId);
 
-        try {
-            // Step 1: GitHub 저장소를 ArangoDB에 저장
-            FetchResponse fetchResult = fetchRepoInfo(repoUrl, authorizationHeader);
-            log.info("Fetch 완료 - 파일: {}, 파싱: {}",
-                fetchResult.getFiles_saved(), fetchResult.getFiles_parsed());
-
-            saveRepoInfo(repoUrl, authorizationHeader);
-
+        // Step 1: GitHub 저장소를 ArangoDB에 저장
+        return fetchRepoInfoMono(repoUrl, authorizationHeader)
+            .doOnNext(fetchResult -> log.info("Fetch 완료 - 파일: {}, 파싱: {}",
+                fetchResult.getFiles_saved(), fetchResult.getFiles_parsed()))
+            .then(saveRepoInfoMono(repoUrl, authorizationHeader))
             // Step 2: 마인드맵 기본 분석 (AI)
-            AnalyzeResponse analyzeResult = analyzeAI(repoUrl, prompt, authorizationHeader);
-            log.info("AI 분석 완료 - 디렉터리: {}", analyzeResult.getDirs_analyzed());
-
+            .then(analyzeAIMono(repoUrl, prompt, authorizationHeader))
+            .doOnNext(analyzeResult -> log.info("AI 분석 완료 - 디렉터리: {}", analyzeResult.getDirs_analyzed()))
             // Step 3: 저장소 정보 조회
-            RepoInfoResponse repoInfo = getRepoInfo(mapId, authorizationHeader);
-
+            .then(getRepoInfoMono(mapId, authorizationHeader))
             // 모든 데이터를 종합하여 DTO 생성
-            return buildAnalysisResultDto(repoInfo);
-
-        } catch (Exception e) {
-            log.error("저장소 분석 실패: {}", e.getMessage(), e);
-            return AnalysisResultDto.builder()
-                .errorMessage("분석 실패: " + e.getMessage())
-                .build();
-        }
+            .map(this::buildAnalysisResultDto)
+            // 실패는 그대로 전파하여 작업 실행기가 재시도/실패 처리 (4xx 는 재시도하지 않음)
+            .doOnError(e -> log.error("저장소 분석 실패: {}", e.getMessage(), e));
     }
 
     /**
      * 마인드맵 새로고침 - refresh-latest 엔드포인트 사용
      */
     public AnalysisResultDto refreshMindmap(String repoUrl, String prompt, String authorizationHeader) {
+        return refreshMindmapMono(repoUrl, prompt, authorizationHeader).block();
+    }
+
+    /**
+     * 마인드맵 새로고침 (Non-blocking)
+     */
+    public Mono<AnalysisResultDto> refreshMindmapMono(String repoUrl, String prompt, String authorizationHeader) {
         String mapId = extractMapId(repoUrl);
         log.info("마인드맵 새로고침 시작 - mapId: {}, 프롬프트 사용: {}", mapId, StringUtils.hasText(prompt));
 
-        try {
-            // Step 1: 최신 변경사항만 빠르게 새로고침
-            RefreshResponse refreshResult = refreshLatest(mapId, prompt, repoUrl, authorizationHeader);
-            log.info("새로고침 완료 - 변경 파일: {}, 분석 디렉터리: {}",
-                refreshResult.getChanged_files(), refreshResult.getDirs_analyzed());
-
+        // Step 1: 최신 변경사항만 빠르게 새로고침
+        return refreshLatestMono(mapId, prompt, repoUrl, authorizationHeader)
+            .doOnNext(refreshResult -> log.info("새로고침 완료 - 변경 파일: {}, 분석 디렉터리: {}",
+                refreshResult.getChanged_files(), refreshResult.getDirs_analyzed()))
             // Step 2: 저장소 정보 조회
-            saveRepoInfo(repoUrl, authorizationHeader);
-            RepoInfoResponse repoInfo = getRepoInfo(mapId, authorizationHeader);
-
+            .then(saveRepoInfoMono(repoUrl, authorizationHeader))
+            .then(getRepoInfoMono(mapId, authorizationHeader))
             // 새로고침 결과를 DTO로 변환
-            return buildRefreshResultDto(repoInfo);
-
-        } catch (Exception e) {
-            log.error("마인드맵 새로고침 실패: {}", e.getMessage(), e);
-            return AnalysisResultDto.builder()
-                .errorMessage("새로고침 실패: " + e.getMessage())
-                .build();
-        }
+            .map(this::buildRefreshResultDto)
+            .doOnError(e -> log.error("마인드맵 새로고침 실패: {}", e.getMessage(), e));
     }
 
     // 저장소 파일 fetch
     public FetchResponse fetchRepoInfo(String repoUrl, String authHeader) {
+        return fetchRepoInfoMono(repoUrl, authHeader).block();
+    }
+
+    public Mono<FetchResponse> fetchRepoInfoMono(String repoUrl, String authHeader) {
         Map<String, String> request = new HashMap<>();
         request.put("repo_url", repoUrl);
 
@@ -108,47 +109,49 @@ public class FastApiClient {
             .header("Authorization", authHeader)
             .body(Mono.just(request), Map.class)
             .retrieve()
-            .bodyToMono(FetchResponse.class)
-            .block();
+            .bodyToMono(FetchResponse.class);
     }
 
     // 저장소 정보 저장
     public void saveRepoInfo(String repoUrl, String authHeader) {
+        saveRepoInfoMono(repoUrl, authHeader).block();
+    }
+
+    public Mono<Void> saveRepoInfoMono(String repoUrl, String authHeader) {
         Map<String, String> request = new HashMap<>();
         request.put("repo_url", repoUrl);
 
-        webClient.post()
+        return webClient.post()
             .uri("/repo/github/repo-info")
             .header("Authorization", authHeader)
             .body(Mono.just(request), Map.class)
             .retrieve()
-            .bodyToMono(Void.class)
-            .block();
+            .bodyToMono(Void.class);
     }
 
     // 저장소 정보 조회
     public RepoInfoResponse getRepoInfo(String mapId, String authHeader) {
-        try {
-            return webClient.get()
-                .uri("/repo/{mapId}/info", mapId)
-                .header("Authorization", authHeader)
-                .retrieve()
-                .bodyToMono(RepoInfoResponse.class)
-                .block();
-        } catch (Exception e) {
-            log.warn("저장소 정보 조회 실패: {}, 기본값 사용", e.getMessage());
-            // 조회 실패 시 기본값 반환
-            RepoInfoResponse info = new RepoInfoResponse();
-            info.setDefaultBranch("main");
-            info.setLastCommit(LocalDateTime.now());
-            return info;
-        }
+        return getRepoInfoMono(mapId, authHeader).block();
+    }
+
+    public Mono<RepoInfoResponse> getRepoInfoMono(String mapId, String authHeader) {
+        return webClient.get()
+            .uri("/repo/{mapId}/info", mapId)
+            .header("Authorization", authHeader)
+            .retrieve()
+            .bodyToMono(RepoInfoResponse.class)
+            // 실패 시 임의의 커밋 시각(now)을 만들지 않음: 커밋 기준 캐시 키가 매번 달라져 적중하지 않게 됨
+            .doOnError(e -> log.warn("저장소 정보 조회 실패: {}", e.getMessage()));
     }
 
     /**
      * 기본 마인드맵 분석
      */
     public AnalyzeResponse analyzeAI(String repoUrl, String prompt, String authHeader) {
+        return analyzeAIMono(repoUrl, prompt, authHeader).block();
+    }
+
+    public Mono<AnalyzeResponse> analyzeAIMono(String repoUrl, String prompt, String authHeader) {
         Map<String, String> request = new HashMap<>();
         request.put("repo_url", repoUrl);
 
@@ -162,26 +165,32 @@ public class FastApiClient {
             .header("Authorization", authHeader)
             .body(Mono.just(request), Map.class)
             .retrieve()
-            .bodyToMono(AnalyzeResponse.class)
-            .block();
+            .bodyToMono(AnalyzeResponse.class);
     }
 
     /**
      * ArangoDB에서 마인드맵 그래프 데이터를 조회
      */
     public MindmapGraphDto getGraph(String mapId, String authHeader) {
+        return getGraphMono(mapId, authHeader).block();
+    }
+
+    public Mono<MindmapGraphDto> getGraphMono(String mapId, String authHeader) {
         return webClient.get()
             .uri("/mindmap/{mapId}/graph", mapId)
             .header("Authorization", authHeader)
             .retrieve()
-            .bodyToMono(MindmapGraphDto.class)
-            .block();
+            .bodyToMono(MindmapGraphDto.class);
     }
 
     // TODO: 프롬프트 summary 반환
 
     // 최신 변경사항 새로고침
     public RefreshResponse refreshLatest(String mapId, String prompt, String repoUrl, String authHeader) {
+        return refreshLatestMono(mapId, prompt, repoUrl, authHeader).block();
+    }
+
+    public Mono<RefreshResponse> refreshLatestMono(String mapId, String prompt, String repoUrl, String authHeader) {
         Map<String, Object> request = new HashMap<>();
         request.put("repo_url", repoUrl);
         if (StringUtils.hasText(prompt)) {
@@ -193,17 +202,20 @@ public class FastApiClient {
             .header("Authorization", authHeader)
             .body(Mono.just(request), Map.class)
             .retrieve()
-            .bodyToMono(RefreshResponse.class)
-            .block();
+            .bodyToMono(RefreshResponse.class);
     }
 
     /**
      * ArangoDB에서 repo_url 기반으로 마인드맵 데이터를 삭제
      */
     public void deleteMindmapData(String repoUrl, String authorizationHeader) {
+        deleteMindmapDataMono(repoUrl, authorizationHeader).block();
+    }
+
+    public Mono<DeleteResponse> deleteMindmapDataMono(String repoUrl, String authorizationHeader) {
         String mapId = extractMapId(repoUrl);
 
-        webClient.delete()
+        return webClient.delete()
             .uri(uriBuilder -> uriBuilder
                 .path("/mindmap/{mapId}")
                 .queryParam("also_recommendations", true)
@@ -211,9 +223,8 @@ public class FastApiClient {
             .header("Authorization", authorizationHeader)
             .retrieve()
             .bodyToMono(DeleteResponse.class)
-            .doOnSuccess(response -> log.info("삭제 완료 - 노드: {}, 엣지: {}",
-                response.getNodes_removed(), response.getEdges_removed()))
-            .block();
+            .doOnNext(response -> log.info("삭제 완료 - 노드: {}, 엣지: {}",
+                response.getNodes_removed(), response.getEdges_removed()));
     }
 
     /**
@@ -225,6 +236,13 @@ public class FastApiClient {
         String repoUrl,
         String prompt,
         String authHeader) {
+        return createAutoSuggestionsMono(repoUrl, prompt, authHeader).block();
+    }
+
+    public Mono<SuggestionAutoResponse> createAutoSuggestionsMono(
+        String repoUrl,
+        String prompt,
+        String authHeader) {
 
         String mapId = extractMapId(repoUrl);
         log.info("자동 제안 생성 시작 - mapId: {}, prompt: {}", mapId, prompt);
@@ -236,18 +254,14 @@ public class FastApiClient {
         request.put("max_files", 12);
         request.put("return_code", true);
 
-        try {
-            return webClient.post()
-                .uri("/suggestion/{mapId}/auto", mapId)
-                .header("Authorization", authHeader)
-                .body(Mono.just(request), Map.class)
-                .retrieve()
-                .bodyToMono(SuggestionAutoResponse.class)
-                .block();
-        } catch (Exception e) {
-            log.error("자동 제안 생성 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("제안 생성 실패: " + e.getMessage());
-        }
+        return webClient.post()
+            .uri("/suggestion/{mapId}/auto", mapId)
+            .header("Authorization", authHeader)
+            .body(Mono.just(request), Map.class)
+            .retrieve()
+            .bodyToMono(SuggestionAutoResponse.class)
+            // 원래 예외(WebClientResponseException 등)를 유지해야 작업 실행기가 재시도 여부를 판단할 수 있음
+            .doOnError(e -> log.error("자동 제안 생성 실패: {}", e.getMessage(), e));
     }
 
 /*    public String getFileRaw(String repoUrl, String filePath, String authHeader) {
@@ -313,47 +327,46 @@ public class FastApiClient {
     }*/
 
     public String getCodeFromNode(String nodeKey, String filePath, String authHeader) {
-        try {
-            log.debug("FastAPI 노드 기반 코드 조회 시작 - nodeKey: {}, filePath: {}", nodeKey, filePath);
+        return getCodeFromNodeMono(nodeKey, filePath, authHeader).block();
+    }
 
-            UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromPath("/content/file/by-node") // FastAPI의 해당 엔드포인트
-                .queryParam("node_key", nodeKey)
-                .queryParam("file_path", filePath);
-            // 'prefer' 파라미터는 생략하여 FastAPI의 기본값(auto)을 따르도록 함
+    public Mono<String> getCodeFromNodeMono(String nodeKey, String filePath, String authHeader) {
+        log.debug("FastAPI 노드 기반 코드 조회 시작 - nodeKey: {}, filePath: {}", nodeKey, filePath);
 
-            String uri = uriBuilder.build().toUriString();
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder
+            .fromPath("/content/file/by-node") // FastAPI의 해당 엔드포인트
+            .queryParam("node_key", nodeKey)
+            .queryParam("file_path", filePath);
+        // 'prefer' 파라미터는 생략하여 FastAPI의 기본값(auto)을 따르도록 함
 
-            NodeCodeResponse response = webClient.get()
-                .uri(uri)
-                .headers(headers -> {
-                    if (authHeader != null && !authHeader.trim().isEmpty()) {
-                        headers.set("Authorization", authHeader);
-                    }
-                })
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
-                    clientResponse.bodyToMono(String.class)
-                        .map(errorBody -> {
-                            log.warn("FastAPI 노드 코드 조회 4xx 오류 - nodeKey: {}, filePath: {}, status: {}, body: {}",
-                                nodeKey, filePath, clientResponse.statusCode(), errorBody);
-                            return new RuntimeException("FastAPI 클라이언트 오류: " + errorBody);
-                        })
-                )
-                .bodyToMono(NodeCodeResponse.class)
-                .timeout(Duration.ofSeconds(30))
-                .block();
-
-            String codeContent = (response != null) ? response.getCode() : "";
-            log.debug("FastAPI 노드 기반 코드 조회 성공 - nodeKey: {}, filePath: {}, 길이: {}",
-                nodeKey, filePath, codeContent != null ? codeContent.length() : 0);
-
-            return codeContent;
+        String uri = uriBuilder.build().toUriString();
 
-        } catch (Exception e) {
-            log.error("FastAPI 노드 기반 코드 조회 실패 - nodeKey: {}, filePath: {}", nodeKey, filePath, e);
-            return ""; // 예외 발생 시 빈 문자열 반환
-        }
+        return webClient.get()
+            .uri(uri)
+            .headers(headers -> {
+                if (authHeader != null && !authHeader.trim().isEmpty()) {
+                    headers.set("Authorization", authHeader);
+                }
+            })
+            .retrieve()
+            .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
+                clientResponse.bodyToMono(String.class)
+                    .map(errorBody -> {
+                        log.warn("FastAPI 노드 코드 조회 4xx 오류 - nodeKey: {}, filePath: {}, status: {}, body: {}",
+                            nodeKey, filePath, clientResponse.statusCode(), errorBody);
+                        return new RuntimeException("FastAPI 클라이언트 오류: " + errorBody);
+                    })
+            )
+            .bodyToMono(NodeCodeResponse.class)
+            .timeout(Duration.ofSeconds(30))
+            .map(response -> response.getCode() != null ? response.getCode() : "")
+            .defaultIfEmpty("")
+            .doOnNext(codeContent -> log.debug("FastAPI 노드 기반 코드 조회 성공 - nodeKey: {}, filePath: {}, 길이: {}",
+                nodeKey, filePath, codeContent.length()))
+            .onErrorResume(e -> {
+                log.error("FastAPI 노드 기반 코드 조회 실패 - nodeKey: {}, filePath: {}", nodeKey, filePath, e);
+                return Mono.just(""); // 예외 발생 시 빈 문자열 반환
+            });
     }
 
     // === Helper Methods ===
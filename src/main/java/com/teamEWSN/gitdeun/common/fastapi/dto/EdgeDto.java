@@ -1,9 +1,13 @@
 package com.teamEWSN.gitdeun.common.fastapi.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class EdgeDto {
     @JsonProperty("from")
     private String fromKey;
@@ -1,23 +1,85 @@
 package com.teamEWSN.gitdeun.common.jwt;
 
+import com.teamEWSN.gitdeun.common.util.BloomFilter;
 import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Access Token 블랙리스트
+ *
+ * Redis 조회 전에 인스턴스 로컬 Bloom Filter 로 거르고, 필터에 걸린 JTI 만 Redis 에서 확인합니다.
+ * - 등록 시 Redis Pub/Sub 으로 다른 인스턴스의 필터에도 추가
+ * - 채널 구독이 활성화될 때마다(시작, 재연결 후 재구독) 필터를 버리고 Redis 키를 SCAN 하여 다시 만듦
+ *   (구독 전이나 연결이 끊긴 동안 발행된 JTI 가 빠진 필터를 신뢰하지 않기 위함)
+ * - 주기적으로도 재구성하여 만료된 JTI 를 정리
+ * - 필터가 준비되기 전(구독 전, 재구성 중, Redis 장애 등)에는 기존처럼 Redis 를 직접 조회
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class BlacklistService {
+public class BlacklistService implements MessageListener, SubscriptionListener {
+
+    private static final String ACCESS_TOKEN_BLACKLIST_PREFIX="blacklist:access:";
+    public static final String CHANNEL = "blacklist:access:added";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
     private final JwtTokenParser jwtTokenParser;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Executor generalExecutor;
 
-    private static final String ACCESS_TOKEN_BLACKLIST_PREFIX="blacklist:access:";
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재구성 중인 필터 (재구성 중 추가되는 JTI 도 반영)
+    private final Set<BloomFilter> rebuilding = ConcurrentHashMap.newKeySet();
+    // 구독이 (재)활성화될 때마다 증가, 이전 구독 중에 시작된 재구성 결과는 사용하지 않음 (this 잠금으로 보호)
+    private long subscriptionEpoch;
+
+    private record Rebuild(BloomFilter filter, long epoch) {
+    }
+
+    public BlacklistService(RedisTemplate<String, Object> redisTemplate,
+                            RedisTemplate<String, String> stringRedisTemplate,
+                            JwtTokenParser jwtTokenParser,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Qualifier("generalExecutor") Executor generalExecutor,
+                            @Value("${app.auth.blacklist-filter.expected-insertions:100000}") long expectedInsertions,
+                            @Value("${app.auth.blacklist-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jwtTokenParser = jwtTokenParser;
+        this.listenerContainer = listenerContainer;
+        this.generalExecutor = generalExecutor;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // 필터는 구독이 활성화된 뒤 onChannelSubscribed 에서 만듦
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
 
     public void addToBlacklist(String accessToken) {
         // Access Token 만료 시간 계산
@@ -32,12 +94,26 @@ public class BlacklistService {
             String redisKey = ACCESS_TOKEN_BLACKLIST_PREFIX + jti;
             redisTemplate.opsForValue().set(redisKey, "blacklisted", timeToLive, TimeUnit.SECONDS);
             log.debug("Access Token 블랙리스트 추가 - JTI: {}, 만료 시간: {}초 후", jti, timeToLive);
+
+            // 로컬 필터 반영 후 다른 인스턴스에 전파
+            addToFilter(jti);
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL, jti);
+            } catch (Exception e) {
+                log.warn("블랙리스트 등록 전파 실패 - JTI: {} (다음 필터 재구성 시 반영)", jti, e);
+            }
         }
 
     }
 
 
     public boolean isTokenBlacklisted(String jti) {
+        // 필터에 없으면 확실히 블랙리스트가 아님 (Redis 왕복 생략)
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) {
+            return false;
+        }
+
         String redisKey = ACCESS_TOKEN_BLACKLIST_PREFIX + jti;
         try {
             Boolean exists = redisTemplate.hasKey(redisKey);
@@ -52,11 +128,91 @@ public class BlacklistService {
     }
 
 
+    // Bloom Filter 는 삭제를 지원하지 않으므로 Redis 만 삭제 (필터 오탐은 Redis 확인으로 걸러짐)
     public void removeFromBlacklist(String jti) {
         String redisKey = "blacklist:access:" + jti;
         redisTemplate.delete(redisKey);
         log.debug("Access Token 블랙리스트에서 삭제 - JTI: {}", jti);
     }
 
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilter(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 최초 구독 및 재연결 후 재구독 확인
+     * 끊긴 동안의 메시지는 유실되므로 기존 필터를 버리고(재구성 완료 전까지 Redis 직접 조회) 새로 만듭니다.
+     * 재구성 필터는 이 시점에 등록하여 이후 수신하는 JTI 를 놓치지 않고, SCAN 은 리스너 스레드 밖에서 실행합니다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (!CHANNEL.equals(new String(channel, StandardCharsets.UTF_8))) {
+            return;
+        }
+        Rebuild rebuild;
+        synchronized (this) {
+            subscriptionEpoch++;
+            filter = null;
+            rebuild = startRebuild();
+        }
+        try {
+            generalExecutor.execute(() -> finishRebuild(rebuild));
+        } catch (Exception e) {
+            rebuilding.remove(rebuild.filter());
+            log.warn("블랙리스트 필터 재구성 예약 실패 - 다음 주기까지 Redis 직접 조회", e);
+        }
+    }
+
+    /**
+     * Redis 의 블랙리스트 키로 새 필터를 만들어 교체
+     * 블랙리스트 키는 토큰 남은 수명만큼만 유지되므로, 재구성하면 만료된 JTI 가 필터에서 빠집니다.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.blacklist-filter.rebuild-interval-ms:600000}",
+        initialDelayString = "${app.auth.blacklist-filter.rebuild-interval-ms:600000}")
+    public void rebuildFilter() {
+        finishRebuild(startRebuild());
+    }
+
+    private synchronized Rebuild startRebuild() {
+        Rebuild rebuild = new Rebuild(new BloomFilter(expectedInsertions, falsePositiveRate), subscriptionEpoch);
+        rebuilding.add(rebuild.filter());
+        return rebuild;
+    }
+
+    private void finishRebuild(Rebuild rebuild) {
+        BloomFilter next = rebuild.filter();
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(ACCESS_TOKEN_BLACKLIST_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(ACCESS_TOKEN_BLACKLIST_PREFIX.length()));
+                count++;
+            }
+            synchronized (this) {
+                if (rebuild.epoch() == 0 || subscriptionEpoch != rebuild.epoch()) {
+                    // 아직 구독 전이거나 재구성 도중 재구독됨 - 새 구독에서 시작한 재구성이 교체
+                    log.debug("블랙리스트 필터 재구성 결과 폐기 - 구독 비활성 또는 재구성 중 재구독");
+                    return;
+                }
+                filter = next;
+            }
+            log.info("블랙리스트 필터 재구성 완료 - JTI 수: {}", count);
+        } catch (Exception e) {
+            log.warn("블랙리스트 필터 재구성 실패 - 기존 필터 유지{}", filter == null ? " (Redis 직접 조회)" : "", e);
+        } finally {
+            rebuilding.remove(next);
+        }
+    }
+
+    // 재구성 중인 필터에 먼저 넣고 현재 필터를 읽음
+    // (반대 순서면 읽은 직후 재구성이 끝나 교체·목록 제거될 때 새 필터에서 JTI 가 빠질 수 있음)
+    private void addToFilter(String jti) {
+        rebuilding.forEach(next -> next.put(jti));
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(jti);
+        }
+    }
 
 }
@@ -37,10 +37,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // access token이 있고, BEARER로 시작한다면
         if (authHeader != null && authHeader.startsWith(BEARER)) {
             String token = authHeader.substring(BEARER.length());
-            // 토큰 검증
-            if (jwtTokenProvider.validateToken(token)) {
-                // 유효한 토큰: 유저 정보 가져옴
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            // 토큰 검증과 유저 정보 생성을 한 번의 파싱으로 처리 (DB 조회 없음)
+            Authentication authentication = jwtTokenProvider.authenticate(token);
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
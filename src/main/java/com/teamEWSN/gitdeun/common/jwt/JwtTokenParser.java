@@ -2,6 +2,7 @@ package com.teamEWSN.gitdeun.common.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -14,19 +15,18 @@ import javax.crypto.SecretKey;
 @Component
 public class  JwtTokenParser {
 
-    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     public JwtTokenParser(@Value("${jwt.secret-key}") String secretKey) {
         byte[] keyBytes = secretKey.getBytes();
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
     }
 
     // Access Token에서 Claims 추출
     public Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+            return jwtParser
                 .parseSignedClaims(accessToken)
                 .getPayload();
         } catch (ExpiredJwtException e) {
@@ -36,9 +36,7 @@ public class  JwtTokenParser {
 
     // 토큰에서 아이디 정보 추출
     public String getRealIdFromToken(String accessToken) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
+        Claims claims = jwtParser
             .parseSignedClaims(accessToken)
             .getPayload();
         return claims.getSubject();
@@ -29,6 +29,8 @@ import java.util.UUID;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    // 불변/스레드 안전 - 요청마다 새로 만들지 않음
+    private final JwtParser jwtParser;
 
     @Autowired
     private UserService userService;
@@ -40,7 +42,12 @@ public class JwtTokenProvider {
     private BlacklistService blackListService;
 
     @Autowired
-    private JwtTokenParser jwtTokenParser;
+    private UserPrincipalCache userPrincipalCache;
+
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_NICKNAME = "nickname";
+    private static final String CLAIM_PROFILE_IMAGE = "profileImage";
 
     @Value("${jwt.access-expired}")
     private Long accessTokenExpired;
@@ -52,6 +59,7 @@ public class JwtTokenProvider {
     public JwtTokenProvider(@Value("${jwt.secret-key}") String secretKey) {
         byte[] keyBytes = secretKey.getBytes();
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(this.secretKey).build();
     }
 
     public JwtToken generateToken(Authentication authentication) {
@@ -59,6 +67,7 @@ public class JwtTokenProvider {
 
         Long userId;
         Role role;
+        CustomUserDetails profile = null;
 
         switch (principal) {
             // 소셜 로그인 성공 후 CustomOAuth2User를 처리
@@ -70,6 +79,7 @@ public class JwtTokenProvider {
             case CustomUserDetails userDetails -> {
                 userId = userDetails.getId();
                 role = Role.valueOf(userDetails.getRole());
+                profile = userDetails;
             }
             case OidcUser oidc -> {
                 userId = userService.upsertAndGetId(
@@ -91,11 +101,21 @@ public class JwtTokenProvider {
 
         String jti = UUID.randomUUID().toString();
 
+        // 인증 시 DB 조회가 필요 없도록 프로필을 서명된 클레임으로 포함 (발급 시 1회 조회)
+        if (profile == null) {
+            userPrincipalCache.evict(userId);
+            profile = loadUserDetails(userId);
+        }
+
         String accessToken = Jwts.builder()
             .subject(String.valueOf(userId))
             .issuedAt(new Date(now))
             .id(jti)
             .claim("role", role.name())
+            .claim(CLAIM_EMAIL, profile.getEmail())
+            .claim(CLAIM_NAME, profile.getName())
+            .claim(CLAIM_NICKNAME, profile.getNickname())
+            .claim(CLAIM_PROFILE_IMAGE, profile.getProfileImage())
             .expiration(exp)
             .signWith(secretKey)
             .compact();
@@ -106,22 +126,47 @@ public class JwtTokenProvider {
         return JwtToken.of(accessToken, refreshToken);
     }
 
-    // DB 조회 후 UserDetails 생성
+    /**
+     * 토큰을 한 번만 파싱하여 검증(서명/만료/블랙리스트)과 인증 객체 생성을 함께 처리
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication authenticate(String token) {
+        Claims claims = verify(token);
+        return claims != null ? getAuthentication(claims) : null;
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtTokenParser.parseClaims(token);
+        return getAuthentication(jwtParser.parseSignedClaims(token).getPayload());
+    }
+
+    // 클레임으로 UserDetails 생성 (프로필 클레임이 없는 이전 토큰은 단기 캐시 → DB 조회)
+    private Authentication getAuthentication(Claims claims) {
         Long userId = Long.valueOf(claims.getSubject());
-        String roleName = claims.get("role", String.class);
-        Role role = Role.valueOf(roleName);
-        User user = userService.findById(userId);
+        Role role = Role.valueOf(claims.get("role", String.class));
 
-        CustomUserDetails userDetails = new CustomUserDetails(user.getId(), user.getEmail(),
-                user.getNickname(), user.getProfileImage(), role, user.getName());
+        CustomUserDetails userDetails;
+        if (claims.containsKey(CLAIM_NICKNAME)) {
+            userDetails = new CustomUserDetails(userId, claims.get(CLAIM_EMAIL, String.class),
+                claims.get(CLAIM_NICKNAME, String.class), claims.get(CLAIM_PROFILE_IMAGE, String.class),
+                role, claims.get(CLAIM_NAME, String.class));
+        } else {
+            CustomUserDetails cached = userPrincipalCache.get(userId, this::loadUserDetails);
+            userDetails = new CustomUserDetails(cached.getId(), cached.getEmail(),
+                cached.getNickname(), cached.getProfileImage(), role, cached.getName());
+        }
 
         Collection<? extends GrantedAuthority> authorities = Collections.singletonList(role);
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
     }
 
+    private CustomUserDetails loadUserDetails(Long userId) {
+        User user = userService.findById(userId);
+        return new CustomUserDetails(user.getId(), user.getEmail(),
+            user.getNickname(), user.getProfileImage(), user.getRole(), user.getName());
+    }
+
 //    // 토큰 생성 - 유저 정보 이용
 //    public JwtToken generateToken(Authentication authentication) {
 //
@@ -194,15 +239,17 @@ public class JwtTokenProvider {
 
     // 토큰 정보 검증
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    // 서명/만료/블랙리스트 검증 후 클레임 반환 (유효하지 않으면 null)
+    private Claims verify(String token) {
         log.debug("validateToken start");
         try {
-            Jws<Claims> claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
-            String jti = claims.getPayload().getId(); // JTI 추출
-            return !blackListService.isTokenBlacklisted(jti);
+            String jti = claims.getId(); // JTI 추출
+            return blackListService.isTokenBlacklisted(jti) ? null : claims;
 
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT Token", e);
@@ -213,7 +260,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty.", e);
         }
-        return false;
+        return null;
     }
 
-}
\ No newline at end of file
+}
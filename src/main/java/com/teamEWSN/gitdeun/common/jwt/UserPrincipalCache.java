@@ -0,0 +1,55 @@
+package com.teamEWSN.gitdeun.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 사용자 ID → 인증 주체(CustomUserDetails) 단기 캐시
+ * 프로필 클레임이 없는 이전 형식의 Access Token 을 인증할 때 요청마다 DB 를 조회하지 않도록 합니다.
+ * 프로필이 바뀌거나 탈퇴하면 evict 로 모든 인스턴스에서 제거합니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final String CACHE_NAME = "USER_PRINCIPAL";
+
+    private final Cache<Long, CustomUserDetails> principals;
+    private final CacheCoherenceService cacheCoherenceService;
+
+    public UserPrincipalCache(
+        CacheCoherenceService cacheCoherenceService,
+        @Value("${app.auth.principal-cache.ttl-seconds:300}") long ttlSeconds,
+        @Value("${app.auth.principal-cache.max-size:10000}") long maxSize) {
+        this.cacheCoherenceService = cacheCoherenceService;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    @PostConstruct
+    void registerInvalidationHandler() {
+        cacheCoherenceService.registerHandler(CACHE_NAME, userId -> {
+            if (userId == null) {
+                principals.invalidateAll();
+            } else {
+                principals.invalidate(userId);
+            }
+        });
+    }
+
+    public CustomUserDetails get(Long userId, Function<Long, CustomUserDetails> loader) {
+        return principals.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        cacheCoherenceService.evict(CACHE_NAME, userId);
+    }
+}
@@ -0,0 +1,221 @@
+package com.teamEWSN.gitdeun.common.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 다중 필드 인메모리 역색인 (BM25 점수)
+ *
+ * 필드별로 토큰 → {@link PostingList} 를 보관하고, 필드 점수에 가중치(boost)를 곱해 합산합니다.
+ * 문서 번호는 추가할 때마다 새로 발급하며, 수정은 삭제 후 재추가로 처리합니다.
+ * 삭제는 문서 길이 정보만 지우는 방식(tombstone)이라 포스팅에는 남아 있으므로,
+ * 변경이 누적되면 새 인덱스를 만들어 교체합니다. (df 도 그때 정확해짐)
+ */
+public final class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final double[] boosts;
+    private final List<Map<String, PostingList>> postings = new ArrayList<>();
+    private final long[] totalLengths;
+    // 살아있는 문서 번호 → 필드별 길이
+    private final Map<Integer, int[]> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nextDoc;
+
+    /**
+     * @param boosts 필드별 가중치 (필드 개수만큼)
+     */
+    public InvertedIndex(double... boosts) {
+        this.boosts = boosts.clone();
+        this.totalLengths = new long[boosts.length];
+        for (int i = 0; i < boosts.length; i++) {
+            postings.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 문서 추가
+     * @param fields 필드별 원문 (생성자의 가중치 순서)
+     * @return 발급된 문서 번호
+     */
+    public int add(String... fields) {
+        // 토큰화는 잠금 밖에서 수행
+        List<Map<String, Integer>> terms = new ArrayList<>(boosts.length);
+        int[] fieldLengths = new int[boosts.length];
+        for (int f = 0; f < boosts.length; f++) {
+            Map<String, Integer> fieldTerms = NGramTokenizer.indexTerms(f < fields.length ? fields[f] : null);
+            terms.add(fieldTerms);
+            fieldLengths[f] = NGramTokenizer.length(fieldTerms);
+        }
+
+        lock.writeLock().lock();
+        try {
+            int doc = nextDoc++;
+            for (int f = 0; f < boosts.length; f++) {
+                Map<String, PostingList> fieldPostings = postings.get(f);
+                terms.get(f).forEach((term, frequency) ->
+                    fieldPostings.computeIfAbsent(term, t -> new PostingList()).add(doc, frequency));
+                totalLengths[f] += fieldLengths[f];
+            }
+            lengths.put(doc, fieldLengths);
+            return doc;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int doc) {
+        lock.writeLock().lock();
+        try {
+            int[] fieldLengths = lengths.remove(doc);
+            if (fieldLengths != null) {
+                for (int f = 0; f < boosts.length; f++) {
+                    totalLengths[f] -= fieldLengths[f];
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return lengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 일괄 색인 후 포스팅 버퍼의 여유 공간 제거
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            postings.forEach(fieldPostings -> fieldPostings.values().forEach(PostingList::trim));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param required 모두 포함해야 하는 토큰 (필드 무관)
+     * @param excluded 제외 조건 - 그룹의 토큰을 모두 포함하는 문서는 결과에서 제외
+     * @param filter   문서 번호 필터 (상태/태그 등)
+     * @return 문서 번호 → BM25 점수
+     */
+    public Map<Integer, Double> search(Collection<String> required, Collection<? extends Collection<String>> excluded,
+                                       IntPredicate filter) {
+        if (required.isEmpty()) {
+            return Map.of();
+        }
+        lock.readLock().lock();
+        try {
+            int docCount = lengths.size();
+            if (docCount == 0) {
+                return Map.of();
+            }
+
+            // 포함 문서가 적은 토큰부터 교집합을 좁혀 나감
+            List<String> ordered = new ArrayList<>(new HashSet<>(required));
+            ordered.sort(Comparator.comparingInt(this::documentFrequency));
+            if (documentFrequency(ordered.get(0)) == 0) {
+                return Map.of();
+            }
+
+            Map<Integer, Double> scores = null;
+            for (String term : ordered) {
+                Map<Integer, Double> candidates = scores;
+                Map<Integer, Double> termScores = new HashMap<>();
+                for (int f = 0; f < boosts.length; f++) {
+                    PostingList list = postings.get(f).get(term);
+                    if (list == null) {
+                        continue;
+                    }
+                    int field = f;
+                    double idf = idf(docCount, list.count());
+                    double averageLength = Math.max(1.0, (double) totalLengths[f] / docCount);
+                    list.forEach((doc, frequency) -> {
+                        if (candidates != null ? !candidates.containsKey(doc) : !filter.test(doc)) {
+                            return;
+                        }
+                        int[] fieldLengths = lengths.get(doc);
+                        if (fieldLengths == null) {
+                            return; // 삭제된 문서
+                        }
+                        double norm = frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * fieldLengths[field] / averageLength));
+                        termScores.merge(doc, boosts[field] * idf * norm, Double::sum);
+                    });
+                }
+                if (candidates != null) {
+                    termScores.replaceAll((doc, score) -> score + candidates.get(doc));
+                }
+                scores = termScores;
+                if (scores.isEmpty()) {
+                    return scores;
+                }
+            }
+
+            for (Collection<String> group : excluded) {
+                if (!group.isEmpty()) {
+                    scores.keySet().removeAll(containingAll(group, scores.keySet()));
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // candidates 중 terms 를 모두 포함하는 문서
+    private Set<Integer> containingAll(Collection<String> terms, Set<Integer> candidates) {
+        Set<Integer> matched = new HashSet<>(candidates);
+        for (String term : terms) {
+            Set<Integer> containing = new HashSet<>();
+            for (Map<String, PostingList> fieldPostings : postings) {
+                PostingList list = fieldPostings.get(term);
+                if (list != null) {
+                    list.forEach((doc, frequency) -> {
+                        if (matched.contains(doc)) {
+                            containing.add(doc);
+                        }
+                    });
+                }
+            }
+            matched.retainAll(containing);
+            if (matched.isEmpty()) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    private int documentFrequency(String term) {
+        int frequency = 0;
+        for (Map<String, PostingList> fieldPostings : postings) {
+            PostingList list = fieldPostings.get(term);
+            if (list != null) {
+                frequency += list.count();
+            }
+        }
+        return frequency;
+    }
+
+    // 삭제된 문서가 포스팅에 남아 df 가 문서 수보다 클 수 있으므로 보정
+    private static double idf(int docCount, int documentFrequency) {
+        int df = Math.min(documentFrequency, docCount);
+        return Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+    }
+}
@@ -0,0 +1,101 @@
+package com.teamEWSN.gitdeun.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한국어 대응 n-gram 토크나이저
+ *
+ * 문자/숫자가 연속된 구간을 한글 음절과 그 외 문자로 나눈 뒤,
+ * 문서는 unigram + bigram 을 모두 색인하고 검색어는 길이에 따라 unigram(1글자) 또는 bigram 으로 변환합니다.
+ * 형태소 분석 없이도 조사가 붙은 단어("백엔드를")나 띄어쓰기 차이("백엔드 개발자"/"백엔드개발자")를 찾을 수 있습니다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 문서 색인용 토큰과 출현 빈도
+     * 색인된 글자 수(unigram 개수)는 {@link #length(Map)} 로 구합니다.
+     */
+    public static Map<String, Integer> indexTerms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String run : runs(text)) {
+            for (int i = 0; i < run.length(); i++) {
+                terms.merge(run.substring(i, i + 1), 1, Integer::sum);
+                if (i + 1 < run.length()) {
+                    terms.merge(run.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰 (한 글자 구간은 unigram, 그 외에는 bigram)
+     */
+    public static Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String run : runs(text)) {
+            if (run.length() == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    // 문서 길이 = unigram 출현 수 합
+    public static int length(Map<String, Integer> indexTerms) {
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : indexTerms.entrySet()) {
+            if (entry.getKey().length() == 1) {
+                length += entry.getValue();
+            }
+        }
+        return length;
+    }
+
+    // 정규화 후 같은 종류(한글/그 외)의 문자·숫자가 연속된 구간으로 분리
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        boolean startHangul = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean token = Character.isLetterOrDigit(c);
+            boolean hangul = isHangul(c);
+            if (start >= 0 && (!token || hangul != startHangul)) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+            if (token && start < 0) {
+                start = i;
+                startHangul = hangul;
+            }
+        }
+        if (start >= 0) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
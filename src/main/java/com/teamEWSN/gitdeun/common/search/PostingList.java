@@ -0,0 +1,84 @@
+package com.teamEWSN.gitdeun.common.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트
+ *
+ * (문서 번호 차이, 출현 빈도) 쌍을 가변 길이 정수(varint)로 이어 붙인 바이트 배열입니다.
+ * 문서 번호는 항상 증가하는 순서로만 추가되므로 차이값이 작아 대부분 1~2바이트로 저장됩니다.
+ * 동기화는 {@link InvertedIndex} 가 담당합니다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int size;
+    private int count;
+    private int lastDoc = -1;
+
+    void add(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로만 추가할 수 있습니다.");
+        }
+        ensureCapacity(10);
+        writeVarInt(lastDoc < 0 ? doc : doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        count++;
+    }
+
+    // 포함된 문서 수 (삭제된 문서 포함)
+    int count() {
+        return count;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int doc = 0;
+        while (position < size) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += delta;
+            consumer.accept(doc, frequency);
+        }
+    }
+
+    // 색인 완료 후 남는 버퍼 제거
+    void trim() {
+        if (data.length > size) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int doc, int frequency);
+    }
+}
@@ -0,0 +1,147 @@
+package com.teamEWSN.gitdeun.common.sse;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 인스턴스 간 SSE 이벤트 전파
+ *
+ * 이벤트를 토픽별 Redis Stream 에 추가하고 같은 스크립트 안에서 Pub/Sub 채널로 발행합니다.
+ * - 스트림 ID 가 SSE 이벤트 ID 가 되며, 스크립트가 원자적으로 실행되므로 토픽 내 발행 순서와 ID 순서가 같습니다.
+ * - 각 인스턴스는 채널 메시지를 받아 자신에게 연결된 클라이언트에만 전달합니다.
+ * - 재연결 시 Last-Event-ID 이후의 이벤트를 스트림에서 재전송하고, 연결별로 이미 보낸 ID 는 건너뜁니다.
+ * 스트림은 토픽당 최근 max-len 개만 유지하며, 발행이 없으면 ttl 후 만료됩니다.
+ */
+@Slf4j
+@Component
+public class SseEventBus implements MessageListener {
+
+    public static final String CHANNEL = "sse:events";
+    private static final String STREAM_KEY_PREFIX = "sse:stream:";
+    private static final Pattern EVENT_ID = Pattern.compile("\\d+-\\d+");
+
+    // 스트림 추가 → 만료 갱신 → 발행 (메시지: topic \n id \n name \n latestOnly \n data)
+    private static final DefaultRedisScript<String> APPEND_AND_PUBLISH_SCRIPT = new DefaultRedisScript<>(
+        "local id = redis.call('xadd', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'n', ARGV[3], 'd', ARGV[4], 'l', ARGV[5]) " +
+        "redis.call('pexpire', KEYS[1], ARGV[2]) " +
+        "redis.call('publish', ARGV[6], ARGV[7] .. '\\n' .. id .. '\\n' .. ARGV[3] .. '\\n' .. ARGV[5] .. '\\n' .. ARGV[4]) " +
+        "return id",
+        String.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SseHub sseHub;
+    private final int maxLen;
+    private final long ttlMs;
+
+    public SseEventBus(RedisTemplate<String, String> stringRedisTemplate,
+                       RedisMessageListenerContainer listenerContainer,
+                       SseHub sseHub,
+                       @Value("${app.sse.replay.max-len:200}") int maxLen,
+                       @Value("${app.sse.replay.ttl-minutes:60}") long ttlMinutes) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.sseHub = sseHub;
+        this.maxLen = maxLen;
+        this.ttlMs = ttlMinutes * 60_000L;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 모든 인스턴스의 토픽 구독자에게 이벤트 전송
+     * Redis 장애 시 이 인스턴스의 구독자에게만 전송합니다 (재전송 불가).
+     * @param latestOnly 전송 대기 중인 같은 이름의 이벤트를 최신 값으로 교체
+     */
+    public void publish(String topic, String eventName, Object data, boolean latestOnly) {
+        String payload = sseHub.serialize(data);
+        if (payload == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(APPEND_AND_PUBLISH_SCRIPT, List.of(STREAM_KEY_PREFIX + topic),
+                String.valueOf(maxLen), String.valueOf(ttlMs), eventName, payload, latestOnly ? "1" : "0",
+                CHANNEL, topic);
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 발행 실패 - 로컬 연결에만 전송 (토픽: {}, 이벤트: {})", topic, eventName, e);
+            sseHub.deliver(topic, new SseHub.Event(null, eventName, payload, latestOnly));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 5);
+        if (parts.length < 5) {
+            log.warn("잘못된 SSE 이벤트 메시지 무시");
+            return;
+        }
+        // 이 인스턴스에 구독자가 없는 토픽은 무시
+        if (sseHub.hasSubscribers(parts[0])) {
+            sseHub.deliver(parts[0], new SseHub.Event(parts[1], parts[2], parts[4], "1".equals(parts[3])));
+        }
+    }
+
+    /**
+     * lastEventId 이후 발행된 이벤트 (ID 오름차순)
+     * 형식이 잘못되었거나 스트림이 없으면 빈 목록입니다.
+     * 오래되어 잘린 이벤트가 있으면 일부만 보내는 대신 최신 ID 의 resync 이벤트 하나를 반환합니다.
+     */
+    public List<SseHub.Event> replay(String topic, String lastEventId) {
+        if (lastEventId == null || !EVENT_ID.matcher(lastEventId).matches()) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().range(
+            STREAM_KEY_PREFIX + topic,
+            Range.rightUnbounded(Range.Bound.inclusive(lastEventId)),
+            Limit.limit().count(maxLen + 1));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        if (!records.get(0).getId().getValue().equals(lastEventId)) {
+            log.debug("SSE 재전송 범위 일부 만료 - resync 전송 (토픽: {}, Last-Event-ID: {})", topic, lastEventId);
+            return List.of(SseHub.Event.resync(records.get(records.size() - 1).getId().getValue()));
+        }
+        if (records.size() > maxLen) {
+            // 조회 한도를 넘는 이벤트가 남아 있으면 가장 최근 ID 로 resync
+            List<MapRecord<String, Object, Object>> latest = stringRedisTemplate.opsForStream().reverseRange(
+                STREAM_KEY_PREFIX + topic, Range.unbounded(), Limit.limit().count(1));
+            String latestId = latest != null && !latest.isEmpty()
+                ? latest.get(0).getId().getValue()
+                : records.get(records.size() - 1).getId().getValue();
+            return List.of(SseHub.Event.resync(latestId));
+        }
+
+        List<SseHub.Event> events = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            String id = record.getId().getValue();
+            if (id.equals(lastEventId)) {
+                continue; // 클라이언트가 이미 받은 이벤트
+            }
+            Map<Object, Object> fields = record.getValue();
+            events.add(new SseHub.Event(id, String.valueOf(fields.get("n")), String.valueOf(fields.get("d")),
+                "1".equals(fields.get("l"))));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,406 @@
+package com.teamEWSN.gitdeun.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * SSE 연결 허브
+ *
+ * 토픽(예: "mindmap:1", "notification:5")별로 연결을 관리하고, 이벤트는 한 번만 직렬화하여 각 연결의 전송 큐에 넣습니다.
+ * 실제 전송은 연결마다 가상 스레드 writer 가 순서대로 처리하므로 발행한 쪽(비즈니스 트랜잭션)은 느린 클라이언트를 기다리지 않고,
+ * 응답 쓰기에서 멈춘 연결이 있어도 다른 연결의 전송은 막히지 않습니다 (고정 크기 풀이면 느린 연결 몇 개가 모든 전송을 막음).
+ * - publish: 모든 이벤트를 순서대로 전달
+ * - publishLatest: 아직 전송되지 않은 같은 이름의 이벤트를 최신 값으로 교체 (개수/목록/전체 상태 등)
+ * - 큐가 가득 찬 느린 연결은 종료하여 클라이언트가 재연결 후 최신 상태를 다시 받도록 합니다.
+ * - 주기적으로 heartbeat 주석을 보내 끊어진 연결을 정리합니다.
+ * - ID 가 있는 이벤트(SseEventBus 경유)는 연결별로 이미 보낸 ID 이하를 건너뛰어 재전송/실시간 중복을 제거합니다.
+ * - 재전송할 이벤트가 큐보다 많으면 연결을 끊는 대신 "resync" 이벤트 하나로 대체합니다.
+ *   (끊으면 같은 Last-Event-ID 로 재연결하여 같은 초과가 반복되므로, 클라이언트가 전체 상태를 다시 조회하도록 함)
+ */
+@Slf4j
+@Component
+public class SseHub {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    /** 놓친 이벤트를 모두 보낼 수 없을 때 전송하는 이벤트 (클라이언트는 전체 상태를 다시 조회) */
+    public static final String RESYNC = "resync";
+    private static final String RESYNC_DATA = "{\"reason\":\"missed-events\"}";
+
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final ExecutorService writer;
+
+    // 토픽 → 연결 (가입/탈퇴 시 전체 복사가 없는 동시성 Set)
+    private final Map<String, Set<Connection>> topics = new ConcurrentHashMap<>();
+
+    private record Frame(String id, String name, Set<ResponseBodyEmitter.DataWithMediaType> payload, boolean latestOnly) {
+    }
+
+    /**
+     * 직렬화된 이벤트 (분산 전파/재전송용)
+     * @param id SSE 이벤트 ID (Redis Stream ID 형식 "ms-seq", 없으면 null)
+     */
+    public record Event(String id, String name, String data, boolean latestOnly) {
+
+        /** id 까지의 이벤트를 전체 재조회로 대체 (클라이언트의 Last-Event-ID 가 id 로 이동) */
+        public static Event resync(String id) {
+            return new Event(id, RESYNC, RESYNC_DATA, true);
+        }
+    }
+
+    public SseHub(ObjectMapper objectMapper,
+                  @Value("${app.sse.queue-capacity:64}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        // spring.threads.virtual.enabled 와 무관하게 항상 가상 스레드 (전송 대기 중인 연결 수만큼 스레드가 필요할 수 있음)
+        this.writer = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Sse-VT-", 0).factory());
+    }
+
+    /**
+     * 토픽 구독
+     * @param onClose 연결이 종료(완료/타임아웃/오류/정리)될 때 한 번 실행 (null 가능)
+     */
+    public Connection subscribe(String topic, long timeoutMs, Runnable onClose) {
+        return subscribe(topic, timeoutMs, onClose, null);
+    }
+
+    /**
+     * 놓친 이벤트를 먼저 재전송한 뒤 실시간 이벤트로 이어지는 구독 (Last-Event-ID 재연결)
+     * 재전송 이벤트를 조회하는 동안 도착한 실시간 이벤트는 보류했다가 ID 로 중복을 걸러 이어 붙입니다.
+     * @param replay 놓친 이벤트 조회 (ID 오름차순, null 이면 재전송 없음)
+     */
+    public Connection subscribe(String topic, long timeoutMs, Runnable onClose, Supplier<List<Event>> replay) {
+        return subscribe(topic, new SseEmitter(timeoutMs), onClose, replay);
+    }
+
+    Connection subscribe(String topic, SseEmitter emitter, Runnable onClose, Supplier<List<Event>> replay) {
+        Connection connection = new Connection(topic, emitter, onClose, replay != null);
+        // 추가도 map 의 원자적 구간 안에서 수행 (같은 토픽의 마지막 연결이 동시에 종료되며 Set 을 제거하는 경우 대비)
+        topics.compute(topic, (key, connections) -> {
+            Set<Connection> target = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            target.add(connection);
+            return target;
+        });
+
+        // 컨테이너가 종료한 연결은 complete 호출 없이 정리만 수행
+        connection.emitter.onCompletion(() -> connection.close(false));
+        connection.emitter.onTimeout(() -> connection.close(false));
+        connection.emitter.onError(throwable -> connection.close(false));
+
+        if (replay != null) {
+            List<Event> missed;
+            try {
+                missed = replay.get();
+            } catch (Exception e) {
+                log.warn("SSE 놓친 이벤트 조회 실패 - 실시간 이벤트만 전송 (토픽: {})", topic, e);
+                missed = List.of();
+            }
+            connection.resume(missed.stream().map(SseHub::toFrame).toList());
+        }
+        return connection;
+    }
+
+    /**
+     * 이미 직렬화된 이벤트를 이 서버의 연결에만 전달 (분산 이벤트 버스 수신용)
+     */
+    public void deliver(String topic, Event event) {
+        Set<Connection> connections = topics.get(topic);
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+        Frame frame = toFrame(event);
+        connections.forEach(connection -> connection.offer(frame));
+    }
+
+    /** 문자열은 그대로, 그 외에는 JSON 으로 직렬화 (실패 시 null) */
+    public String serialize(Object data) {
+        try {
+            return data instanceof String text ? text : objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 데이터 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    /** 토픽의 모든 연결에 이벤트 전송 (순서 보장) */
+    public void publish(String topic, String eventName, Object data) {
+        publish(topic, eventName, data, false);
+    }
+
+    /** 토픽의 모든 연결에 이벤트 전송 (대기 중인 같은 이름의 이벤트는 최신 값으로 교체) */
+    public void publishLatest(String topic, String eventName, Object data) {
+        publish(topic, eventName, data, true);
+    }
+
+    public int subscriberCount(String topic) {
+        return topics.getOrDefault(topic, Collections.emptySet()).size();
+    }
+
+    public boolean hasSubscribers(String topic) {
+        return subscriberCount(topic) > 0;
+    }
+
+    /**
+     * heartbeat 전송 (전송 실패한 연결은 writer 에서 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        Frame frame = new Frame(null, HEARTBEAT, SseEmitter.event().comment(HEARTBEAT).build(), true);
+        topics.values().forEach(connections -> connections.forEach(connection -> connection.offer(frame)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        topics.values().forEach(connections -> connections.forEach(connection -> connection.close(true)));
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(String topic, String eventName, Object data, boolean latestOnly) {
+        Set<Connection> connections = topics.get(topic);
+        if (connections == null || connections.isEmpty()) {
+            log.debug("SSE 토픽 {} 에 연결된 클라이언트가 없음", topic);
+            return;
+        }
+        String payload = serialize(data);
+        if (payload != null) {
+            Frame frame = toFrame(new Event(null, eventName, payload, latestOnly));
+            connections.forEach(connection -> connection.offer(frame));
+        }
+    }
+
+    // SSE 프레임은 이벤트당 한 번만 만들어 모든 연결이 공유
+    private static Frame toFrame(Event event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        return new Frame(event.id(), event.name(), builder.name(event.name()).data(event.data()).build(), event.latestOnly());
+    }
+
+    /**
+     * 이벤트 ID 비교 (Redis Stream ID "ms-seq" 형식)
+     */
+    public static int compareEventIds(String a, String b) {
+        int dashA = a.indexOf('-');
+        int dashB = b.indexOf('-');
+        int result = Long.compare(Long.parseLong(dashA < 0 ? a : a.substring(0, dashA)),
+            Long.parseLong(dashB < 0 ? b : b.substring(0, dashB)));
+        if (result != 0) {
+            return result;
+        }
+        return Long.compare(dashA < 0 ? 0 : Long.parseLong(a.substring(dashA + 1)),
+            dashB < 0 ? 0 : Long.parseLong(b.substring(dashB + 1)));
+    }
+
+    /**
+     * 개별 SSE 연결 (전송 큐와 writer 상태)
+     */
+    public final class Connection {
+
+        private final String topic;
+        private final SseEmitter emitter;
+        private final Runnable onClose;
+        private final Deque<Frame> queue = new ArrayDeque<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 아래 필드는 queue 잠금으로 보호
+        // writer 에 drain 작업이 등록되어 있는지
+        private boolean scheduled;
+        // 마지막으로 큐에 넣은 이벤트 ID (재전송/실시간 중복 제거)
+        private String lastEventId;
+        // 재전송 준비 중 보류한 실시간 이벤트 (재전송이 없으면 null)
+        private List<Frame> held;
+
+        private Connection(String topic, SseEmitter emitter, Runnable onClose, boolean replaying) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.onClose = onClose;
+            this.held = replaying ? new ArrayList<>() : null;
+        }
+
+        public SseEmitter emitter() {
+            return emitter;
+        }
+
+        /** 이 연결에만 이벤트 전송 (연결 직후 초기 메시지 등) */
+        public void send(String eventName, Object data) {
+            String payload = serialize(data);
+            if (payload != null) {
+                offer(toFrame(new Event(null, eventName, payload, false)));
+            }
+        }
+
+        private void offer(Frame frame) {
+            boolean overflow;
+            boolean submit = false;
+            synchronized (queue) {
+                if (closed.get()) {
+                    return;
+                }
+                if (held != null) {
+                    overflow = held.size() >= queueCapacity;
+                    if (!overflow) {
+                        held.add(frame);
+                    }
+                } else {
+                    overflow = !enqueue(frame);
+                    submit = !overflow && !scheduled && !queue.isEmpty();
+                    scheduled |= submit;
+                }
+            }
+            afterOffer(overflow, submit);
+        }
+
+        // 재전송 이벤트를 넣은 뒤 보류한 실시간 이벤트를 이어 붙이고 전송 시작
+        private void resume(List<Frame> replayed) {
+            boolean submit;
+            synchronized (queue) {
+                if (closed.get()) {
+                    return;
+                }
+                List<Frame> pending = new ArrayList<>(replayed);
+                if (held != null) {
+                    pending.addAll(held);
+                    held = null;
+                }
+                boolean overflow = false;
+                for (Frame frame : pending) {
+                    if (!enqueue(frame)) {
+                        overflow = true;
+                        break;
+                    }
+                }
+                if (overflow) {
+                    // 큐에 다 담을 수 없으면 마지막 이벤트 ID 의 resync 하나로 대체
+                    log.info("SSE 재전송 이벤트 {}건이 큐 용량 초과 - resync 전송 (토픽: {})", pending.size(), topic);
+                    queue.clear();
+                    String lastId = lastEventIdOf(pending);
+                    lastEventId = null;
+                    enqueue(toFrame(Event.resync(lastId)));
+                }
+                submit = !scheduled && !queue.isEmpty();
+                scheduled |= submit;
+            }
+            afterOffer(false, submit);
+        }
+
+        // queue 잠금 안에서 호출, 큐가 가득 차면 false
+        private boolean enqueue(Frame frame) {
+            if (frame.id() != null) {
+                if (lastEventId != null && compareEventIds(frame.id(), lastEventId) <= 0) {
+                    return true; // 이미 넣은 이벤트
+                }
+                lastEventId = frame.id();
+            }
+            if (frame.latestOnly()) {
+                queue.removeIf(pending -> pending.latestOnly() && pending.name().equals(frame.name()));
+            }
+            if (queue.size() >= queueCapacity) {
+                return false;
+            }
+            queue.addLast(frame);
+            return true;
+        }
+
+        private static String lastEventIdOf(List<Frame> frames) {
+            String lastId = null;
+            for (Frame frame : frames) {
+                if (frame.id() != null && (lastId == null || compareEventIds(frame.id(), lastId) > 0)) {
+                    lastId = frame.id();
+                }
+            }
+            return lastId;
+        }
+
+        private void afterOffer(boolean overflow, boolean submit) {
+            if (overflow) {
+                log.warn("SSE 전송 큐 초과 - 느린 연결 종료 (토픽: {})", topic);
+                close(true);
+                return;
+            }
+            if (submit) {
+                try {
+                    writer.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close(true);
+                }
+            }
+        }
+
+        private void drain() {
+            while (!closed.get()) {
+                Frame frame;
+                synchronized (queue) {
+                    frame = queue.pollFirst();
+                    if (frame == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(frame.payload());
+                } catch (Exception e) {
+                    // 전송 실패(IOException)는 컨테이너가 요청을 종료하므로 complete 하지 않음
+                    log.debug("SSE 전송 실패 - 연결 정리 (토픽: {}): {}", topic, e.toString());
+                    close(false);
+                    return;
+                }
+            }
+        }
+
+        // complete: 서버 측에서 종료하는 경우(큐 초과/종료) 응답 완료 처리
+        private void close(boolean complete) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (queue) {
+                queue.clear();
+            }
+            topics.computeIfPresent(topic, (key, connections) -> {
+                connections.remove(this);
+                return connections.isEmpty() ? null : connections;
+            });
+            if (complete) {
+                try {
+                    emitter.complete();
+                } catch (Exception ignored) {
+                    // 이미 종료된 연결
+                }
+            }
+            if (onClose != null) {
+                try {
+                    onClose.run();
+                } catch (Exception e) {
+                    log.warn("SSE 연결 종료 처리 실패 (토픽: {})", topic, e);
+                }
+            }
+        }
+    }
+}
@@ -177,6 +177,7 @@ public class InvitationService {
         Invitation newInvitation = invitation.accept();
         MindmapMember newMember = MindmapMember.of(newInvitation.getMindmap(), newInvitation.getInvitee(), newInvitation.getRole());
         mindmapMemberRepository.save(newMember);
+        mindmapAuthService.evict(newMember.getMindmap().getId(), newMember.getUser().getId());
 
         notificationService.notifyAcceptance(invitation);
 
@@ -305,6 +306,7 @@ public class InvitationService {
         Invitation newInvitation = invitation.accept();
         MindmapMember newMember = MindmapMember.of(newInvitation.getMindmap(), newInvitation.getInvitee(), newInvitation.getRole());
         mindmapMemberRepository.save(newMember);
+        mindmapAuthService.evict(newMember.getMindmap().getId(), newMember.getUser().getId());
 
         // 참여 요청자에게 승인 알림 전송
         notificationService.notifyLinkApproval(newInvitation);
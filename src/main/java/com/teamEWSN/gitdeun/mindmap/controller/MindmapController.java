@@ -7,6 +7,7 @@ import com.teamEWSN.gitdeun.mindmap.dto.*;
 import com.teamEWSN.gitdeun.mindmap.dto.prompt.MindmapPromptAnalysisDto;
 import com.teamEWSN.gitdeun.mindmap.dto.prompt.PromptHistoryResponseDto;
 import com.teamEWSN.gitdeun.mindmap.dto.request.MindmapCreateRequestDto;
+import com.teamEWSN.gitdeun.mindmap.job.MindmapJobService;
 import com.teamEWSN.gitdeun.mindmap.service.MindmapOrchestrationService;
 import com.teamEWSN.gitdeun.mindmap.service.MindmapService;
 import com.teamEWSN.gitdeun.mindmap.service.PromptHistoryService;
@@ -34,6 +35,7 @@ public class MindmapController {
     private final MindmapOrchestrationService mindmapOrchestrationService;
     private final MindmapAuthService mindmapAuthService;
     private final PromptHistoryService promptHistoryService;
+    private final MindmapJobService mindmapJobService;
 
     // 마인드맵 생성 (FastAPI 비동기 분석 기반)
     @PostMapping("/async")
@@ -45,18 +47,29 @@ public class MindmapController {
         Long userId = userDetails.getId();
         log.info("마인드맵 비동기 생성 요청 - 사용자: {}, 저장소: {}", userId, request.getRepoUrl());
 
-        // 비동기 처리 호출
-        mindmapOrchestrationService.createMindmap(request, userId, authorizationHeader);
+        // 작업 대기열에 등록
+        MindmapJobResponseDto job = mindmapJobService.enqueueCreate(
+            request.getRepoUrl(), request.getTitle(), userId, authorizationHeader);
 
-        // 즉시 응답 반환
+        // 즉시 응답 반환 (processId 로 작업 상태 조회)
         MindmapCreationResponseDto response = MindmapCreationResponseDto.builder()
-            .processId(String.format("mindmap_%d_%d", userId, System.currentTimeMillis()))
+            .processId(job.getJobId())
             .message("마인드맵 생성이 시작되었습니다. 완료되면 알림을 보내드립니다.")
             .build();
 
         return ResponseEntity.accepted().body(response);
     }
 
+    /**
+     * 마인드맵 작업(생성/새로고침/프롬프트) 상태 조회
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<MindmapJobResponseDto> getJob(
+        @PathVariable String jobId,
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(mindmapJobService.getJob(jobId, userDetails.getId()));
+    }
 
     // 마인드맵 상세 조회
     @GetMapping("/{mapId}")
@@ -87,10 +100,10 @@ public class MindmapController {
 
     /**
      * 마인드맵 새로고침 (비동기)
-     * - 요청을 즉시 반환하고 백그라운드에서 새로고침 진행
+     * - 작업을 대기열에 등록하고 즉시 반환, 진행 상황은 "job-progress" SSE 이벤트로 전송
      */
     @PostMapping("/{mapId}/refresh")
-    public ResponseEntity<Void> refreshMindmap(
+    public ResponseEntity<MindmapJobResponseDto> refreshMindmap(
         @PathVariable Long mapId,
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @RequestHeader("Authorization") String authorizationHeader
@@ -100,11 +113,9 @@ public class MindmapController {
             throw new GlobalException(ErrorCode.FORBIDDEN_ACCESS);
         }
 
-        // 비동기 서비스 호출
-        mindmapOrchestrationService.refreshMindmap(mapId, userDetails.getId(), authorizationHeader);
-
-        // 즉시 202 Accepted 응답 반환
-        return ResponseEntity.accepted().build();
+        // 작업 대기열에 등록 후 즉시 202 Accepted 응답 반환
+        return ResponseEntity.accepted()
+            .body(mindmapJobService.enqueueRefresh(mapId, userDetails.getId(), authorizationHeader));
     }
 
     /**
@@ -131,7 +142,7 @@ public class MindmapController {
      * 프롬프트 분석요청 및 적용
      */
     @PostMapping("/{mapId}/prompts")
-    public ResponseEntity<Void> analyzePrompt(
+    public ResponseEntity<MindmapJobResponseDto> analyzePrompt(
         @PathVariable Long mapId,
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @RequestBody MindmapPromptAnalysisDto request,
@@ -143,11 +154,9 @@ public class MindmapController {
             throw new GlobalException(ErrorCode.FORBIDDEN_ACCESS);
         }
 
-        // 비동기 서비스 호출
-        mindmapOrchestrationService.promptMindmap(mapId, request.getPrompt(), userDetails.getId(), authorizationHeader, applyImmediately);
-
-        // 즉시 202 Accepted 응답 반환
-        return ResponseEntity.accepted().build();
+        // 작업 대기열에 등록 후 즉시 202 Accepted 응답 반환
+        return ResponseEntity.accepted()
+            .body(mindmapJobService.enqueuePrompt(mapId, request.getPrompt(), userDetails.getId(), authorizationHeader, applyImmediately));
     }
 
     /**
@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -27,10 +28,12 @@ public class MindmapSseController {
 
     /**
      * 마인드맵 실시간 연결 (SSE)
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 이벤트를 먼저 재전송합니다.
      */
     @GetMapping(value = "/{mapId}/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamMindmapUpdates(
         @PathVariable Long mapId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         // VIEW 권한 확인
@@ -49,7 +52,7 @@ public class MindmapSseController {
         }
 
         log.info("SSE 연결 요청 - 마인드맵 ID: {}, 사용자 ID: {}", mapId, userDetails.getId());
-        return mindmapSseService.createConnection(mapId, userDetails);
+        return mindmapSseService.createConnection(mapId, userDetails, lastEventId);
     }
 
     /**
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class MindmapDetailResponseDto {
     private Long mindmapId;
@@ -18,6 +18,8 @@ public class MindmapDetailResponseDto {
 
     // 맵 데이터
     private MindmapGraphResponseDto mindmapGraph;
+    // 그래프 버전 (이후 "mindmap-patch" 이벤트의 baseVersion 과 비교)
+    private Long graphVersion;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
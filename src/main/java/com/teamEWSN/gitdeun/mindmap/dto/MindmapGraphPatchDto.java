@@ -0,0 +1,31 @@
+package com.teamEWSN.gitdeun.mindmap.dto;
+
+import com.teamEWSN.gitdeun.common.fastapi.dto.EdgeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 마인드맵 그래프 변경분 (SSE "mindmap-patch" 이벤트)
+ * 클라이언트의 그래프 버전이 baseVersion 과 다르면 전체 데이터를 다시 조회해야 합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MindmapGraphPatchDto {
+    private Long mindmapId;
+    private Long baseVersion;
+    private Long version;
+
+    // 적용 후 노드 수
+    private Integer nodeCount;
+
+    private List<NodeDto> addedNodes;
+    private List<NodeDto> updatedNodes;     // 라벨/타입/관련 파일이 바뀐 노드 (전체 값)
+    private List<String> removedNodeKeys;   // 연결된 엣지는 removedEdges 에 포함
+    private List<EdgeDto> addedEdges;
+    private List<EdgeDto> removedEdges;
+}
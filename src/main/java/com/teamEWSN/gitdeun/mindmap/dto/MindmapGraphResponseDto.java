@@ -2,8 +2,10 @@ package com.teamEWSN.gitdeun.mindmap.dto;
 
 import com.teamEWSN.gitdeun.common.fastapi.dto.EdgeDto;
 import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
@@ -11,6 +13,8 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MindmapGraphResponseDto {
     private Boolean success;
     private String error;
@@ -0,0 +1,29 @@
+package com.teamEWSN.gitdeun.mindmap.dto;
+
+import com.teamEWSN.gitdeun.mindmap.job.MindmapJobStatus;
+import com.teamEWSN.gitdeun.mindmap.job.MindmapJobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마인드맵 작업 상태 (조회 응답 및 SSE "job-progress" 이벤트)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MindmapJobResponseDto {
+    private String jobId;
+    private MindmapJobType type;
+    private MindmapJobStatus status;
+    private Integer progress;       // 0 ~ 100
+    private String message;
+    private Integer attempts;
+
+    private Long mindmapId;         // 새로고침/프롬프트: 대상, 생성: 완료 후 생성된 마인드맵
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
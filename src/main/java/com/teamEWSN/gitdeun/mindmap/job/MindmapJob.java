@@ -0,0 +1,107 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 마인드맵 작업 (Redis Hash "mindmap:job:{jobId}" 에 필드 단위로 저장)
+ * authHeader 는 저장 시 MindmapJobQueue 가 암호화합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MindmapJob {
+
+    private final String jobId;
+    private final MindmapJobType type;
+    private final Long userId;
+
+    // 작업 대상 (생성: repoUrl/title, 새로고침/프롬프트: mapId)
+    private final Long mapId;
+    private final String repoUrl;
+    private final String title;
+    private final String prompt;
+    private final boolean applyImmediately;
+    private final String authHeader;
+
+    private final MindmapJobStatus status;
+    private final int attempts;
+    private final int progress;
+    private final String message;
+    private final Long resultMindmapId;
+
+    // epoch millis
+    private final long createdAt;
+    private final long updatedAt;
+    // 마지막으로 대기열에 들어간 시각 (대기 시간 측정용)
+    private final long enqueuedAt;
+
+    Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("type", type.name());
+        hash.put("lane", type.getLane());
+        hash.put("userId", String.valueOf(userId));
+        putIfNotNull(hash, "mapId", mapId);
+        putIfNotNull(hash, "repoUrl", repoUrl);
+        putIfNotNull(hash, "title", title);
+        putIfNotNull(hash, "prompt", prompt);
+        hash.put("applyImmediately", String.valueOf(applyImmediately));
+        putIfNotNull(hash, "auth", authHeader);
+        hash.put("status", status.name());
+        hash.put("attempts", String.valueOf(attempts));
+        hash.put("progress", String.valueOf(progress));
+        putIfNotNull(hash, "message", message);
+        putIfNotNull(hash, "resultMindmapId", resultMindmapId);
+        hash.put("createdAt", String.valueOf(createdAt));
+        hash.put("updatedAt", String.valueOf(updatedAt));
+        hash.put("enqueuedAt", String.valueOf(enqueuedAt));
+        return hash;
+    }
+
+    static MindmapJob fromHash(String jobId, Map<Object, Object> hash) {
+        return MindmapJob.builder()
+            .jobId(jobId)
+            .type(MindmapJobType.valueOf(string(hash, "type")))
+            .userId(toLong(string(hash, "userId")))
+            .mapId(toLong(string(hash, "mapId")))
+            .repoUrl(string(hash, "repoUrl"))
+            .title(string(hash, "title"))
+            .prompt(string(hash, "prompt"))
+            .applyImmediately(Boolean.parseBoolean(string(hash, "applyImmediately")))
+            .authHeader(string(hash, "auth"))
+            .status(MindmapJobStatus.valueOf(string(hash, "status")))
+            .attempts(toInt(string(hash, "attempts")))
+            .progress(toInt(string(hash, "progress")))
+            .message(string(hash, "message"))
+            .resultMindmapId(toLong(string(hash, "resultMindmapId")))
+            .createdAt(toMillis(string(hash, "createdAt")))
+            .updatedAt(toMillis(string(hash, "updatedAt")))
+            .enqueuedAt(toMillis(string(hash, "enqueuedAt")))
+            .build();
+    }
+
+    private static void putIfNotNull(Map<String, String> hash, String field, Object value) {
+        if (value != null) {
+            hash.put(field, value.toString());
+        }
+    }
+
+    private static String string(Map<Object, Object> hash, String field) {
+        Object value = hash.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Long toLong(String value) {
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private static long toMillis(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private static int toInt(String value) {
+        return value != null ? Integer.parseInt(value) : 0;
+    }
+}
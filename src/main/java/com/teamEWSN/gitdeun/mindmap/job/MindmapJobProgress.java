@@ -0,0 +1,13 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+/**
+ * 작업 진행률 보고 (파이프라인 단계마다 호출)
+ */
+@FunctionalInterface
+public interface MindmapJobProgress {
+
+    MindmapJobProgress NONE = (percent, message) -> {
+    };
+
+    void report(int percent, String message);
+}
@@ -0,0 +1,245 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+import com.teamEWSN.gitdeun.common.converter.CryptoConverter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 마인드맵 작업 대기열 (Redis Streams)
+ *
+ * - 작업 정보: Hash "mindmap:job:{jobId}" (완료 후 retention 동안 보관)
+ * - 대기열: 작업 종류별 Stream "mindmap:jobs:{lane}" + 소비자 그룹 (인스턴스마다 소비자 하나)
+ * - 임대(lease): 가져간 항목은 ACK 전까지 Pending 상태로 남고, 실행 중인 인스턴스가 주기적으로 다시 claim 하여 유휴 시간을 갱신합니다.
+ *   유휴 시간이 lease 를 넘긴 항목(종료된 인스턴스)은 다른 인스턴스가 가져갑니다.
+ * - 지연 대기열: ZSET "mindmap:jobs:delayed" (재시도 backoff, 사용자 동시 실행 한도 초과)
+ * - 사용자별 실행 중 작업: ZSET "mindmap:jobs:running:{userId}" (score: lease 만료 시각)
+ */
+@Slf4j
+@Component
+public class MindmapJobQueue {
+
+    private static final String GROUP = "mindmap-workers";
+    private static final String JOB_KEY_PREFIX = "mindmap:job:";
+    private static final String LANE_KEY_PREFIX = "mindmap:jobs:";
+    private static final String DELAYED_KEY = "mindmap:jobs:delayed";
+    private static final String RUNNING_KEY_PREFIX = "mindmap:jobs:running:";
+
+    // 만료 시각이 된 지연 작업을 원래 대기열로 이동 (ZREM 에 성공한 인스턴스만 이동)
+    private static final DefaultRedisScript<Long> MOVE_DUE_SCRIPT = new DefaultRedisScript<>(
+        "local ids = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+        "local moved = 0 " +
+        "for _, id in ipairs(ids) do " +
+        "  if redis.call('zrem', KEYS[1], id) == 1 then " +
+        "    local lane = redis.call('hget', ARGV[3] .. id, 'lane') " +
+        "    if lane then " +
+        "      redis.call('hset', ARGV[3] .. id, 'enqueuedAt', ARGV[1]) " +
+        "      redis.call('xadd', ARGV[4] .. lane, '*', 'jobId', id) " +
+        "      moved = moved + 1 " +
+        "    end " +
+        "  end " +
+        "end " +
+        "return moved",
+        Long.class);
+
+    // 만료된 실행 기록 정리 후 한도 미만이면 실행 등록 → 1, 한도 초과 → 0
+    private static final DefaultRedisScript<Long> ACQUIRE_SLOT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('zremrangebyscore', KEYS[1], '-inf', ARGV[1]) " +
+        "if redis.call('zscore', KEYS[1], ARGV[3]) == false " +
+        "   and redis.call('zcard', KEYS[1]) >= tonumber(ARGV[2]) then return 0 end " +
+        "redis.call('zadd', KEYS[1], ARGV[4], ARGV[3]) " +
+        "redis.call('pexpireat', KEYS[1], ARGV[4]) " +
+        "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final CryptoConverter cryptoConverter;
+    private final Duration retention;
+
+    // 소비자 그룹 내 이 인스턴스의 이름
+    private final String consumerName = UUID.randomUUID().toString();
+
+    /**
+     * 가져간 대기열 항목
+     */
+    public record Claimed(MindmapJobType type, String jobId, RecordId recordId) {
+    }
+
+    public MindmapJobQueue(RedisTemplate<String, String> stringRedisTemplate,
+                           CryptoConverter cryptoConverter,
+                           @Value("${app.mindmap.job.retention-hours:24}") long retentionHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cryptoConverter = cryptoConverter;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    // 대기열과 소비자 그룹 생성 (이미 있으면 무시)
+    @PostConstruct
+    void createGroups() {
+        for (MindmapJobType type : MindmapJobType.values()) {
+            byte[] key = laneKey(type).getBytes(StandardCharsets.UTF_8);
+            try {
+                stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+                    connection.streamCommands().xGroupCreate(key, GROUP, ReadOffset.from("0-0"), true);
+                    return null;
+                });
+            } catch (Exception e) {
+                if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")) {
+                    log.warn("마인드맵 작업 소비자 그룹 생성 실패 - 대기열: {}", type.getLane(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 저장 후 대기열에 추가
+     */
+    public void enqueue(MindmapJob job) {
+        save(job);
+        stringRedisTemplate.opsForStream().add(laneKey(job.getType()), Map.of("jobId", job.getJobId()));
+    }
+
+    /**
+     * 작업 정보 저장 (인증 헤더는 암호화)
+     */
+    public void save(MindmapJob job) {
+        Map<String, String> hash = job.toHash();
+        if (job.getAuthHeader() != null) {
+            hash.put("auth", cryptoConverter.convertToDatabaseColumn(job.getAuthHeader()));
+        }
+        String key = JOB_KEY_PREFIX + job.getJobId();
+        stringRedisTemplate.opsForHash().putAll(key, hash);
+        stringRedisTemplate.expire(key, retention);
+    }
+
+    public Optional<MindmapJob> find(String jobId) {
+        Map<Object, Object> hash = stringRedisTemplate.opsForHash().entries(JOB_KEY_PREFIX + jobId);
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+        MindmapJob job = MindmapJob.fromHash(jobId, hash);
+        if (job.getAuthHeader() != null) {
+            job = job.toBuilder().authHeader(cryptoConverter.convertToEntityAttribute(job.getAuthHeader())).build();
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * 대기열에서 새 항목 하나 가져오기 (없으면 빈 값)
+     */
+    public Optional<Claimed> claimNext(MindmapJobType type) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+            Consumer.from(GROUP, consumerName),
+            StreamReadOptions.empty().count(1),
+            StreamOffset.create(laneKey(type), ReadOffset.lastConsumed()));
+        if (records == null || records.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toClaimed(type, records.get(0)));
+    }
+
+    /**
+     * lease 가 만료된 항목(종료된 인스턴스가 가져간 항목)을 이 인스턴스로 가져오기
+     */
+    public List<Claimed> reclaimExpired(MindmapJobType type, Duration lease, int max) {
+        List<Claimed> claimed = new ArrayList<>();
+        if (max <= 0) {
+            return claimed;
+        }
+        PendingMessages pending = stringRedisTemplate.opsForStream().pending(laneKey(type), GROUP, Range.unbounded(), 100);
+        List<RecordId> expired = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(lease) > 0) {
+                expired.add(message.getId());
+            }
+            if (expired.size() >= max) {
+                break;
+            }
+        }
+        if (expired.isEmpty()) {
+            return claimed;
+        }
+        // 다른 인스턴스가 먼저 가져간 항목은 유휴 시간 조건에 걸려 제외됨
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().claim(
+            laneKey(type), GROUP, consumerName, XClaimOptions.minIdle(lease).ids(expired.toArray(RecordId[]::new)));
+        for (MapRecord<String, Object, Object> record : records) {
+            claimed.add(toClaimed(type, record));
+        }
+        return claimed;
+    }
+
+    /**
+     * lease 갱신 (유휴 시간 초기화)
+     */
+    public void renew(Claimed claimed) {
+        stringRedisTemplate.opsForStream().claim(laneKey(claimed.type()), GROUP, consumerName,
+            XClaimOptions.minIdle(Duration.ZERO).ids(claimed.recordId()));
+    }
+
+    /**
+     * 대기열 항목 완료 처리 (ACK 후 삭제)
+     */
+    public void complete(Claimed claimed) {
+        stringRedisTemplate.opsForStream().acknowledge(laneKey(claimed.type()), GROUP, claimed.recordId());
+        stringRedisTemplate.opsForStream().delete(laneKey(claimed.type()), claimed.recordId());
+    }
+
+    /**
+     * dueAt 이후 다시 대기열에 넣도록 예약
+     */
+    public void scheduleDelayed(String jobId, long dueAt) {
+        stringRedisTemplate.opsForZSet().add(DELAYED_KEY, jobId, dueAt);
+    }
+
+    /**
+     * 만료 시각이 된 지연 작업을 대기열로 이동
+     */
+    public long moveDueDelayed(long now, int max) {
+        Long moved = stringRedisTemplate.execute(MOVE_DUE_SCRIPT, List.of(DELAYED_KEY),
+            String.valueOf(now), String.valueOf(max), JOB_KEY_PREFIX, LANE_KEY_PREFIX);
+        return moved != null ? moved : 0L;
+    }
+
+    /**
+     * 사용자 동시 실행 자리 확보 (이미 확보한 작업이면 lease 갱신)
+     */
+    public boolean acquireUserSlot(Long userId, String jobId, int limit, long now, long leaseUntil) {
+        Long acquired = stringRedisTemplate.execute(ACQUIRE_SLOT_SCRIPT, List.of(RUNNING_KEY_PREFIX + userId),
+            String.valueOf(now), String.valueOf(limit), jobId, String.valueOf(leaseUntil));
+        return acquired != null && acquired == 1L;
+    }
+
+    public void releaseUserSlot(Long userId, String jobId) {
+        stringRedisTemplate.opsForZSet().remove(RUNNING_KEY_PREFIX + userId, jobId);
+    }
+
+    private Claimed toClaimed(MindmapJobType type, MapRecord<String, Object, Object> record) {
+        return new Claimed(type, String.valueOf(record.getValue().get("jobId")), record.getId());
+    }
+
+    private static String laneKey(MindmapJobType type) {
+        return LANE_KEY_PREFIX + type.getLane();
+    }
+}
@@ -0,0 +1,129 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+import com.teamEWSN.gitdeun.common.exception.ErrorCode;
+import com.teamEWSN.gitdeun.common.exception.GlobalException;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapJobResponseDto;
+import com.teamEWSN.gitdeun.mindmap.service.MindmapSseService;
+import com.teamEWSN.gitdeun.notification.service.NotificationSseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 마인드맵 작업 등록/조회 및 진행 상황 전파
+ *
+ * 진행 상황은 작업 정보에 저장하고 "job-progress" 이벤트로 요청한 사용자의 알림 채널과
+ * (대상 마인드맵이 있으면) 마인드맵 채널에 전송합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MindmapJobService {
+
+    private final MindmapJobQueue mindmapJobQueue;
+    private final MindmapSseService mindmapSseService;
+    private final NotificationSseService notificationSseService;
+
+    public MindmapJobResponseDto enqueueCreate(String repoUrl, String title, Long userId, String authHeader) {
+        return enqueue(newJob(MindmapJobType.CREATE, userId, authHeader)
+            .repoUrl(repoUrl)
+            .title(title)
+            .build());
+    }
+
+    public MindmapJobResponseDto enqueueRefresh(Long mapId, Long userId, String authHeader) {
+        return enqueue(newJob(MindmapJobType.REFRESH, userId, authHeader)
+            .mapId(mapId)
+            .build());
+    }
+
+    public MindmapJobResponseDto enqueuePrompt(Long mapId, String prompt, Long userId, String authHeader,
+                                               boolean applyImmediately) {
+        return enqueue(newJob(MindmapJobType.PROMPT, userId, authHeader)
+            .mapId(mapId)
+            .prompt(prompt)
+            .applyImmediately(applyImmediately)
+            .build());
+    }
+
+    /**
+     * 작업 상태 조회 (요청한 사용자만)
+     */
+    public MindmapJobResponseDto getJob(String jobId, Long userId) {
+        MindmapJob job = mindmapJobQueue.find(jobId)
+            .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_JOB_NOT_FOUND));
+        if (!job.getUserId().equals(userId)) {
+            throw new GlobalException(ErrorCode.FORBIDDEN_ACCESS);
+        }
+        return toResponseDto(job);
+    }
+
+    /**
+     * 작업 상태 저장 후 진행 상황 전송
+     */
+    MindmapJob update(MindmapJob job) {
+        MindmapJob updated = job.toBuilder().updatedAt(System.currentTimeMillis()).build();
+        try {
+            mindmapJobQueue.save(updated);
+        } catch (Exception e) {
+            log.warn("마인드맵 작업 상태 저장 실패 - 작업 ID: {}", job.getJobId(), e);
+        }
+        publishProgress(updated);
+        return updated;
+    }
+
+    private MindmapJobResponseDto enqueue(MindmapJob job) {
+        mindmapJobQueue.enqueue(job);
+        log.info("마인드맵 작업 등록 - 작업 ID: {}, 종류: {}, 사용자: {}", job.getJobId(), job.getType(), job.getUserId());
+        return toResponseDto(job);
+    }
+
+    private MindmapJob.MindmapJobBuilder newJob(MindmapJobType type, Long userId, String authHeader) {
+        long now = System.currentTimeMillis();
+        return MindmapJob.builder()
+            .jobId(UUID.randomUUID().toString())
+            .type(type)
+            .userId(userId)
+            .authHeader(authHeader)
+            .status(MindmapJobStatus.QUEUED)
+            .message("대기 중")
+            .createdAt(now)
+            .updatedAt(now)
+            .enqueuedAt(now);
+    }
+
+    private void publishProgress(MindmapJob job) {
+        MindmapJobResponseDto progress = toResponseDto(job);
+        try {
+            notificationSseService.sendJobProgress(job.getUserId(), progress);
+            if (job.getMapId() != null) {
+                mindmapSseService.broadcastJobProgress(job.getMapId(), progress);
+            }
+        } catch (Exception e) {
+            log.warn("마인드맵 작업 진행 상황 전송 실패 - 작업 ID: {}", job.getJobId(), e);
+        }
+    }
+
+    private static MindmapJobResponseDto toResponseDto(MindmapJob job) {
+        return MindmapJobResponseDto.builder()
+            .jobId(job.getJobId())
+            .type(job.getType())
+            .status(job.getStatus())
+            .progress(job.getProgress())
+            .message(job.getMessage())
+            .attempts(job.getAttempts())
+            .mindmapId(job.getMapId() != null ? job.getMapId() : job.getResultMindmapId())
+            .createdAt(toLocalDateTime(job.getCreatedAt()))
+            .updatedAt(toLocalDateTime(job.getUpdatedAt()))
+            .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
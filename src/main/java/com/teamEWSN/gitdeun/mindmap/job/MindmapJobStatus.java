@@ -0,0 +1,13 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+public enum MindmapJobStatus {
+    QUEUED,     // 대기 중 (사용자 동시 실행 한도로 잠시 미뤄진 경우 포함)
+    RUNNING,
+    RETRYING,   // 실패 후 재시도 대기
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 마인드맵 작업 종류 (종류별로 대기열(lane)을 분리)
+ * weight 는 워커가 대기열을 가져가는 비율입니다 (빈 대기열은 건너뜀).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MindmapJobType {
+    PROMPT("prompt", 3),    // 협업 중인 사용자가 결과를 기다리는 작업
+    REFRESH("refresh", 2),
+    CREATE("create", 1);    // 가장 오래 걸리는 전체 분석
+
+    private final String lane;
+    private final int weight;
+}
@@ -0,0 +1,325 @@
+package com.teamEWSN.gitdeun.mindmap.job;
+
+import com.teamEWSN.gitdeun.common.exception.ErrorCode;
+import com.teamEWSN.gitdeun.common.exception.GlobalException;
+import com.teamEWSN.gitdeun.mindmap.entity.Mindmap;
+import com.teamEWSN.gitdeun.mindmap.service.MindmapOrchestrationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 마인드맵 작업 실행기
+ *
+ * - 작업 종류별 가중치(프롬프트 > 새로고침 > 생성)에 따라 대기열을 돌아가며 가져와 인스턴스당 worker-concurrency 개까지 실행
+ * - 사용자별 동시 실행은 per-user-concurrency 개로 제한 (초과 시 잠시 후 다시 대기)
+ * - 일시적인 실패(FastAPI 5xx/408/429, 타임아웃, 연결 오류)는 지수 backoff 로 max-attempts 까지 재시도
+ * - 실행 중인 작업의 lease 는 주기적으로 갱신하고, 만료된 항목(종료된 인스턴스)은 다른 인스턴스가 가져가 다시 실행
+ */
+@Slf4j
+@Component
+public class MindmapJobWorker {
+
+    private final MindmapJobQueue mindmapJobQueue;
+    private final MindmapJobService mindmapJobService;
+    private final MindmapOrchestrationService mindmapOrchestrationService;
+    private final MeterRegistry meterRegistry;
+
+    private final int workerConcurrency;
+    private final int perUserConcurrency;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long userLimitDelayMs;
+    private final Duration timeout;
+
+    // 가중치만큼 반복된 대기열 순서 (smooth weighted round-robin)
+    private final List<MindmapJobType> laneCycle = weightedCycle();
+    private int laneCursor;
+
+    // 이 인스턴스에서 실행 중인 작업 (jobId 기준)
+    private final Map<String, Running> running = new ConcurrentHashMap<>();
+
+    private volatile boolean stopped;
+
+    private record Running(MindmapJobQueue.Claimed claimed, Long userId) {
+    }
+
+    public MindmapJobWorker(MindmapJobQueue mindmapJobQueue,
+                            MindmapJobService mindmapJobService,
+                            MindmapOrchestrationService mindmapOrchestrationService,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.mindmap.job.worker-concurrency:4}") int workerConcurrency,
+                            @Value("${app.mindmap.job.per-user-concurrency:2}") int perUserConcurrency,
+                            @Value("${app.mindmap.job.lease-ms:60000}") long leaseMs,
+                            @Value("${app.mindmap.job.max-attempts:3}") int maxAttempts,
+                            @Value("${app.mindmap.job.backoff-ms:5000}") long backoffMs,
+                            @Value("${app.mindmap.job.max-backoff-ms:300000}") long maxBackoffMs,
+                            @Value("${app.mindmap.job.user-limit-delay-ms:5000}") long userLimitDelayMs,
+                            @Value("${app.mindmap.job.timeout-ms:900000}") long timeoutMs) {
+        this.mindmapJobQueue = mindmapJobQueue;
+        this.mindmapJobService = mindmapJobService;
+        this.mindmapOrchestrationService = mindmapOrchestrationService;
+        this.meterRegistry = meterRegistry;
+        this.workerConcurrency = workerConcurrency;
+        this.perUserConcurrency = perUserConcurrency;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.userLimitDelayMs = userLimitDelayMs;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        meterRegistry.gauge("app.mindmap.job.running", running, Map::size);
+    }
+
+    /**
+     * 지연 작업을 대기열로 옮긴 뒤 빈 자리만큼 새 작업 실행
+     */
+    @Scheduled(fixedDelayString = "${app.mindmap.job.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (stopped) {
+            return;
+        }
+        try {
+            mindmapJobQueue.moveDueDelayed(System.currentTimeMillis(), workerConcurrency * 10);
+
+            // 한 바퀴 동안 모든 대기열이 비어 있으면 다음 주기까지 대기
+            int emptyLanes = 0;
+            while (running.size() < workerConcurrency && emptyLanes < laneCycle.size()) {
+                MindmapJobType type = laneCycle.get(laneCursor);
+                laneCursor = (laneCursor + 1) % laneCycle.size();
+
+                Optional<MindmapJobQueue.Claimed> claimed = mindmapJobQueue.claimNext(type);
+                if (claimed.isPresent()) {
+                    emptyLanes = 0;
+                    start(claimed.get());
+                } else {
+                    emptyLanes++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("마인드맵 작업 대기열 조회 실패", e);
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 lease 갱신
+     */
+    @Scheduled(fixedDelayString = "${app.mindmap.job.renew-interval-ms:20000}")
+    public void renew() {
+        long now = System.currentTimeMillis();
+        running.forEach((jobId, job) -> {
+            try {
+                mindmapJobQueue.renew(job.claimed());
+                mindmapJobQueue.acquireUserSlot(job.userId(), jobId, perUserConcurrency, now, now + lease.toMillis());
+            } catch (Exception e) {
+                log.warn("마인드맵 작업 lease 갱신 실패 - 작업 ID: {}", jobId, e);
+            }
+        });
+    }
+
+    /**
+     * lease 가 만료된 작업(종료된 인스턴스가 실행하던 작업)을 가져와 다시 실행
+     */
+    @Scheduled(fixedDelayString = "${app.mindmap.job.lease-ms:60000}")
+    public synchronized void recover() {
+        if (stopped) {
+            return;
+        }
+        for (MindmapJobType type : MindmapJobType.values()) {
+            try {
+                for (MindmapJobQueue.Claimed claimed : mindmapJobQueue.reclaimExpired(type, lease, workerConcurrency - running.size())) {
+                    log.info("lease 만료 마인드맵 작업 회수 - 작업 ID: {}, 종류: {}", claimed.jobId(), type);
+                    start(claimed);
+                }
+            } catch (Exception e) {
+                log.warn("lease 만료 마인드맵 작업 회수 실패 - 대기열: {}", type.getLane(), e);
+            }
+        }
+    }
+
+    // 실행 중인 작업은 끝까지 진행하고, 끝나지 않은 작업은 lease 만료 후 다른 인스턴스가 가져감
+    @PreDestroy
+    void shutdown() {
+        stopped = true;
+        if (!running.isEmpty()) {
+            log.info("종료 중 - 실행 중인 마인드맵 작업 {}건은 lease 만료 후 다른 인스턴스에서 재실행됩니다.", running.size());
+        }
+    }
+
+    private void start(MindmapJobQueue.Claimed claimed) {
+        Optional<MindmapJob> found = mindmapJobQueue.find(claimed.jobId());
+        if (found.isEmpty() || found.get().getStatus().isFinished()) {
+            // 보관 기간이 지났거나 이미 끝난 작업
+            mindmapJobQueue.complete(claimed);
+            return;
+        }
+        MindmapJob job = found.get();
+
+        long now = System.currentTimeMillis();
+        if (!mindmapJobQueue.acquireUserSlot(job.getUserId(), job.getJobId(), perUserConcurrency, now, now + lease.toMillis())) {
+            mindmapJobQueue.scheduleDelayed(job.getJobId(), now + userLimitDelayMs);
+            mindmapJobQueue.complete(claimed);
+            if (job.getStatus() != MindmapJobStatus.QUEUED) {
+                mindmapJobService.update(job.toBuilder()
+                    .status(MindmapJobStatus.QUEUED)
+                    .message("사용자 동시 실행 한도 대기")
+                    .build());
+            }
+            return;
+        }
+
+        running.put(job.getJobId(), new Running(claimed, job.getUserId()));
+        if (job.getEnqueuedAt() > 0) {
+            timer("app.mindmap.job.wait", job.getType()).record(Duration.ofMillis(Math.max(0, now - job.getEnqueuedAt())));
+        }
+
+        AtomicReference<MindmapJob> current = new AtomicReference<>(mindmapJobService.update(job.toBuilder()
+            .status(MindmapJobStatus.RUNNING)
+            .attempts(job.getAttempts() + 1)
+            .progress(5)
+            .message("작업 시작")
+            .build()));
+        log.info("마인드맵 작업 시작 - 작업 ID: {}, 종류: {}, 시도: {}", job.getJobId(), job.getType(), current.get().getAttempts());
+
+        MindmapJobProgress progress = (percent, message) ->
+            current.set(mindmapJobService.update(current.get().toBuilder().progress(percent).message(message).build()));
+
+        Mono.defer(() -> execute(current.get(), progress))
+            .switchIfEmpty(Mono.error(new GlobalException(ErrorCode.MINDMAP_NOT_FOUND)))
+            .timeout(timeout)
+            .subscribe(
+                mindmap -> onSuccess(claimed, current.get(), mindmap, now),
+                error -> onFailure(claimed, current.get(), error, now));
+    }
+
+    private Mono<Mindmap> execute(MindmapJob job, MindmapJobProgress progress) {
+        return switch (job.getType()) {
+            case CREATE -> mindmapOrchestrationService.createMindmap(
+                job.getRepoUrl(), job.getTitle(), job.getUserId(), job.getAuthHeader(), progress);
+            case REFRESH -> mindmapOrchestrationService.refreshMindmap(
+                job.getMapId(), job.getUserId(), job.getAuthHeader(), progress);
+            case PROMPT -> mindmapOrchestrationService.promptMindmap(
+                job.getMapId(), job.getPrompt(), job.getUserId(), job.getAuthHeader(), job.isApplyImmediately(), progress);
+        };
+    }
+
+    private void onSuccess(MindmapJobQueue.Claimed claimed, MindmapJob job, Mindmap mindmap, long startedAt) {
+        try {
+            mindmapJobService.update(job.toBuilder()
+                .status(MindmapJobStatus.SUCCEEDED)
+                .progress(100)
+                .message("완료")
+                .resultMindmapId(mindmap.getId())
+                .build());
+            log.info("마인드맵 작업 완료 - 작업 ID: {}, 마인드맵 ID: {}", job.getJobId(), mindmap.getId());
+        } finally {
+            finish(claimed, job, "succeeded", startedAt);
+        }
+    }
+
+    private void onFailure(MindmapJobQueue.Claimed claimed, MindmapJob job, Throwable error, long startedAt) {
+        Throwable cause = Exceptions.unwrap(error);
+        String outcome;
+        try {
+            if (job.getAttempts() < maxAttempts && isRetryable(cause)) {
+                long delay = Math.min(maxBackoffMs, backoffMs << Math.min(job.getAttempts() - 1, 20));
+                log.warn("마인드맵 작업 실패, {}ms 후 재시도 - 작업 ID: {}, 시도: {}/{}, 원인: {}",
+                    delay, job.getJobId(), job.getAttempts(), maxAttempts, cause.toString());
+                mindmapJobService.update(job.toBuilder()
+                    .status(MindmapJobStatus.RETRYING)
+                    .message(String.format("재시도 대기 중 (%d/%d)", job.getAttempts(), maxAttempts))
+                    .build());
+                mindmapJobQueue.scheduleDelayed(job.getJobId(), System.currentTimeMillis() + delay);
+                outcome = "retried";
+            } else {
+                log.error("마인드맵 작업 실패 - 작업 ID: {}, 시도: {}", job.getJobId(), job.getAttempts(), cause);
+                mindmapJobService.update(job.toBuilder()
+                    .status(MindmapJobStatus.FAILED)
+                    .message("작업 실패")
+                    .build());
+                String target = job.getRepoUrl() != null ? job.getRepoUrl() : "mindmapId=" + job.getMapId();
+                mindmapOrchestrationService.notifyFailure(job.getType(), cause, job.getUserId(), target);
+                outcome = "failed";
+            }
+        } catch (Exception e) {
+            log.error("마인드맵 작업 실패 처리 중 오류 - 작업 ID: {}", job.getJobId(), e);
+            outcome = "failed";
+        }
+        finish(claimed, job, outcome, startedAt);
+    }
+
+    // 대기열 항목 완료, 사용자 실행 자리 반환, 지표 기록
+    private void finish(MindmapJobQueue.Claimed claimed, MindmapJob job, String outcome, long startedAt) {
+        running.remove(job.getJobId());
+        try {
+            mindmapJobQueue.releaseUserSlot(job.getUserId(), job.getJobId());
+            mindmapJobQueue.complete(claimed);
+        } catch (Exception e) {
+            log.warn("마인드맵 작업 완료 처리 실패 - 작업 ID: {}", job.getJobId(), e);
+        }
+        Counter.builder("app.mindmap.job.completed")
+            .tag("type", job.getType().getLane())
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+        timer("app.mindmap.job.duration", job.getType())
+            .record(Duration.ofMillis(System.currentTimeMillis() - startedAt));
+    }
+
+    // 요청 자체가 잘못된 경우(권한, 대상 없음, 4xx)는 재시도하지 않음
+    private static boolean isRetryable(Throwable cause) {
+        if (cause instanceof GlobalException) {
+            return false;
+        }
+        if (cause instanceof WebClientResponseException e) {
+            int status = e.getStatusCode().value();
+            return status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    private Timer timer(String name, MindmapJobType type) {
+        return Timer.builder(name)
+            .tag("type", type.getLane())
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    private static List<MindmapJobType> weightedCycle() {
+        MindmapJobType[] types = MindmapJobType.values();
+        int total = Arrays.stream(types).mapToInt(MindmapJobType::getWeight).sum();
+        int[] current = new int[types.length];
+        List<MindmapJobType> cycle = new ArrayList<>(total);
+        for (int n = 0; n < total; n++) {
+            int best = 0;
+            for (int i = 0; i < types.length; i++) {
+                current[i] += types[i].getWeight();
+                if (current[i] > current[best]) {
+                    best = i;
+                }
+            }
+            current[best] -= total;
+            cycle.add(types[best]);
+        }
+        return List.copyOf(cycle);
+    }
+}
@@ -33,7 +33,9 @@ public interface MindmapMapper {
     @Mapping(source = "mindmap.promptHistories", target = "promptHistories")
     @Mapping(source = "mindmap.appliedPromptHistory", target = "appliedPromptHistory")
     @Mapping(source = "graphData", target = "mindmapGraph")
+    @Mapping(source = "graphVersion", target = "graphVersion")
     MindmapDetailResponseDto toDetailResponseDto(Mindmap mindmap,
-                                                 MindmapGraphResponseDto graphData);
+                                                 MindmapGraphResponseDto graphData,
+                                                 Long graphVersion);
 
 }
@@ -3,12 +3,10 @@ package com.teamEWSN.gitdeun.mindmap.service;
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.exception.GlobalException;
 import com.teamEWSN.gitdeun.common.fastapi.FastApiClient;
-import com.teamEWSN.gitdeun.common.fastapi.FastApiClient.SuggestionAutoResponse;
-import com.teamEWSN.gitdeun.common.fastapi.dto.AnalysisResultDto;
-import com.teamEWSN.gitdeun.mindmap.dto.request.MindmapCreateRequestDto;
-import com.teamEWSN.gitdeun.mindmap.dto.request.ValidatedMindmapRequest;
 import com.teamEWSN.gitdeun.mindmap.entity.Mindmap;
 import com.teamEWSN.gitdeun.mindmap.entity.PromptHistory;
+import com.teamEWSN.gitdeun.mindmap.job.MindmapJobProgress;
+import com.teamEWSN.gitdeun.mindmap.job.MindmapJobType;
 import com.teamEWSN.gitdeun.mindmap.repository.MindmapRepository;
 import com.teamEWSN.gitdeun.mindmap.util.FileContentCache;
 import com.teamEWSN.gitdeun.mindmap.util.MindmapRequestValidator;
@@ -21,8 +19,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-
-import java.util.concurrent.CompletableFuture;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import static com.teamEWSN.gitdeun.notification.entity.NotificationType.*;
 
@@ -40,84 +38,71 @@ public class MindmapOrchestrationService {
     private final MindmapRepository mindmapRepository;
     private final MindmapRequestValidator requestValidator;
     private final FileContentCache fileContentCache;
+    private final Scheduler mindmapScheduler;
 
     /**
-     * 비동기적으로 마인드맵 생성 과정을 총괄
+     * 마인드맵 생성 파이프라인 (작업 큐 워커가 구독)
+     * - FastAPI 호출은 Non-blocking 파이프라인으로 연결되어 대기 중 스레드를 점유하지 않음
+     * - DB 저장/알림 등 블로킹 구간만 mindmapScheduler 에서 실행
+     * - 성공 알림은 파이프라인 안에서, 실패 알림은 재시도가 끝난 뒤 워커가 notifyFailure 로 전송
      */
-    @Async("mindmapExecutor")
-    public void createMindmap(MindmapCreateRequestDto request, Long userId, String authHeader) {
-        log.info("마인드맵 생성 요청 검증 시작 - 사용자: {}", userId);
-        ValidatedMindmapRequest validatedRequest = requestValidator.validateAndProcess(
-            request.getRepoUrl(),
-            null,
-            userId
-        );
-
-        // 2. FastAPI 통합 분석 요청 - analyzeRepository 메서드 사용
-        String normalizedUrl = validatedRequest.getRepositoryInfo().getNormalizedUrl();
-
-        CompletableFuture.supplyAsync(() -> {
-            // 1. 요청 검증 및 전처리
-            log.info("FastAPI 분석 요청 시작 - URL: {}, 마인드맵 제목: {}",
-                normalizedUrl, request.getTitle());
-
-            // prompt가 null이면 기본 분석, 있으면 프롬프트 포함 분석
-            return fastApiClient.analyzeResult(
-                normalizedUrl,
-                null,
-                authHeader
-            );
-        }).thenApply(analysisResult -> {
-            // 2. 분석 결과를 바탕으로 DB에 마인드맵 정보 저장 (트랜잭션)
-            log.info("분석 완료, DB 저장 시작 - 사용자: {}", userId);
-            return mindmapService.saveMindmapFromAnalysis(analysisResult, normalizedUrl, request.getTitle(), userId);
-        }).whenComplete((mindmap, throwable) -> {
-            // 3. 최종 결과에 따라 알림 전송
-            if (throwable != null) {
-                handleFailureAndNotify(throwable, userId, normalizedUrl, "생성에", MINDMAP_CREATE);
-            } else {
-                handleSuccessAndNotify(mindmap, userId, "생성이", MINDMAP_CREATE);
-            }
-        });
+    public Mono<Mindmap> createMindmap(String repoUrl, String title, Long userId, String authHeader,
+                                       MindmapJobProgress progress) {
+        return Mono.fromCallable(() -> {
+                // 1. 요청 검증 및 전처리
+                log.info("마인드맵 생성 요청 검증 시작 - 사용자: {}", userId);
+                progress.report(10, "저장소 확인 중");
+                return requestValidator.validateAndProcess(repoUrl, null, userId)
+                    .getRepositoryInfo()
+                    .getNormalizedUrl();
+            })
+            .subscribeOn(mindmapScheduler)
+            .flatMap(normalizedUrl -> {
+                // 2. FastAPI 통합 분석 요청 (prompt가 null이면 기본 분석)
+                log.info("FastAPI 분석 요청 시작 - URL: {}, 마인드맵 제목: {}", normalizedUrl, title);
+                progress.report(30, "저장소 분석 중");
+
+                return fastApiClient.analyzeResultMono(normalizedUrl, null, authHeader)
+                    .publishOn(mindmapScheduler)
+                    .map(analysisResult -> {
+                        // 3. 분석 결과를 바탕으로 DB에 마인드맵 정보 저장 (트랜잭션)
+                        log.info("분석 완료, DB 저장 시작 - 사용자: {}", userId);
+                        progress.report(80, "마인드맵 저장 중");
+                        return mindmapService.saveMindmapFromAnalysis(analysisResult, normalizedUrl, title, userId);
+                    });
+            })
+            // 4. 성공 알림 전송
+            .doOnNext(mindmap -> handleSuccessAndNotify(mindmap, userId, "생성이", MINDMAP_CREATE));
     }
 
-    @Async("mindmapExecutor")
-    public void refreshMindmap(Long mapId, Long userId, String authHeader) {
-        Mindmap mindmap = null;
-        try {
-            log.info("비동기 새로고침 시작 - 마인드맵 ID: {}", mapId);
-            mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
-
-            PromptHistory appliedPrompt = mindmap.getAppliedPromptHistory();
-
-            String repoUrl = mindmap.getRepo().getGithubRepoUrl();
-            String prompt = (appliedPrompt != null) ? appliedPrompt.getPrompt() : null;
-
-            // FastAPI 분석 요청 전, 관련된 모든 파일 캐시를 무효화합니다.
-            fileContentCache.evictFileCacheForRepo(repoUrl);
-
-            // FastAPI 분석 요청
-            AnalysisResultDto analysisResult = fastApiClient.refreshMindmap(
-                repoUrl,
-                prompt,
-                authHeader
-            );
-
-            // 분석 결과를 DB에 업데이트 (트랜잭션) 및 SSE 브로드캐스트
-            mindmapService.updateMindmapFromAnalysis(mapId, authHeader, analysisResult);
-            log.info("비동기 새로고침 성공 - 마인드맵 ID: {}", mapId);
-
+    /**
+     * 마인드맵 새로고침 파이프라인 (작업 큐 워커가 구독)
+     */
+    public Mono<Mindmap> refreshMindmap(Long mapId, Long userId, String authHeader, MindmapJobProgress progress) {
+        return findMindmapMono(mapId)
+            .flatMap(mindmap -> {
+                log.info("비동기 새로고침 시작 - 마인드맵 ID: {}", mapId);
+                PromptHistory appliedPrompt = mindmap.getAppliedPromptHistory();
+
+                String repoUrl = mindmap.getRepo().getGithubRepoUrl();
+                String prompt = (appliedPrompt != null) ? appliedPrompt.getPrompt() : null;
+
+                // 파일 내용 캐시는 커밋 기준으로 저장되므로 새로고침 시 무효화하지 않음
+
+                // FastAPI 분석 요청
+                progress.report(30, "저장소 분석 중");
+                return fastApiClient.refreshMindmapMono(repoUrl, prompt, authHeader)
+                    .publishOn(mindmapScheduler)
+                    .map(analysisResult -> {
+                        // 분석 결과를 DB에 업데이트 (트랜잭션) 및 SSE 브로드캐스트
+                        progress.report(80, "마인드맵 갱신 중");
+                        mindmapService.updateMindmapFromAnalysis(mapId, authHeader, analysisResult);
+                        log.info("비동기 새로고침 성공 - 마인드맵 ID: {}", mapId);
+                        return mindmap;
+                    });
+            })
             // 성공 알림 전송
-            handleSuccessAndNotify(mindmap, userId, "새로고침이", MINDMAP_UPDATE);
-
-        } catch (Exception e) {
-            log.error("비동기 새로고침 실패 - 마인드맵 ID: {}, 원인: {}", mapId, e.getMessage(), e);
-            // 실패 알림 전송
-            if (mindmap != null) {
-                handleFailureAndNotify(e, userId, mindmap.getRepo().getGithubRepoUrl(), "새로고침에", MINDMAP_UPDATE);
-            }
-        }
+            .doOnNext(mindmap -> handleSuccessAndNotify(mindmap, userId, "새로고침이", MINDMAP_UPDATE));
     }
 
     /**
@@ -139,50 +124,66 @@ public class MindmapOrchestrationService {
     }
 
     /**
-     * 프롬프트를 기반으로 마인드맵을 분석하고 미리보기를 생성하는 비동기 프로세스
+     * 프롬프트를 기반으로 마인드맵을 분석하고 미리보기를 생성하는 파이프라인 (작업 큐 워커가 구독)
      */
-    @Async("mindmapExecutor")
-    public void promptMindmap(Long mapId, String prompt, Long userId, String authHeader, boolean applyImmediately) {
-        Mindmap mindmap = null;
-        try {
-            log.info("비동기 프롬프트 분석 시작 - 마인드맵 ID: {}", mapId);
-            mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
-
-            String repoUrl = mindmap.getRepo().getGithubRepoUrl();
-
-            // FastAPI 분석 요청 전, 관련된 모든 파일 캐시를 무효화
-            fileContentCache.evictFileCacheForRepo(repoUrl);
-
-            // FastAPI에 자동 분석 요청
-            SuggestionAutoResponse suggestionResponse = fastApiClient.createAutoSuggestions(repoUrl, prompt, authHeader);
-
-            // 분석 결과를 바탕으로 마인드맵 그래프 데이터 업데이트 및 캐시 갱신
-            mindmapService.updateMindmapFromPromptAnalysis(mapId, authHeader);
-
-            // 분석 결과를 바탕으로 PromptHistory 생성 및 SSE 알림
-            PromptHistory newHistory = promptHistoryService.createPromptHistoryFromSuggestion(mapId, prompt, suggestionResponse);
-
-            // 프롬프트 적용 여부 확인 후 알림
-            if (applyImmediately) {
-                promptHistoryService.applyPromptHistory(mapId, newHistory.getId(), userId);
-
-                log.info("비동기 프롬프트 분석 및 적용 성공 - 마인드맵 ID: {}", mapId);
-                handleSuccessAndNotify(mindmap, userId, "프롬프트 분석 및 적용이", ANALYSIS_PROMPT);
-            } else {
-                log.info("비동기 프롬프트 분석 성공 - 마인드맵 ID: {}", mapId);
-                handleSuccessAndNotify(mindmap, userId, "프롬프트 분석이", ANALYSIS_PROMPT);
-            }
+    public Mono<Mindmap> promptMindmap(Long mapId, String prompt, Long userId, String authHeader,
+                                       boolean applyImmediately, MindmapJobProgress progress) {
+        return findMindmapMono(mapId)
+            .flatMap(mindmap -> {
+                log.info("비동기 프롬프트 분석 시작 - 마인드맵 ID: {}", mapId);
+                String repoUrl = mindmap.getRepo().getGithubRepoUrl();
+
+                // FastAPI 분석 요청 전, 관련된 모든 파일 캐시를 무효화
+                fileContentCache.evictFileCacheForRepo(repoUrl);
+
+                // FastAPI에 자동 분석 요청
+                progress.report(30, "프롬프트 분석 중");
+                return fastApiClient.createAutoSuggestionsMono(repoUrl, prompt, authHeader)
+                    .publishOn(mindmapScheduler)
+                    .map(suggestionResponse -> {
+                        // 분석 결과를 바탕으로 마인드맵 그래프 데이터 업데이트 및 캐시 갱신
+                        progress.report(80, "마인드맵 갱신 중");
+                        mindmapService.updateMindmapFromPromptAnalysis(mapId, authHeader);
+
+                        // 분석 결과를 바탕으로 PromptHistory 생성 및 SSE 알림
+                        PromptHistory newHistory = promptHistoryService.createPromptHistoryFromSuggestion(mapId, prompt, suggestionResponse);
+
+                        // 프롬프트 적용 여부 확인
+                        if (applyImmediately) {
+                            promptHistoryService.applyPromptHistory(mapId, newHistory.getId(), userId);
+                        }
+                        return mindmap;
+                    });
+            })
+            .doOnNext(mindmap -> {
+                if (applyImmediately) {
+                    log.info("비동기 프롬프트 분석 및 적용 성공 - 마인드맵 ID: {}", mapId);
+                    handleSuccessAndNotify(mindmap, userId, "프롬프트 분석 및 적용이", ANALYSIS_PROMPT);
+                } else {
+                    log.info("비동기 프롬프트 분석 성공 - 마인드맵 ID: {}", mapId);
+                    handleSuccessAndNotify(mindmap, userId, "프롬프트 분석이", ANALYSIS_PROMPT);
+                }
+            });
+    }
 
-        } catch (Exception e) {
-            log.error("비동기 프롬프트 분석 실패 - 마인드맵 ID: {}, 원인: {}", mapId, e.getMessage(), e);
-            // 실패 알림 전송
-            if (mindmap != null) {
-                handleFailureAndNotify(e, userId, mindmap.getRepo().getGithubRepoUrl(), "프롬프트 분석에", ANALYSIS_PROMPT);
-            }
+    /**
+     * 작업 최종 실패 알림 (재시도가 모두 끝난 뒤 워커가 호출)
+     * @param target 로그용 대상 (저장소 URL 또는 마인드맵 ID)
+     */
+    public void notifyFailure(MindmapJobType type, Throwable throwable, Long userId, String target) {
+        switch (type) {
+            case CREATE -> handleFailureAndNotify(throwable, userId, target, "생성에", MINDMAP_CREATE);
+            case REFRESH -> handleFailureAndNotify(throwable, userId, target, "새로고침에", MINDMAP_UPDATE);
+            case PROMPT -> handleFailureAndNotify(throwable, userId, target, "프롬프트 분석에", ANALYSIS_PROMPT);
         }
     }
 
+    // 마인드맵 조회 (블로킹 DB 접근이므로 mindmapScheduler 에서 실행)
+    private Mono<Mindmap> findMindmapMono(Long mapId) {
+        return Mono.fromCallable(() -> mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND)))
+            .subscribeOn(mindmapScheduler);
+    }
 
     // 성공 알림 (메시지 동적 생성)
     private void handleSuccessAndNotify(Mindmap mindmap, Long userId, String action, NotificationType type) {
@@ -0,0 +1,424 @@
+package com.teamEWSN.gitdeun.mindmap.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamEWSN.gitdeun.common.sse.SseEventBus;
+import com.teamEWSN.gitdeun.mindmap.service.MindmapSseService.ConnectedUserDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마인드맵 접속자(presence) 관리
+ *
+ * 마인드맵마다 Redis Hash 세 개를 둡니다.
+ * - 접속 수: "userId:instanceId" → 그 인스턴스에 열린 연결 수
+ * - 사용자별 합계: userId → 모든 인스턴스의 연결 수 합
+ * - 사용자 정보: userId → 프로필
+ * 인스턴스는 자신이 가진 연결 수(절대값)를 스크립트로 기록하고 합계는 차이만큼만 조정하므로,
+ * 순서가 뒤바뀐 호출이 있어도 음수가 되지 않고 다음 heartbeat 에서 로컬 값으로 맞춰집니다.
+ * - 합계가 0 ↔ 1 이상으로 바뀔 때만 입장/퇴장으로 봅니다 (같은 사용자의 여러 탭/인스턴스는 합산).
+ * - 입장/퇴장은 짧은 주기 동안 모았다가 "presence-delta" 와 "user-list-updated" 를 마인드맵당 한 번만 전송합니다.
+ *   새로고침처럼 주기 안에서 퇴장 후 다시 입장하면 아무것도 전송하지 않습니다.
+ * - 인스턴스별 heartbeat 는 인스턴스 단위로 기록하고, 오래 갱신되지 않은 인스턴스(종료된 인스턴스)의 접속 수는
+ *   살아 있는 인스턴스 중 하나가 그 인스턴스가 참여한 마인드맵에서 모두 빼 줍니다 (로컬 접속자 유무와 무관).
+ */
+@Slf4j
+@Service
+public class MindmapPresenceService {
+
+    private static final String INSTANCES_KEY = "mindmap:presence:instances";
+
+    // 한 사용자의 이 인스턴스 접속 수를 주어진 값으로 기록하고 합계를 차이만큼 조정
+    // KEYS: 접속 수, 합계, 사용자 정보, 인스턴스의 마인드맵 목록
+    // ARGV: userId, instanceId, 접속 수, 사용자 정보(퇴장 시 ""), mapId, TTL  → 1: 입장, -1: 퇴장, 0: 변화 없음
+    private static final DefaultRedisScript<Long> SET_CONNECTIONS_SCRIPT = new DefaultRedisScript<>(
+        "local field = ARGV[1] .. ':' .. ARGV[2] " +
+        "local n = tonumber(ARGV[3]) " +
+        "local current = tonumber(redis.call('hget', KEYS[1], field) or '0') " +
+        "if n == current then return 0 end " +
+        "if n > 0 then redis.call('hset', KEYS[1], field, n) else redis.call('hdel', KEYS[1], field) end " +
+        "local total = redis.call('hincrby', KEYS[2], ARGV[1], n - current) " +
+        "local before = total - (n - current) " +
+        "if total <= 0 then " +
+        "  redis.call('hdel', KEYS[2], ARGV[1]) " +
+        "  redis.call('hdel', KEYS[3], ARGV[1]) " +
+        "elseif ARGV[4] ~= '' then " +
+        "  redis.call('hset', KEYS[3], ARGV[1], ARGV[4]) " +
+        "end " +
+        "if n > 0 then " +
+        "  redis.call('sadd', KEYS[4], ARGV[5]) " +
+        "  redis.call('pexpire', KEYS[4], ARGV[6]) " +
+        "end " +
+        "for i = 1, 3 do redis.call('pexpire', KEYS[i], ARGV[6]) end " +
+        "if before <= 0 and total > 0 then return 1 end " +
+        "if before > 0 and total <= 0 then return -1 end " +
+        "return 0",
+        Long.class);
+
+    // 한 인스턴스의 접속 수를 주어진 목록으로 맞춤 (heartbeat 보정 / 종료된 인스턴스 정리)
+    // 목록에 없는 사용자의 해당 인스턴스 접속 수는 제거하고, 남은 항목이 없으면 인스턴스의 마인드맵 목록에서도 제거
+    // KEYS: 접속 수, 합계, 사용자 정보, 인스턴스의 마인드맵 목록
+    // ARGV: instanceId, mapId, TTL, (userId, 접속 수, 사용자 정보)...  → { 입장한 ID..., "", 퇴장한 ID... }
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SYNC_INSTANCE_SCRIPT = new DefaultRedisScript<>(
+        "local joined = {} " +
+        "local left = {} " +
+        "local listed = {} " +
+        "local suffix = ':' .. ARGV[1] " +
+        "local function apply(userId, n, profile) " +
+        "  local field = userId .. suffix " +
+        "  local current = tonumber(redis.call('hget', KEYS[1], field) or '0') " +
+        "  if n == current then return end " +
+        "  if n > 0 then redis.call('hset', KEYS[1], field, n) else redis.call('hdel', KEYS[1], field) end " +
+        "  local total = redis.call('hincrby', KEYS[2], userId, n - current) " +
+        "  local before = total - (n - current) " +
+        "  if total <= 0 then " +
+        "    redis.call('hdel', KEYS[2], userId) " +
+        "    redis.call('hdel', KEYS[3], userId) " +
+        "  elseif profile then " +
+        "    redis.call('hset', KEYS[3], userId, profile) " +
+        "  end " +
+        "  if before <= 0 and total > 0 then table.insert(joined, userId) end " +
+        "  if before > 0 and total <= 0 then table.insert(left, userId) end " +
+        "end " +
+        "for i = 4, #ARGV, 3 do " +
+        "  listed[ARGV[i]] = true " +
+        "  apply(ARGV[i], tonumber(ARGV[i + 1]), ARGV[i + 2]) " +
+        "end " +
+        "local counts = redis.call('hgetall', KEYS[1]) " +
+        "for i = 1, #counts, 2 do " +
+        "  local field = counts[i] " +
+        "  if #field > #suffix and string.sub(field, -#suffix) == suffix then " +
+        "    local userId = string.sub(field, 1, #field - #suffix) " +
+        "    if not listed[userId] then apply(userId, 0, nil) end " +
+        "  end " +
+        "end " +
+        "if #ARGV >= 4 then " +
+        "  redis.call('sadd', KEYS[4], ARGV[2]) " +
+        "  redis.call('pexpire', KEYS[4], ARGV[3]) " +
+        "else " +
+        "  redis.call('srem', KEYS[4], ARGV[2]) " +
+        "end " +
+        "for i = 1, 3 do redis.call('pexpire', KEYS[i], ARGV[3]) end " +
+        "table.insert(joined, '') " +
+        "for _, userId in ipairs(left) do table.insert(joined, userId) end " +
+        "return joined",
+        List.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEventBus sseEventBus;
+    private final long expiryMs;
+    private final long ttlMs;
+
+    // 인스턴스 식별자 (접속 수 필드와 heartbeat 기록에 사용)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 이 인스턴스에 연결된 접속자: 마인드맵 ID → (사용자 ID → 연결 정보)
+    private final Map<Long, Map<Long, LocalPresence>> local = new ConcurrentHashMap<>();
+
+    // 전송 대기 중인 입장/퇴장: 마인드맵 ID → (사용자 ID → 변경)
+    private final Map<Long, Map<Long, Change>> pending = new ConcurrentHashMap<>();
+
+    private record LocalPresence(String profile, int connections) {
+    }
+
+    // present: 주기 시작 전 상태 → 마지막 상태
+    private record Change(boolean presentBefore, boolean presentAfter, ConnectedUserDto user) {
+    }
+
+    /**
+     * 접속자 변경분 ("presence-delta" 이벤트)
+     */
+    public record PresenceDeltaDto(List<ConnectedUserDto> joined, List<Long> left) {
+    }
+
+    public MindmapPresenceService(RedisTemplate<String, String> stringRedisTemplate,
+                                  ObjectMapper objectMapper,
+                                  SseEventBus sseEventBus,
+                                  @Value("${app.mindmap.presence.expiry-ms:60000}") long expiryMs,
+                                  @Value("${app.mindmap.presence.ttl-hours:1}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.sseEventBus = sseEventBus;
+        this.expiryMs = expiryMs;
+        this.ttlMs = ttlHours * 60L * 60L * 1000L;
+    }
+
+    // 첫 heartbeat 전에 종료되어도 정리 대상이 되도록 시작 시 인스턴스 등록
+    @PostConstruct
+    void registerInstance() {
+        try {
+            stringRedisTemplate.opsForZSet().add(INSTANCES_KEY, instanceId, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("접속자 인스턴스 등록 실패 - 인스턴스: {}", instanceId, e);
+        }
+    }
+
+    /**
+     * 연결 추가 (사용자의 첫 연결이면 입장)
+     */
+    public void join(Long mapId, ConnectedUserDto user) {
+        String profile;
+        try {
+            profile = objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            log.error("사용자 정보 직렬화 실패", e);
+            return;
+        }
+        // leave 가 마지막 사용자를 지우며 맵을 제거하는 것과 겹치지 않도록 추가도 원자적 구간 안에서 수행
+        Map<Long, LocalPresence> users = local.compute(mapId, (id, current) -> {
+            Map<Long, LocalPresence> target = current != null ? current : new ConcurrentHashMap<>();
+            target.merge(user.userId(), new LocalPresence(profile, 1),
+                (existing, added) -> new LocalPresence(added.profile(), existing.connections() + 1));
+            return target;
+        });
+
+        setConnections(mapId, user, connectionsOf(users, user.userId()), profile);
+    }
+
+    /**
+     * 연결 제거 (사용자의 마지막 연결이면 퇴장)
+     */
+    public void leave(Long mapId, ConnectedUserDto user) {
+        Map<Long, LocalPresence> users = local.computeIfPresent(mapId, (id, current) -> {
+            current.computeIfPresent(user.userId(), (userId, presence) ->
+                presence.connections() > 1 ? new LocalPresence(presence.profile(), presence.connections() - 1) : null);
+            return current.isEmpty() ? null : current;
+        });
+
+        setConnections(mapId, user, connectionsOf(users, user.userId()), "");
+    }
+
+    // 이 인스턴스의 접속 수를 기록하고, 사용자 합계가 0 ↔ 1 이상으로 바뀌면 입장/퇴장으로 기록
+    private void setConnections(Long mapId, ConnectedUserDto user, int connections, String profile) {
+        try {
+            Long change = stringRedisTemplate.execute(SET_CONNECTIONS_SCRIPT, keys(mapId, instanceId),
+                String.valueOf(user.userId()), instanceId, String.valueOf(connections), profile,
+                String.valueOf(mapId), String.valueOf(ttlMs));
+            if (change != null && change != 0) {
+                record(mapId, user.userId(), change > 0, user);
+            }
+        } catch (Exception e) {
+            log.warn("접속자 갱신 실패 - 마인드맵 ID: {}, 사용자 ID: {} (다음 heartbeat 에서 보정)", mapId, user.userId(), e);
+        }
+    }
+
+    private static int connectionsOf(Map<Long, LocalPresence> users, Long userId) {
+        LocalPresence presence = users != null ? users.get(userId) : null;
+        return presence != null ? presence.connections() : 0;
+    }
+
+    /**
+     * 현재 접속자 목록
+     */
+    public List<ConnectedUserDto> getUsers(Long mapId) {
+        List<Object> profiles;
+        try {
+            profiles = stringRedisTemplate.opsForHash().values(usersKey(mapId));
+        } catch (Exception e) {
+            log.warn("접속자 목록 조회 실패 - 마인드맵 ID: {}", mapId, e);
+            return Collections.emptyList();
+        }
+        return profiles.stream()
+            .map(json -> {
+                try {
+                    return objectMapper.readValue(json.toString(), ConnectedUserDto.class);
+                } catch (JsonProcessingException e) {
+                    log.error("사용자 정보 역직렬화 실패", e);
+                    return null;
+                }
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 모아 둔 입장/퇴장을 마인드맵당 한 번씩 전송 (변경분 + 전체 목록)
+     */
+    @Scheduled(fixedDelayString = "${app.mindmap.presence.broadcast-debounce-ms:500}")
+    public void flush() {
+        for (Long mapId : new ArrayList<>(pending.keySet())) {
+            Map<Long, Change> changes = pending.remove(mapId);
+            if (changes == null) {
+                continue;
+            }
+            List<ConnectedUserDto> joined = new ArrayList<>();
+            List<Long> left = new ArrayList<>();
+            changes.forEach((userId, change) -> {
+                if (change.presentBefore() == change.presentAfter()) {
+                    return; // 주기 안에서 퇴장 후 재입장 (또는 그 반대)
+                }
+                if (change.presentAfter()) {
+                    if (change.user() != null) {
+                        joined.add(change.user());
+                    }
+                } else {
+                    left.add(userId);
+                }
+            });
+            if (joined.isEmpty() && left.isEmpty()) {
+                continue;
+            }
+            String topic = MindmapSseService.topic(mapId);
+            sseEventBus.publish(topic, "presence-delta", new PresenceDeltaDto(joined, left), false);
+            sseEventBus.publish(topic, "user-list-updated", getUsers(mapId), true);
+        }
+    }
+
+    /**
+     * 이 인스턴스의 heartbeat 기록, 접속 수 보정 및 종료된 인스턴스 정리
+     */
+    @Scheduled(fixedDelayString = "${app.mindmap.presence.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().add(INSTANCES_KEY, instanceId, now);
+        } catch (Exception e) {
+            log.warn("접속자 heartbeat 기록 실패 - 인스턴스: {}", instanceId, e);
+            return;
+        }
+
+        // 로컬 접속자가 있는 마인드맵 + 이전에 기록했던 마인드맵 (해제 실패로 남은 접속 수 보정)
+        Set<Long> mapIds = new HashSet<>(local.keySet());
+        mapIds.addAll(recordedMapIds(instanceId));
+        for (Long mapId : mapIds) {
+            syncInstance(mapId, instanceId, local.getOrDefault(mapId, Map.of()));
+        }
+
+        removeExpiredInstances(now);
+    }
+
+    // heartbeat 가 만료된 인스턴스의 접속 수를 해당 인스턴스가 참여한 마인드맵에서 모두 제거
+    private void removeExpiredInstances(long now) {
+        Set<String> expired;
+        try {
+            expired = stringRedisTemplate.opsForZSet().rangeByScore(INSTANCES_KEY, 0, now - expiryMs);
+        } catch (Exception e) {
+            log.warn("만료된 인스턴스 조회 실패", e);
+            return;
+        }
+        if (expired == null) {
+            return;
+        }
+
+        for (String expiredId : expired) {
+            if (expiredId.equals(instanceId)) {
+                continue;
+            }
+            for (Long mapId : recordedMapIds(expiredId)) {
+                syncInstance(mapId, expiredId, Map.of());
+            }
+            try {
+                stringRedisTemplate.delete(instanceMapsKey(expiredId));
+                stringRedisTemplate.opsForZSet().remove(INSTANCES_KEY, expiredId);
+                log.info("종료된 인스턴스의 접속자 정리 완료 - 인스턴스: {}", expiredId);
+            } catch (Exception e) {
+                log.warn("종료된 인스턴스 정리 실패 - 인스턴스: {}", expiredId, e);
+            }
+        }
+    }
+
+    // 인스턴스의 접속 수를 주어진 로컬 접속자 목록으로 맞추고 입장/퇴장 기록
+    private void syncInstance(Long mapId, String targetInstanceId, Map<Long, LocalPresence> users) {
+        List<String> args = new ArrayList<>(List.of(targetInstanceId, String.valueOf(mapId), String.valueOf(ttlMs)));
+        users.forEach((userId, presence) -> {
+            args.add(String.valueOf(userId));
+            args.add(String.valueOf(presence.connections()));
+            args.add(presence.profile());
+        });
+
+        try {
+            List<?> result = stringRedisTemplate.execute(SYNC_INSTANCE_SCRIPT, keys(mapId, targetInstanceId), args.toArray());
+            if (result == null) {
+                return;
+            }
+            boolean left = false;
+            for (Object value : result) {
+                String userId = value.toString();
+                if (userId.isEmpty()) {
+                    left = true;
+                    continue;
+                }
+                Long id = Long.valueOf(userId);
+                if (left) {
+                    record(mapId, id, false, null);
+                } else {
+                    LocalPresence presence = users.get(id);
+                    record(mapId, id, true, presence != null ? readProfile(presence.profile()) : null);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("접속자 보정 실패 - 마인드맵 ID: {}, 인스턴스: {}", mapId, targetInstanceId, e);
+        }
+    }
+
+    private Set<Long> recordedMapIds(String targetInstanceId) {
+        try {
+            Set<String> members = stringRedisTemplate.opsForSet().members(instanceMapsKey(targetInstanceId));
+            if (members == null) {
+                return Set.of();
+            }
+            Set<Long> mapIds = new HashSet<>();
+            for (String member : members) {
+                mapIds.add(Long.valueOf(member));
+            }
+            return mapIds;
+        } catch (Exception e) {
+            log.warn("인스턴스의 마인드맵 목록 조회 실패 - 인스턴스: {}", targetInstanceId, e);
+            return Set.of();
+        }
+    }
+
+    // 입장/퇴장 기록 (주기 시작 전 상태는 첫 변경 기준)
+    private void record(Long mapId, Long userId, boolean present, ConnectedUserDto user) {
+        pending.compute(mapId, (id, changes) -> {
+            Map<Long, Change> result = changes != null ? changes : new HashMap<>();
+            Change previous = result.get(userId);
+            boolean presentBefore = previous != null ? previous.presentBefore() : !present;
+            result.put(userId, new Change(presentBefore, present, user != null ? user : previous != null ? previous.user() : null));
+            return result;
+        });
+    }
+
+    private ConnectedUserDto readProfile(String profile) {
+        try {
+            return objectMapper.readValue(profile, ConnectedUserDto.class);
+        } catch (JsonProcessingException e) {
+            log.error("사용자 정보 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private static List<String> keys(Long mapId, String instanceId) {
+        return List.of(countsKey(mapId), "mindmap:" + mapId + ":presence:totals", usersKey(mapId), instanceMapsKey(instanceId));
+    }
+
+    private static String countsKey(Long mapId) {
+        return "mindmap:" + mapId + ":presence:connections";
+    }
+
+    private static String usersKey(Long mapId) {
+        return "mindmap:" + mapId + ":presence:users";
+    }
+
+    private static String instanceMapsKey(String instanceId) {
+        return "mindmap:presence:instance:" + instanceId + ":maps";
+    }
+}
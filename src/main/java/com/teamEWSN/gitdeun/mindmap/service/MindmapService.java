@@ -7,7 +7,9 @@ import com.teamEWSN.gitdeun.common.webhook.dto.WebhookUpdateDto;
 import com.teamEWSN.gitdeun.mindmap.dto.*;
 import com.teamEWSN.gitdeun.mindmap.entity.Mindmap;
 import com.teamEWSN.gitdeun.mindmap.mapper.MindmapMapper;
+import com.teamEWSN.gitdeun.mindmap.util.IndexedMindmapGraph;
 import com.teamEWSN.gitdeun.mindmap.util.MindmapGraphCache;
+import com.teamEWSN.gitdeun.mindmap.util.MindmapGraphDiff;
 import com.teamEWSN.gitdeun.mindmapmember.entity.MindmapMember;
 import com.teamEWSN.gitdeun.mindmapmember.entity.MindmapRole;
 import com.teamEWSN.gitdeun.mindmapmember.repository.MindmapMemberRepository;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
@@ -41,6 +44,7 @@ public class MindmapService {
     private final RepoRepository repoRepository;
     private final UserRepository userRepository;
     private final MindmapGraphCache mindmapGraphCache;
+    private final TransactionTemplate transactionTemplate;
 
     // FastAPI 분석 결과를 받아 마인드맵을 생성하고 DB에 저장 (단일 트랜잭션)
     @Transactional
@@ -65,6 +69,7 @@ public class MindmapService {
 
         // 마인드맵 소유자 멤버로 등록
         mindmapMemberRepository.save(MindmapMember.of(mindmap, user, MindmapRole.OWNER));
+        mindmapAuthService.evict(mindmap.getId(), user.getId());
 
         // 방문 기록 생성
         visitHistoryService.createVisitHistory(user, mindmap);
@@ -74,7 +79,7 @@ public class MindmapService {
     }
 
     // 마인드맵 상세 정보 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public MindmapDetailResponseDto getMindmap(Long mapId, Long userId, String authHeader) {
         if (!mindmapAuthService.hasView(mapId, userId)) {
             throw new GlobalException(ErrorCode.FORBIDDEN_ACCESS);
@@ -83,10 +88,11 @@ public class MindmapService {
         Mindmap mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
             .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
 
-        //  방문 기록 생성 또는 갱신
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-            .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND_BY_ID));
-        visitHistoryService.recordOrUpdateVisit(user, mindmap);
+        //  방문 기록 생성 또는 갱신 (write-behind)
+        visitHistoryService.recordOrUpdateVisit(userId, mapId);
+
+        // 그래프 버전은 그래프보다 먼저 조회 (이후 변경분 적용 기준)
+        Long graphVersion = mindmapSseService.getGraphVersion(mapId);
 
         // 캐싱된 그래프 데이터 조회
         MindmapGraphResponseDto graphData = mindmapGraphCache.getGraphWithHybridCache(
@@ -95,7 +101,7 @@ public class MindmapService {
             authHeader
         );
 
-        return mindmapMapper.toDetailResponseDto(mindmap, graphData);
+        return mindmapMapper.toDetailResponseDto(mindmap, graphData, graphVersion);
     }
 
     //마인드맵 제목 수정
@@ -119,52 +125,69 @@ public class MindmapService {
 
     /**
      * 분석 결과를 바탕으로 기존 마인드맵을 업데이트 (새로고침)
+     * - DB 갱신만 트랜잭션에서 수행하고, 그래프 갱신과 SSE 전송은 커밋 이후 트랜잭션 밖에서 실행
      */
-    @Transactional
     public MindmapDetailResponseDto updateMindmapFromAnalysis(Long mapId, String authHeader, AnalysisResultDto analysisResult) {
-        Mindmap mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
-            .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
+        GraphUpdateTarget target = transactionTemplate.execute(status -> {
+            Mindmap mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
 
-        mindmap.getRepo().updateWithAnalysis(analysisResult);
+            // 변경분 계산을 위해 갱신 전 커밋 시각 보관 (이전 그래프는 이 시각으로 캐싱되어 있음)
+            LocalDateTime previousCommitTime = mindmap.getRepo().getLastCommit();
+            mindmap.getRepo().updateWithAnalysis(analysisResult);
+            return toGraphUpdateTarget(mindmap, previousCommitTime);
+        });
 
         // 공통 로직 호출
-        return evictCacheAndBroadcastUpdate(mindmap, authHeader);
+        return evictCacheAndBroadcastUpdate(target, authHeader);
     }
 
     /**
      * 프롬프트 분석 후 마인드맵을 업데이트 (캐시 갱신 및 SSE 브로드캐스트)
      */
-    @Transactional
     public MindmapDetailResponseDto updateMindmapFromPromptAnalysis(Long mapId, String authHeader) {
-        Mindmap mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
-            .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
+        GraphUpdateTarget target = transactionTemplate.execute(status -> {
+            Mindmap mindmap = mindmapRepository.findByIdAndDeletedAtIsNull(mapId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.MINDMAP_NOT_FOUND));
+
+            // 커밋 변경 없음
+            return toGraphUpdateTarget(mindmap, mindmap.getRepo().getLastCommit());
+        });
 
         // 공통 로직 호출
-        return evictCacheAndBroadcastUpdate(mindmap, authHeader);
+        return evictCacheAndBroadcastUpdate(target, authHeader);
     }
 
     /**
-     * 마인드맵 업데이트 시 공통 로직 (캐시 무효화, 새 데이터 조회, SSE 전송)
+     * 마인드맵 업데이트 시 공통 로직 (캐시 무효화, 새 데이터 조회, 변경분 SSE 전송)
+     * - 락 대기와 FastAPI 조회가 길어질 수 있으므로 트랜잭션 밖에서 호출해야 함
      */
-    private MindmapDetailResponseDto evictCacheAndBroadcastUpdate(Mindmap mindmap, String authHeader) {
-        LocalDateTime lastCommitTime = mindmap.getRepo().getLastCommit();
-
-        // 그래프 캐시 무효화
-        mindmapGraphCache.evictCache(mindmap.getRepo().getGithubRepoUrl(), lastCommitTime);
-
-        // 새로운 그래프 데이터 조회
-        MindmapGraphResponseDto graphData = mindmapGraphCache.getGraphWithHybridCache(
-            mindmap.getRepo().getGithubRepoUrl(),
-            lastCommitTime,
-            authHeader
-        );
-
-        // DTO 변환 및 SSE 브로드캐스트
-        MindmapDetailResponseDto responseDto = mindmapMapper.toDetailResponseDto(mindmap, graphData);
-        mindmapSseService.broadcastUpdate(mindmap.getId(), responseDto);
-
-        log.info("마인드맵 데이터 업데이트 및 SSE 브로드캐스트 완료 - ID: {}", mindmap.getId());
-        return responseDto;
+    private MindmapDetailResponseDto evictCacheAndBroadcastUpdate(GraphUpdateTarget target, String authHeader) {
+        String repoUrl = target.repoUrl();
+        LocalDateTime lastCommitTime = target.lastCommitTime();
+
+        // 같은 저장소의 갱신은 직렬화하여 그래프 버전 순서와 변경분 순서를 일치시킴
+        return mindmapGraphCache.runSerializedUpdate(repoUrl, ordered -> {
+            // 변경분 계산을 위해 무효화 전 그래프 확보 (캐시에 없거나 락을 얻지 못했으면 전체 전송)
+            IndexedMindmapGraph previousGraph = ordered
+                ? mindmapGraphCache.peekIndexedGraph(repoUrl, target.previousCommitTime())
+                : null;
+
+            // 그래프 캐시 무효화
+            mindmapGraphCache.evictCache(repoUrl, lastCommitTime);
+
+            // 새로운 그래프 데이터 조회
+            IndexedMindmapGraph graph = mindmapGraphCache.getIndexedGraph(repoUrl, lastCommitTime, authHeader);
+            MindmapGraphResponseDto graphData = graph.toResponseDto();
+
+            // 변경분 또는 전체 데이터 SSE 브로드캐스트
+            Long graphVersion = mindmapSseService.broadcastGraphUpdate(target.mapId(),
+                MindmapGraphDiff.between(previousGraph, graph),
+                version -> target.withGraph(graphData, version));
+
+            log.info("마인드맵 데이터 업데이트 및 SSE 브로드캐스트 완료 - ID: {}", target.mapId());
+            return target.withGraph(graphData, graphVersion);
+        });
     }
 
     /**
@@ -184,6 +207,7 @@ public class MindmapService {
         mindmapGraphCache.evictCache(mindmap.getRepo().getGithubRepoUrl(), mindmap.getRepo().getLastCommit());
 
         mindmap.softDelete();
+        mindmapAuthService.evictMindmap(mapId);
         log.info("마인드맵 소프트 삭제 완료 (DB) - ID: {}", mapId);
 
         return mindmap.getRepo(); // 후처리를 위해 Repo 반환
@@ -193,34 +217,57 @@ public class MindmapService {
 
     /**
      * TODO: Webhook을 통한 마인드맵 업데이트
+     * - DB 갱신만 트랜잭션에서 수행하고, 그래프 갱신과 SSE 전송은 커밋 이후 트랜잭션 밖에서 실행
      */
-    @Transactional
     public void updateMindmapFromWebhook(WebhookUpdateDto dto, String authHeader) {
-        Repo repo = repoRepository.findByGithubRepoUrl(dto.getRepoUrl())
-            .orElseThrow(() -> new GlobalException(ErrorCode.REPO_NOT_FOUND_BY_URL));
-
-        List<Mindmap> mindmapsToUpdate = repo.getMindmaps().stream()
-            .filter(mindmap -> !mindmap.isDeleted())
-            .toList();
-
-        repo.updateWithWebhookData(dto);
-        LocalDateTime lastCommitTime = repo.getLastCommit();
-
-        // Webhook 업데이트 시 관련 캐시 무효화
-        mindmapGraphCache.evictCache(repo.getGithubRepoUrl(), lastCommitTime);
-
-        for (Mindmap mindmap : mindmapsToUpdate) {
-            // 새로운 그래프 데이터로 업데이트된 응답 생성
-            MindmapGraphResponseDto graphData = mindmapGraphCache.getGraphWithHybridCache(
-                repo.getGithubRepoUrl(),
-                lastCommitTime,
-                authHeader
-            );
-
-            MindmapDetailResponseDto responseDto = mindmapMapper.toDetailResponseDto(mindmap, graphData);
-            mindmapSseService.broadcastUpdate(mindmap.getId(), responseDto);
-            log.info("Webhook으로 마인드맵 ID {} 업데이트 및 SSE 전송 완료", mindmap.getId());
+        List<GraphUpdateTarget> targets = transactionTemplate.execute(status -> {
+            Repo repo = repoRepository.findByGithubRepoUrl(dto.getRepoUrl())
+                .orElseThrow(() -> new GlobalException(ErrorCode.REPO_NOT_FOUND_BY_URL));
+
+            LocalDateTime previousCommitTime = repo.getLastCommit();
+            repo.updateWithWebhookData(dto);
+
+            List<GraphUpdateTarget> mindmapsToUpdate = repo.getMindmaps().stream()
+                .filter(mindmap -> !mindmap.isDeleted())
+                .map(mindmap -> toGraphUpdateTarget(mindmap, previousCommitTime))
+                .toList();
+            if (mindmapsToUpdate.isEmpty()) {
+                // Webhook 업데이트 시 관련 캐시 무효화
+                mindmapGraphCache.evictCache(repo.getGithubRepoUrl(), repo.getLastCommit());
+            }
+            return mindmapsToUpdate;
+        });
+
+        if (targets.isEmpty()) {
+            return;
         }
+
+        GraphUpdateTarget first = targets.get(0);
+        String repoUrl = first.repoUrl();
+        LocalDateTime lastCommitTime = first.lastCommitTime();
+
+        // 같은 저장소의 갱신은 직렬화하여 그래프 버전 순서와 변경분 순서를 일치시킴
+        mindmapGraphCache.runSerializedUpdate(repoUrl, ordered -> {
+            // 이전 커밋 그래프 (변경분 계산용, 캐시에 없거나 락을 얻지 못했으면 전체 전송)
+            IndexedMindmapGraph previousGraph = ordered
+                ? mindmapGraphCache.peekIndexedGraph(repoUrl, first.previousCommitTime())
+                : null;
+
+            // Webhook 업데이트 시 관련 캐시 무효화
+            mindmapGraphCache.evictCache(repoUrl, lastCommitTime);
+
+            // 같은 저장소의 마인드맵은 그래프를 공유하므로 조회와 변경분 계산은 한 번만 수행
+            IndexedMindmapGraph graph = mindmapGraphCache.getIndexedGraph(repoUrl, lastCommitTime, authHeader);
+            MindmapGraphDiff diff = MindmapGraphDiff.between(previousGraph, graph);
+            MindmapGraphResponseDto graphData = graph.toResponseDto();
+
+            for (GraphUpdateTarget target : targets) {
+                mindmapSseService.broadcastGraphUpdate(target.mapId(), diff,
+                    version -> target.withGraph(graphData, version));
+                log.info("Webhook으로 마인드맵 ID {} 업데이트 및 SSE 전송 완료", target.mapId());
+            }
+            return null;
+        });
     }
 
     // === Private Helper Methods ===
@@ -249,4 +296,26 @@ public class MindmapService {
         return "마인드맵 " + (userMindmapCount + 1);
     }
 
+    // 그래프 갱신에 필요한 값은 트랜잭션 안에서 미리 읽어둠 (커밋 이후 지연 로딩 방지)
+    private GraphUpdateTarget toGraphUpdateTarget(Mindmap mindmap, LocalDateTime previousCommitTime) {
+        return new GraphUpdateTarget(
+            mindmap.getId(),
+            mindmap.getRepo().getGithubRepoUrl(),
+            previousCommitTime,
+            mindmap.getRepo().getLastCommit(),
+            mindmapMapper.toDetailResponseDto(mindmap)
+        );
+    }
+
+    private record GraphUpdateTarget(Long mapId, String repoUrl, LocalDateTime previousCommitTime,
+                                     LocalDateTime lastCommitTime, MindmapDetailResponseDto detail) {
+
+        MindmapDetailResponseDto withGraph(MindmapGraphResponseDto graphData, Long graphVersion) {
+            return detail.toBuilder()
+                .mindmapGraph(graphData)
+                .graphVersion(graphVersion)
+                .build();
+        }
+    }
+
 }
\ No newline at end of file
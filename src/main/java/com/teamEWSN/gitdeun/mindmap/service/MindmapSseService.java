@@ -1,22 +1,25 @@
 package com.teamEWSN.gitdeun.mindmap.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamEWSN.gitdeun.common.jwt.CustomUserDetails;
+import com.teamEWSN.gitdeun.common.sse.SseEventBus;
+import com.teamEWSN.gitdeun.common.sse.SseHub;
 import com.teamEWSN.gitdeun.mindmap.dto.MindmapDetailResponseDto;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphPatchDto;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapJobResponseDto;
 import com.teamEWSN.gitdeun.mindmap.dto.prompt.PromptPreviewResponseDto;
+import com.teamEWSN.gitdeun.mindmap.util.MindmapGraphDiff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -25,71 +28,125 @@ public class MindmapSseService {
 
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, String> redisTemplate;
-    private record SseConnection(Long userId, String nickname, String profileImage, SseEmitter emitter) {}
-    private final Map<Long, List<SseConnection>> connectionsByMapId = new ConcurrentHashMap<>();
+    private final SseHub sseHub;
+    private final SseEventBus sseEventBus;
+    private final MindmapPresenceService mindmapPresenceService;
 
     // 타임아웃 설정(1시간)
     private static final long TIMEOUT_MS = 60L * 60L * 1000L;
 
+    // 변경된 노드/엣지 수가 전체의 이 비율을 넘으면 변경분 대신 전체 데이터 전송
+    @Value("${app.mindmap.graph-patch.max-change-ratio:0.5}")
+    private double maxPatchChangeRatio;
+
+    @Value("${app.mindmap.graph-patch.version-ttl-hours:24}")
+    private long graphVersionTtlHours;
+
     /**
      * 마인드맵 실시간 연결 생성
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (이후 이벤트를 재전송, 최초 연결이면 null)
      */
-    public SseEmitter createConnection(Long mapId, CustomUserDetails userDetails) {
-        SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
-
-        // 사용자 정보와 Emitter를 함께 SseConnection 객체로 감싸서 저장
-        var connection = new SseConnection(
-            userDetails.getId(),
-            userDetails.getNickname(),
-            userDetails.getProfileImage(),
-            emitter
-        );
+    public SseEmitter createConnection(Long mapId, CustomUserDetails userDetails, String lastEventId) {
+        ConnectedUserDto user = new ConnectedUserDto(
+            userDetails.getId(), userDetails.getNickname(), userDetails.getProfileImage());
 
-        connectionsByMapId.computeIfAbsent(mapId, k -> new CopyOnWriteArrayList<>()).add(connection);
+        // 연결 종료(완료/타임아웃/오류/정리) 시 접속자 목록에서 제거
+        SseHub.Connection connection = sseHub.subscribe(topic(mapId), TIMEOUT_MS, () -> removeConnection(mapId, user),
+            lastEventId != null ? () -> sseEventBus.replay(topic(mapId), lastEventId) : null);
 
-        try {
-            // Redis Set에 현재 접속자 정보 추가
-            String redisKey = "mindmap:" + mapId + ":users";
-            String userData = objectMapper.writeValueAsString(
-                new ConnectedUserDto(userDetails.getId(), userDetails.getNickname(), userDetails.getProfileImage())
-            );
-            redisTemplate.opsForSet().add(redisKey, userData);
-
-            // Redis Set의 만료 시간을 설정하여 비정상 종료된 연결 처리
-            redisTemplate.expire(redisKey, 1, TimeUnit.HOURS);
-
-        } catch (JsonProcessingException e) {
-            log.error("사용자 정보 직렬화 실패", e);
-        }
-
-        // 연결 종료 시 정리 (기존 로직 개선)
-        emitter.onCompletion(() -> removeConnection(mapId, connection));
-        emitter.onTimeout(() -> removeConnection(mapId, connection));
-        emitter.onError(throwable -> {
-            log.error("SSE 연결 오류 - 마인드맵 ID: {}, 사용자 ID: {}", mapId, userDetails.getId(), throwable);
-            removeConnection(mapId, connection);
-        });
+        // 접속자 등록 (입장 알림은 모아서 전송)
+        mindmapPresenceService.join(mapId, user);
 
         // 연결 확인용 초기 메시지
-        sendToEmitter(emitter, "마인드맵 " + mapId + " 실시간 연결 성공");
+        sendToConnection(connection, "마인드맵 " + mapId + " 실시간 연결 성공");
         log.info("SSE 연결 생성 - 마인드맵 ID: {}, 사용자 ID: {}", mapId, userDetails.getId());
-
-        broadcastUserListUpdate(mapId);
-        return emitter;
+        return connection.emitter();
     }
 
     /**
-     * 마인드맵 업데이트 브로드캐스트
+     * 마인드맵 업데이트 브로드캐스트 (모든 인스턴스의 구독자에게 전송, 전송 전 여러 번 갱신되면 최신 상태만 전송)
      */
     public void broadcastUpdate(Long mapId, MindmapDetailResponseDto data) {
-        sendToMapSubscribers(mapId, "mindmap-update", data);
+        sseEventBus.publish(topic(mapId), "mindmap-update", data, true);
+    }
+
+    /**
+     * 그래프 갱신 브로드캐스트
+     * 변경분이 작으면 "mindmap-patch" 로 변경분만, 비교할 수 없거나 변경이 크면 "mindmap-update" 로 전체 데이터를 전송합니다.
+     * 클라이언트는 patch 의 baseVersion 이 자신의 버전과 다르면 전체 데이터를 다시 조회합니다.
+     * 버전 순서가 변경분 순서와 같아야 하므로 변경분 전송은 MindmapGraphCache.runSerializedUpdate 안에서 호출해야 합니다.
+     * @param diff     이전 그래프와의 변경 내역 (비교할 수 없으면 null)
+     * @param snapshot 그래프 버전 → 전체 데이터 (전체 전송이 필요할 때만 호출)
+     * @return 갱신 후 그래프 버전 (알 수 없으면 null)
+     */
+    public Long broadcastGraphUpdate(Long mapId, MindmapGraphDiff diff,
+                                     Function<Long, MindmapDetailResponseDto> snapshot) {
+        if (diff != null && diff.isEmpty()) {
+            log.debug("그래프 변경 없음 - 브로드캐스트 생략 (마인드맵 ID: {})", mapId);
+            return getGraphVersion(mapId);
+        }
+
+        Long version = nextGraphVersion(mapId);
+        int total = diff != null ? Math.max(1, diff.getNodeCount() + diff.getEdgeCount()) : 0;
+        if (diff == null || version == null || diff.changeCount() > maxPatchChangeRatio * total) {
+            broadcastUpdate(mapId, snapshot.apply(version));
+            return version;
+        }
+
+        MindmapGraphPatchDto patch = MindmapGraphPatchDto.builder()
+            .mindmapId(mapId)
+            .baseVersion(version - 1)
+            .version(version)
+            .nodeCount(diff.getNodeCount())
+            .addedNodes(diff.getAddedNodes())
+            .updatedNodes(diff.getUpdatedNodes())
+            .removedNodeKeys(diff.getRemovedNodeKeys())
+            .addedEdges(diff.getAddedEdges())
+            .removedEdges(diff.getRemovedEdges())
+            .build();
+        sseEventBus.publish(topic(mapId), "mindmap-patch", patch, false);
+        log.debug("그래프 변경분 브로드캐스트 - 마인드맵 ID: {}, 버전: {}, 변경 수: {}", mapId, version, diff.changeCount());
+        return version;
+    }
+
+    /**
+     * 현재 그래프 버전 (갱신 이력이 없으면 0, Redis 장애 시 null)
+     * 전체 데이터 조회 시 그래프보다 먼저 읽어야 조회 도중 갱신되어도 이후 변경분을 놓치지 않습니다.
+     */
+    public Long getGraphVersion(Long mapId) {
+        try {
+            String version = redisTemplate.opsForValue().get(graphVersionKey(mapId));
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (Exception e) {
+            log.warn("그래프 버전 조회 실패 - 마인드맵 ID: {}", mapId, e);
+            return null;
+        }
+    }
+
+    private Long nextGraphVersion(Long mapId) {
+        try {
+            String redisKey = graphVersionKey(mapId);
+            Long version = redisTemplate.opsForValue().increment(redisKey);
+            redisTemplate.expire(redisKey, graphVersionTtlHours, TimeUnit.HOURS);
+            return version;
+        } catch (Exception e) {
+            log.warn("그래프 버전 증가 실패 - 전체 데이터 전송 (마인드맵 ID: {})", mapId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 마인드맵 작업(새로고침/프롬프트 분석) 진행 상황 브로드캐스트 (최신 상태만 전송)
+     */
+    public void broadcastJobProgress(Long mapId, MindmapJobResponseDto progress) {
+        sseEventBus.publish(topic(mapId), "job-progress", progress, true);
     }
 
     /**
      * 새로운 프롬프트 미리보기 준비 완료 브로드캐스트
      */
     public void broadcastPromptReady(Long mapId, PromptPreviewResponseDto data) {
-        sendToMapSubscribers(mapId, "prompt-ready", data);
+        sseEventBus.publish(topic(mapId), "prompt-ready", data, false);
     }
 
 
@@ -102,7 +159,7 @@ public class MindmapSseService {
             "historyId", historyId,
             "message", "새로운 프롬프트가 적용되었습니다."
         );
-        sendToMapSubscribers(mapId, "prompt-applied", eventData);
+        sseEventBus.publish(topic(mapId), "prompt-applied", eventData, false);
     }
 
     /**
@@ -114,89 +171,29 @@ public class MindmapSseService {
             "newTitle", newTitle,
             "message", "마인드맵 제목이 변경되었습니다."
         );
-        sendToMapSubscribers(mapId, "title-changed", eventData);
+        sseEventBus.publish(topic(mapId), "title-changed", eventData, true);
     }
 
     /**
-     * 특정 마인드맵의 모든 구독자에게 이벤트 전송
+     * 개별 연결에 초기 메시지 전송
      */
-    private void sendToMapSubscribers(Long mapId, String eventName, Object data) {
-        List<SseConnection> connections = connectionsByMapId.get(mapId);
-        if (connections == null || connections.isEmpty()) {
-            log.debug("마인드맵 ID {} 에 연결된 클라이언트가 없음", mapId);
-            return;
-        }
-
-        String jsonData;
+    private void sendToConnection(SseHub.Connection connection, Object data) {
         try {
-            jsonData = objectMapper.writeValueAsString(data);
-        } catch (Exception e) {
-            log.error("SSE 데이터 직렬화 실패 - 마인드맵 ID: {}", mapId, e);
-            return;
-        }
-
-        List<SseConnection> deadConnections = new CopyOnWriteArrayList<>();
-
-        connections.forEach(connection -> {
-            try {
-                connection.emitter().send(SseEmitter.event().name(eventName).data(jsonData));
-            } catch (IOException e) {
-                deadConnections.add(connection);
-                log.warn("SSE 전송 실패 - 마인드맵 ID: {}, 사용자 ID: {}", mapId, connection.userId(), e);
-            }
-        });
-
-        // 실패한 연결 정리
-        deadConnections.forEach(connection -> removeConnection(mapId, connection));
-
-        log.debug("SSE 브로드캐스트 완료 - 마인드맵 ID: {}, 이벤트: {}, 성공: {}, 실패: {}",
-            mapId, eventName, connections.size() - deadConnections.size(), deadConnections.size());
-    }
-
-    /**
-     * 개별 emitter에게 초기 메시지 전송
-     */
-    private void sendToEmitter(SseEmitter emitter, Object data) {
-        try {
-            String jsonData = objectMapper.writeValueAsString(data);
-            emitter.send(SseEmitter.event().name("connected").data(jsonData));
+            connection.send("connected", objectMapper.writeValueAsString(data));
         } catch (IOException e) {
             log.warn("초기 SSE 메시지 전송 실패", e);
         }
     }
 
-    // 연결 종료 시 SseConnection 객체를 찾아 제거
-    private void removeConnection(Long mapId, SseConnection connection) {
-        List<SseConnection> connections = connectionsByMapId.get(mapId);
-        if (connections != null && connections.remove(connection)) {
-            try {
-                // Redis Set에서 접속 종료한 사용자 정보 제거
-                String redisKey = "mindmap:" + mapId + ":users";
-                String userData = objectMapper.writeValueAsString(
-                    new ConnectedUserDto(connection.userId(), connection.nickname(), connection.profileImage())
-                );
-                redisTemplate.opsForSet().remove(redisKey, userData);
-
-            } catch (JsonProcessingException e) {
-                log.error("사용자 정보 직렬화 실패 (연결 종료)", e);
-            }
-            broadcastUserListUpdate(mapId);
-            log.info("SSE 연결 해제 및 Redis 업데이트 - 마인드맵 ID: {}, 사용자 ID: {}", mapId, connection.userId());
-        }
-    }
-
-    // 사용자 목록 변경을 모든 클라이언트에게 브로드캐스트
-    public void broadcastUserListUpdate(Long mapId) {
-        // 현재 접속자 목록
-        List<ConnectedUserDto> connectedUsers = getConnectedUsers(mapId);
-        // "user-list-updated" 라는 이벤트 이름으로 현재 접속자 목록을 전송
-        sendToMapSubscribers(mapId, "user-list-updated", connectedUsers);
+    // 연결 종료 시 접속자 정보 제거 (퇴장 알림은 모아서 전송)
+    private void removeConnection(Long mapId, ConnectedUserDto user) {
+        mindmapPresenceService.leave(mapId, user);
+        log.info("SSE 연결 해제 - 마인드맵 ID: {}, 사용자 ID: {}", mapId, user.userId());
     }
 
     // 접속된 사용자 수 조회
     public int getConnectionCount(Long mapId) {
-        List<SseConnection> connections = connectionsByMapId.get(mapId);
-        return connections != null ? connections.size() : 0;
+        return sseHub.subscriberCount(topic(mapId));
     }
 
     // 접속자 정보 DTO
@@ -204,23 +201,14 @@ public class MindmapSseService {
 
     // 현재 접속 중인 사용자 목록을 반환하는 서비스 메서드
     public List<ConnectedUserDto> getConnectedUsers(Long mapId) {
-        String redisKey = "mindmap:" + mapId + ":users";
-        Set<String> usersJson = redisTemplate.opsForSet().members(redisKey);
+        return mindmapPresenceService.getUsers(mapId);
+    }
 
-        if (usersJson == null) {
-            return Collections.emptyList();
-        }
+    static String topic(Long mapId) {
+        return "mindmap:" + mapId;
+    }
 
-        return usersJson.stream()
-            .map(json -> {
-                try {
-                    return objectMapper.readValue(json, ConnectedUserDto.class);
-                } catch (JsonProcessingException e) {
-                    log.error("사용자 정보 역직렬화 실패", e);
-                    return null;
-                }
-            })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    private static String graphVersionKey(Long mapId) {
+        return "mindmap:" + mapId + ":graph-version";
     }
 }
\ No newline at end of file
@@ -2,15 +2,14 @@ package com.teamEWSN.gitdeun.mindmap.service;
 
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.exception.GlobalException;
-import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
 import com.teamEWSN.gitdeun.mindmap.dto.FileWithCodeDto;
 import com.teamEWSN.gitdeun.common.fastapi.dto.RelatedFileDto;
-import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
 import com.teamEWSN.gitdeun.mindmap.dto.NodeCodeResponseDto;
 import com.teamEWSN.gitdeun.mindmap.dto.NodeSimpleDto;
 import com.teamEWSN.gitdeun.mindmap.entity.Mindmap;
 import com.teamEWSN.gitdeun.mindmap.repository.MindmapRepository;
 import com.teamEWSN.gitdeun.mindmap.util.FileContentCache;
+import com.teamEWSN.gitdeun.mindmap.util.IndexedMindmapGraph;
 import com.teamEWSN.gitdeun.mindmap.util.MindmapGraphCache;
 import com.teamEWSN.gitdeun.mindmapmember.service.MindmapAuthService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,13 +42,13 @@ public class NodeService {
         String repoUrl = mindmap.getRepo().getGithubRepoUrl();
         LocalDateTime lastCommit = mindmap.getRepo().getLastCommit(); // lastCommit 정보 가져오기
 
-        MindmapGraphResponseDto graphData = mindmapGraphCache.getGraphWithHybridCache(repoUrl, lastCommit, authorizationHeader);
-        if (graphData == null || graphData.getNodes() == null) {
+        IndexedMindmapGraph graph = mindmapGraphCache.getIndexedGraph(repoUrl, lastCommit, authorizationHeader);
+        if (graph == null || !graph.isSuccess()) {
             return Collections.emptyList();
         }
 
-        return graphData.getNodes().stream()
-            .map(node -> new NodeSimpleDto(node.getKey(), node.getLabel()))
+        return IntStream.range(0, graph.nodeCount())
+            .mapToObj(i -> new NodeSimpleDto(graph.keyAt(i), graph.labelAt(i)))
             .collect(Collectors.toList());
     }
 
@@ -66,35 +66,32 @@ public class NodeService {
 
 
         // 1. 캐시/API를 통해 그래프 데이터를 가져옵니다.
-        MindmapGraphResponseDto graphData = mindmapGraphCache.getGraphWithHybridCache(repoUrl, lastCommit, authorizationHeader);
-        if (graphData == null || !graphData.getSuccess()) {
+        IndexedMindmapGraph graph = mindmapGraphCache.getIndexedGraph(repoUrl, lastCommit, authorizationHeader);
+        if (graph == null || !graph.isSuccess()) {
             throw new GlobalException(ErrorCode.MINDMAP_NOT_FOUND);
         }
 
-        // 2. 그래프에서 해당 nodeKey를 가진 노드를 찾습니다.
-        NodeDto targetNode = graphData.getNodes().stream()
-            .filter(node -> nodeKey.equals(node.getKey()))
-            .findFirst()
-            .orElseThrow(() -> new GlobalException(ErrorCode.NODE_NOT_FOUND));
+        // 2. 그래프 인덱스에서 해당 nodeKey를 가진 노드를 찾습니다.
+        int nodeIndex = graph.indexOf(nodeKey);
+        if (nodeIndex < 0) {
+            throw new GlobalException(ErrorCode.NODE_NOT_FOUND);
+        }
 
-        List<RelatedFileDto> filePaths = targetNode.getRelatedFiles();
+        List<String> filePaths = graph.filePathsAt(nodeIndex);
 
-        // 3. 파일 경로 목록을 사용하여 각 파일의 전체 코드를 가져옴
-        Map<RelatedFileDto, String> codeContentsMap = filePaths.parallelStream()
-            .collect(Collectors.toConcurrentMap(
-                filePath -> filePath,
-                filePath -> fileContentCache.getFileContentWithCacheFromNode(repoUrl, nodeKey, filePath.getFilePath(), lastCommit, authorizationHeader)
-            ));
+        // 3. 노드의 파일 목록 전체 코드를 한 번에 가져옴 (L1 → Redis MGET → FastAPI 동시 호출 제한)
+        Map<String, String> codeContentsMap = fileContentCache.getFileContentsForNode(
+            repoUrl, nodeKey, filePaths, lastCommit, authorizationHeader);
 
         // 4. Map을 List<FileWithCodeDto> 형태로 변환
         List<FileWithCodeDto> filesWithCode = codeContentsMap.entrySet().stream()
-            .map(entry -> new FileWithCodeDto(entry.getKey(), entry.getValue()))
+            .map(entry -> new FileWithCodeDto(new RelatedFileDto(entry.getKey()), entry.getValue()))
             .collect(Collectors.toList());
 
         // 5. 변경된 DTO로 응답 생성
         return new NodeCodeResponseDto(
-            targetNode.getKey(),
-            targetNode.getLabel(),
+            graph.keyAt(nodeIndex),
+            graph.labelAt(nodeIndex),
             filesWithCode
         );
     }
@@ -0,0 +1,102 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stale-while-revalidate / refresh-ahead 정책
+ *
+ * - soft TTL 이 지난 항목은 그대로 반환하고 백그라운드에서 다시 적재합니다.
+ * - 자주 조회되는 항목은 soft TTL 전에 미리 다시 적재합니다.
+ * - hard TTL 이 지난 항목은 캐시 미스로 취급합니다.
+ */
+@Slf4j
+@Component
+public class CacheRevalidator {
+
+    private final Executor executor;
+
+    // 진행 중인 백그라운드 재적재 키 (중복 실행 방지)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    // 키별 조회 횟수 (첫 조회부터 window 동안만 집계, 재적재 시 초기화)
+    private final Cache<String, AtomicInteger> accessCounts;
+
+    @Value("${app.cache.swr.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.swr.refresh-ahead.hot-threshold:5}")
+    private int hotThreshold;
+
+    @Value("${app.cache.swr.refresh-ahead.ratio:0.8}")
+    private double refreshAheadRatio;
+
+    public CacheRevalidator(@Qualifier("mindmapExecutor") Executor executor,
+                            @Value("${app.cache.swr.refresh-ahead.window-seconds:600}") long windowSeconds) {
+        this.executor = executor;
+        this.accessCounts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+            .build();
+    }
+
+    public boolean isExpired(CachedValue<?> entry, Duration hardTtl) {
+        return entry.ageMillis() >= hardTtl.toMillis();
+    }
+
+    /**
+     * 조회를 기록하고 백그라운드 재적재가 필요한지 판단
+     * - revalidate 에도 같은 key 를 넘겨야 재적재 후 조회 횟수가 초기화됨
+     */
+    public boolean needsRefresh(String key, CachedValue<?> entry, Duration softTtl) {
+        if (!enabled) {
+            return false;
+        }
+
+        int hits = accessCounts.get(key, k -> new AtomicInteger()).incrementAndGet();
+        long age = entry.ageMillis();
+
+        if (age >= softTtl.toMillis()) {
+            return true;
+        }
+        // 인기 항목은 만료 전에 미리 갱신
+        return hits >= hotThreshold && age >= (long) (softTtl.toMillis() * refreshAheadRatio);
+    }
+
+    /**
+     * 백그라운드 재적재 (키당 동시에 하나만 실행)
+     */
+    public void revalidate(String key, Runnable loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    loader.run();
+                    accessCounts.invalidate(key);
+                    log.debug("캐시 백그라운드 재적재 완료 - key: {}", key);
+                } catch (Exception e) {
+                    log.warn("캐시 백그라운드 재적재 실패 - key: {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.warn("캐시 백그라운드 재적재 작업 거부 - key: {}", key);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 적재 시각을 함께 보관하는 캐시 항목
+ * L1/L2 모두 이 형태로 저장하여 soft TTL(재검증 시점)을 판단합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue<T> {
+
+    private T value;
+    private long loadedAt;  // epoch millis
+
+    public static <T> CachedValue<T> of(T value) {
+        return new CachedValue<>(value, System.currentTimeMillis());
+    }
+
+    // 적재 시각을 알 수 없는 이전 형식의 항목 (age 만큼 지난 것으로 간주, soft TTL 을 넘기면 사용하면서 재검증)
+    public static <T> CachedValue<T> legacy(T value, Duration age) {
+        return new CachedValue<>(value, System.currentTimeMillis() - age.toMillis());
+    }
+
+    public long ageMillis() {
+        return System.currentTimeMillis() - loadedAt;
+    }
+}
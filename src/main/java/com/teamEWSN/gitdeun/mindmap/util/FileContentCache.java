@@ -1,119 +1,403 @@
 package com.teamEWSN.gitdeun.mindmap.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
 import com.teamEWSN.gitdeun.common.fastapi.FastApiClient;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 파일 내용 캐시 (content-addressed)
+ *
+ * 2단계로 저장하여 같은 내용은 한 번만 보관합니다.
+ * - 인덱스: (저장소, 세대, 커밋) 별 Redis Hash, filePath → 내용 해시(SHA-256)
+ * - 본문: 내용 해시 → 압축된 내용 (여러 노드/커밋이 공유)
+ * 커밋 기준으로 주소가 정해지므로 같은 커밋의 내용은 바뀌지 않습니다.
+ *
+ * 적용 범위
+ * - 조회 적중은 같은 커밋 안에서만 발생합니다. 새 커밋은 빈 인덱스에서 시작하여 파일마다 FastAPI 를 한 번 호출합니다.
+ *   (FastAPI 가 파일별 blob SHA 를 제공하지 않아, 바뀌지 않은 파일을 내용을 받기 전에 알 수 없음)
+ * - 해시 주소는 저장 공간만 줄입니다: 커밋이 바뀌어도 내용이 같은 파일은 본문을 새로 저장하지 않고 공유합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FileContentCache {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final byte BLOB_RAW = 0;
+    private static final byte BLOB_DEFLATE = 1;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
     private final FastApiClient fastApiClient;
     private final FileContentL1Cache l1Cache;
+    private final CacheCoherenceService cacheCoherenceService;
+
+    // 인덱스(저장소/커밋 → 해시) 유지 시간
+    @Value("${app.cache.file-content.hard-ttl-minutes:120}")
+    private long hardTtlMinutes;
+
+    // 본문(해시 → 내용) 유지 시간, 저장될 때마다 연장
+    @Value("${app.cache.file-content.blob-ttl-hours:24}")
+    private long blobTtlHours;
+
+    @Value("${app.cache.file-content.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+
+    // 일괄 조회 시 FastAPI 동시 호출 수 / 전체 대기 시간
+    @Value("${app.cache.file-content.bulk-concurrency:8}")
+    private int bulkConcurrency;
+
+    @Value("${app.cache.file-content.bulk-timeout-seconds:30}")
+    private long bulkTimeoutSeconds;
 
+    /**
+     * 저장소 단위로 분할된 L1 캐시
+     * 저장소별 Caffeine 세그먼트를 두어 무효화 시 해당 저장소 항목만 제거합니다.
+     * 같은 내용은 해시 기준으로 하나의 String 인스턴스를 공유합니다.
+     */
     @Component
     public static class FileContentL1Cache {
-        @Cacheable(value = "FILE_CONTENT_L1", key = "#key",
-            unless = "#result == null || #result.isEmpty()")
-        public String getFromL1Cache(String key) {
-            return null; // 미스면 null
+
+        private final Cache<String, Cache<String, String>> segments;
+        private final Cache<String, String> contentByHash;
+        private final int maxEntriesPerRepo;
+        private final Duration expireAfterWrite;
+
+        public FileContentL1Cache(
+            @Value("${app.cache.file-content.l1.max-repos:200}") int maxRepos,
+            @Value("${app.cache.file-content.l1.max-entries-per-repo:500}") int maxEntriesPerRepo,
+            @Value("${app.cache.file-content.hard-ttl-minutes:120}") long hardTtlMinutes) {
+            this.maxEntriesPerRepo = maxEntriesPerRepo;
+            this.expireAfterWrite = Duration.ofMinutes(hardTtlMinutes);
+            this.segments = Caffeine.newBuilder()
+                .maximumSize(maxRepos)
+                .expireAfterAccess(expireAfterWrite)
+                .build();
+            // 세그먼트가 참조하는 동안만 유지
+            this.contentByHash = Caffeine.newBuilder()
+                .weakValues()
+                .build();
+        }
+
+        public String getFromL1Cache(String repoUrl, String key) {
+            Cache<String, String> segment = segments.getIfPresent(repoUrl);
+            return segment != null ? segment.getIfPresent(key) : null; // 미스면 null
         }
 
-        @CachePut(value = "FILE_CONTENT_L1", key = "#key",
-            condition = "#content != null && !#content.isBlank()")
-        public String cacheToL1(String key, String content) {
-            return content;
+        public void cacheToL1(String repoUrl, String key, String hash, String content) {
+            if (content == null || content.isBlank()) {
+                return;
+            }
+            String shared = contentByHash.get(hash, h -> content);
+            segments.get(repoUrl, k -> Caffeine.newBuilder()
+                    .maximumSize(maxEntriesPerRepo)
+                    .expireAfterWrite(expireAfterWrite)
+                    .<String, String>build())
+                .put(key, shared);
         }
 
-        @CacheEvict(value = "FILE_CONTENT_L1", allEntries = true)
-        public void evictL1Cache() {
+        // 해당 저장소 세그먼트만 제거
+        public void evictRepo(String repoUrl) {
+            segments.invalidate(repoUrl);
         }
+
+        public void evictAll() {
+            segments.invalidateAll();
+        }
+    }
+
+    // 다른 인스턴스에서 전파된 저장소 단위 무효화 적용
+    @PostConstruct
+    void registerInvalidationHandler() {
+        cacheCoherenceService.registerHandler("FILE_CONTENT_L1", repoUrl -> {
+            if (repoUrl == null) {
+                l1Cache.evictAll();
+            } else {
+                l1Cache.evictRepo(repoUrl.toString());
+            }
+        });
     }
 
 
     public String getFileContentWithCacheFromNode(String repoUrl, String nodeKey, String filePath, LocalDateTime lastCommit, String authHeader) {
-        String cacheKey = "file-content:" + repoUrl + ":node:" + nodeKey + ":" + filePath + ":" + lastCommit.toString();
+        String l1Key = l1Key(filePath, lastCommit);
 
         // 1. L1 캐시 확인
-        String content = l1Cache.getFromL1Cache(cacheKey);
-        if (content != null) {
-            log.debug("파일 내용 L1 캐시 히트 - key: {}", cacheKey);
-            return content;
+        String cached = l1Cache.getFromL1Cache(repoUrl, l1Key);
+        if (cached != null) {
+            log.debug("파일 내용 L1 캐시 히트 - repo: {}, key: {}", repoUrl, l1Key);
+            return cached;
         }
 
-        // 2. L2 캐시 확인
+        // 2. L2 인덱스 → 본문 확인
+        String indexKey = indexKey(repoUrl, currentGeneration(repoUrl), lastCommit);
         try {
-            content = (String) redisTemplate.opsForValue().get(cacheKey);
+            String hash = stringRedisTemplate.<String, String>opsForHash().get(indexKey, filePath);
+            String content = hash != null ? decodeBlob(binaryRedisTemplate.opsForValue().get(blobKey(hash))) : null;
             if (content != null && !content.isBlank()) {
-                log.debug("파일 내용 L2 캐시 히트 - key: {}", cacheKey);
-                l1Cache.cacheToL1(cacheKey, content); // L1에 저장
+                log.debug("파일 내용 L2 캐시 히트 - key: {}, hash: {}", indexKey, hash);
+                l1Cache.cacheToL1(repoUrl, l1Key, hash, content);
                 return content;
-            } else if (content != null && content.isBlank()) {
-                log.warn("L2 캐시에서 빈 문자열 발견 - key: {} (전파/재적재 하지 않음)", cacheKey);
-                // 캐시에 남겨두지 말고 즉시 삭제
-                try { redisTemplate.delete(cacheKey); } catch (Exception ignore) {}
             }
         } catch (Exception e) {
-            log.warn("Redis 조회 실패, API 직접 호출 - key: {}", cacheKey, e);
+            log.warn("Redis 조회 실패, API 직접 호출 - key: {}", indexKey, e);
         }
 
-        // 3. FastAPI 실시간 조회 (새로 만든 메서드를 호출하도록 변경)
-        content = fastApiClient.getCodeFromNode(nodeKey, filePath, authHeader);
-
-        // 4. L1, L2 캐시에 저장
+        // 3. FastAPI 실시간 조회 및 L1, L2 캐시에 저장
+        String content = fastApiClient.getCodeFromNode(nodeKey, filePath, authHeader);
         if (content != null && !content.isBlank()) {
-            l1Cache.cacheToL1(cacheKey, content);
-            try {
-                redisTemplate.opsForValue().set(cacheKey, content, Duration.ofHours(2));
-            } catch (Exception e) {
-                log.warn("Redis 저장 실패 - key: {}", cacheKey, e);
-            }
+            String hash = hash(content);
+            l1Cache.cacheToL1(repoUrl, l1Key, hash, content);
+            storeAllToL2(indexKey, Map.of(filePath, hash), Map.of(hash, content));
         }
         return content;
     }
 
+    /**
+     * 노드의 파일 목록을 한 번에 조회
+     * L1 일괄 확인 → 인덱스 HMGET → 본문 MGET → 남은 파일은 동시 호출 수를 제한한 FastAPI 조회 → 파이프라인 저장
+     *
+     * @return 요청 순서를 유지한 filePath → 파일 내용 (조회 실패 시 빈 문자열)
+     */
+    public Map<String, String> getFileContentsForNode(String repoUrl, String nodeKey, List<String> filePaths,
+                                                      LocalDateTime lastCommit, String authHeader) {
+        Map<String, String> contents = new LinkedHashMap<>();
+        if (filePaths == null || filePaths.isEmpty()) {
+            return contents;
+        }
 
-    // 캐시 무효화
-    public void evictFileCacheForRepo(String repoUrl) {
-        // L1 캐시는 전체 삭제
-        l1Cache.evictL1Cache();
-        deleteRedisKeysByPattern("file-content:" + repoUrl + ":*");
-    }
+        // 1. L1 일괄 확인
+        List<String> l1Misses = new ArrayList<>();
+        for (String filePath : new LinkedHashSet<>(filePaths)) {
+            String cached = l1Cache.getFromL1Cache(repoUrl, l1Key(filePath, lastCommit));
+            if (cached != null) {
+                contents.put(filePath, cached);
+            } else {
+                l1Misses.add(filePath);
+            }
+        }
+
+        if (l1Misses.isEmpty()) {
+            return ordered(filePaths, contents);
+        }
 
-    private void deleteRedisKeysByPattern(String pattern) {
+        // 2. 인덱스 HMGET 한 번 + 본문 MGET 한 번 (같은 해시는 한 번만 조회)
+        String indexKey = indexKey(repoUrl, currentGeneration(repoUrl), lastCommit);
+        List<String> l2Misses = new ArrayList<>(l1Misses);
         try {
-            Set<String> keysToDelete = redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
-                Set<String> keys = new HashSet<>();
-                try (Cursor<byte[]> cursor = connection.keyCommands().scan(ScanOptions.scanOptions().match(pattern).count(100).build())) {
-                    while (cursor.hasNext()) {
-                        keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+            List<String> hashes = stringRedisTemplate.<String, String>opsForHash().multiGet(indexKey, l1Misses);
+
+            List<String> uniqueHashes = hashes == null ? List.of()
+                : hashes.stream().filter(hash -> hash != null).distinct().toList();
+            Map<String, String> contentByHash = new LinkedHashMap<>();
+            if (!uniqueHashes.isEmpty()) {
+                List<byte[]> blobs = binaryRedisTemplate.opsForValue()
+                    .multiGet(uniqueHashes.stream().map(this::blobKey).toList());
+                for (int i = 0; i < uniqueHashes.size(); i++) {
+                    String content = blobs != null ? decodeBlob(blobs.get(i)) : null;
+                    if (content != null && !content.isBlank()) {
+                        contentByHash.put(uniqueHashes.get(i), content);
                     }
                 }
-                return keys;
+            }
+
+            l2Misses.clear();
+            for (int i = 0; i < l1Misses.size(); i++) {
+                String filePath = l1Misses.get(i);
+                String hash = hashes != null ? hashes.get(i) : null;
+                String content = hash != null ? contentByHash.get(hash) : null;
+                if (content != null) {
+                    l1Cache.cacheToL1(repoUrl, l1Key(filePath, lastCommit), hash, content);
+                    contents.put(filePath, content);
+                } else {
+                    l2Misses.add(filePath);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis 일괄 조회 실패, API 직접 호출 - nodeKey: {}, 파일 수: {}", nodeKey, l1Misses.size(), e);
+        }
+
+        // 3. 남은 파일은 FastAPI 를 동시 호출 수 제한 하에 조회 (공용 ForkJoinPool 미사용)
+        if (!l2Misses.isEmpty()) {
+            Map<String, String> loaded;
+            try {
+                loaded = Flux.fromIterable(l2Misses)
+                    .flatMap(filePath -> fastApiClient.getCodeFromNodeMono(nodeKey, filePath, authHeader)
+                        .defaultIfEmpty("")
+                        .onErrorResume(e -> Mono.just(""))
+                        .map(content -> Map.entry(filePath, content)), bulkConcurrency)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block(Duration.ofSeconds(bulkTimeoutSeconds));
+            } catch (Exception e) {
+                log.warn("FastAPI 파일 일괄 조회 실패 - nodeKey: {}, 파일 수: {}", nodeKey, l2Misses.size(), e);
+                loaded = null;
+            }
+
+            Map<String, String> loadedContents = loaded != null ? loaded : Map.of();
+
+            Map<String, String> hashByPath = new LinkedHashMap<>();
+            Map<String, String> blobsToStore = new LinkedHashMap<>();
+            loadedContents.forEach((filePath, content) -> {
+                if (content != null && !content.isBlank()) {
+                    String hash = hash(content);
+                    l1Cache.cacheToL1(repoUrl, l1Key(filePath, lastCommit), hash, content);
+                    hashByPath.put(filePath, hash);
+                    blobsToStore.putIfAbsent(hash, content);
+                }
             });
+            storeAllToL2(indexKey, hashByPath, blobsToStore);
 
-            if (keysToDelete != null && !keysToDelete.isEmpty()) {
-                redisTemplate.delete(keysToDelete);
-                log.info("{}개의 L2 파일 캐시(Redis) 무효화 완료 - pattern: {}", keysToDelete.size(), pattern);
+            for (String filePath : l2Misses) {
+                contents.put(filePath, loadedContents.getOrDefault(filePath, ""));
             }
+        }
+
+        return ordered(filePaths, contents);
+    }
+
+    // 본문(없을 때만 저장 후 TTL 연장)과 인덱스를 파이프라인으로 저장
+    private void storeAllToL2(String indexKey, Map<String, String> hashByPath, Map<String, String> blobs) {
+        if (hashByPath.isEmpty()) {
+            return;
+        }
+        try {
+            binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                    blobs.forEach((hash, content) -> {
+                        ops.opsForValue().setIfAbsent(blobKey(hash), encodeBlob(content), blobTtl());
+                        ops.expire(blobKey(hash), blobTtl());
+                    });
+                    return null;
+                }
+            });
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForHash().putAll(indexKey, hashByPath);
+                    ops.expire(indexKey, indexTtl());
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis 일괄 저장 실패 - key: {}, 항목 수: {}", indexKey, hashByPath.size(), e);
+        }
+    }
+
+    // [형식(1)][내용]: 임계값 이상은 Deflate 압축
+    private byte[] encodeBlob(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        boolean compress = raw.length >= compressionThreshold;
+        byte[] payload = compress ? DeflateCompressor.compress(raw) : raw;
+
+        byte[] blob = new byte[payload.length + 1];
+        blob[0] = compress ? BLOB_DEFLATE : BLOB_RAW;
+        System.arraycopy(payload, 0, blob, 1, payload.length);
+        return blob;
+    }
+
+    private String decodeBlob(byte[] blob) {
+        if (blob == null || blob.length == 0) {
+            return null;
+        }
+        byte[] payload = Arrays.copyOfRange(blob, 1, blob.length);
+        if (blob[0] == BLOB_DEFLATE) {
+            payload = DeflateCompressor.decompress(payload);
+        }
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+
+    private String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 요청 순서로 정렬
+    private Map<String, String> ordered(List<String> filePaths, Map<String, String> contents) {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        for (String filePath : filePaths) {
+            ordered.put(filePath, contents.getOrDefault(filePath, ""));
+        }
+        return ordered;
+    }
+
+    private Duration indexTtl() {
+        return Duration.ofMinutes(hardTtlMinutes);
+    }
+
+    private Duration blobTtl() {
+        return Duration.ofHours(blobTtlHours);
+    }
+
+    // 저장소 L1 세그먼트 내부 키
+    private String l1Key(String filePath, LocalDateTime lastCommit) {
+        return filePath + ":" + lastCommit.toString();
+    }
+
+    // 인덱스 키: 저장소 세대(generation)를 포함하여 세대가 바뀌면 이전 인덱스는 조회되지 않고 TTL 로 만료
+    private String indexKey(String repoUrl, long generation, LocalDateTime lastCommit) {
+        return "file-content:idx:" + repoUrl + ":g" + generation + ":" + lastCommit.toString();
+    }
+
+    private String blobKey(String hash) {
+        return "file-content:blob:" + hash;
+    }
+
+    private String generationKey(String repoUrl) {
+        return "file-content:gen:" + repoUrl;
+    }
+
+    private long currentGeneration(String repoUrl) {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(generationKey(repoUrl));
+            return generation != null ? Long.parseLong(generation) : 0L;
+        } catch (Exception e) {
+            log.warn("파일 캐시 세대 조회 실패 - repo: {}", repoUrl, e);
+            return 0L;
+        }
+    }
+
+
+    // 캐시 무효화 (O(1): 저장소 L1 세그먼트 제거 + 세대 증가, 공유 본문은 TTL 로 만료)
+    public void evictFileCacheForRepo(String repoUrl) {
+        l1Cache.evictRepo(repoUrl);
+        cacheCoherenceService.broadcast("FILE_CONTENT_L1", repoUrl);
+        try {
+            Long generation = stringRedisTemplate.opsForValue().increment(generationKey(repoUrl));
+            log.info("L2 파일 캐시(Redis) 무효화 완료 - repo: {}, generation: {}", repoUrl, generation);
         } catch (Exception e) {
-            log.warn("Redis 파일 캐시 무효화 실패 - pattern: {}", pattern, e);
+            log.warn("Redis 파일 캐시 무효화 실패 - repo: {}", repoUrl, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,261 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import com.teamEWSN.gitdeun.common.fastapi.dto.EdgeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.RelatedFileDto;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 마인드맵 그래프의 불변 인덱스 구조 (L1 캐시 저장용)
+ *
+ * 노드/엣지 DTO 목록 대신 열(column) 단위 배열로 보관합니다.
+ * - 노드 키 → 인덱스 HashMap 으로 O(1) 조회
+ * - 엣지는 int 배열 + CSR 형식 인접 배열
+ * - 노드별 파일 경로 Set 으로 O(1) 포함 여부 확인
+ * - 문자열은 intern 하여 버전 간/노드 간 중복 제거
+ */
+public final class IndexedMindmapGraph {
+
+    private static final int UNKNOWN_NODE = -1;
+
+    @Getter
+    private final boolean success;
+    @Getter
+    private final String error;
+    @Getter
+    private final String graphMapId;
+    private final Integer reportedNodeCount;
+
+    // 노드 열
+    private final String[] keys;
+    private final String[] labels;
+    private final String[] nodeTypes;
+    private final List<String>[] filePaths;
+    private final Set<String>[] filePathSets;
+    private final Map<String, Integer> indexByKey;
+
+    // 엣지 열 (노드 목록에 없는 키를 가리키는 엣지는 원본 DTO 와 원래 위치로 보관)
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final String[] edgeTypes;
+    private final List<EdgeDto> danglingEdges;
+    private final int[] danglingPositions;
+
+    // CSR 인접 배열: outTargets[outOffsets[i] .. outOffsets[i + 1]) 가 노드 i 의 자식
+    private final int[] outOffsets;
+    private final int[] outTargets;
+
+    @SuppressWarnings("unchecked")
+    private IndexedMindmapGraph(MindmapGraphResponseDto dto) {
+        this.success = Boolean.TRUE.equals(dto.getSuccess());
+        this.error = dto.getError();
+        this.graphMapId = dto.getGraphMapId();
+        this.reportedNodeCount = dto.getNodeCount();
+
+        List<NodeDto> nodes = dto.getNodes() != null ? dto.getNodes() : Collections.emptyList();
+        int nodeCount = nodes.size();
+
+        this.keys = new String[nodeCount];
+        this.labels = new String[nodeCount];
+        this.nodeTypes = new String[nodeCount];
+        this.filePaths = new List[nodeCount];
+        this.filePathSets = new Set[nodeCount];
+        this.indexByKey = new HashMap<>(Math.max(16, (int) (nodeCount / 0.75f) + 1));
+
+        for (int i = 0; i < nodeCount; i++) {
+            NodeDto node = nodes.get(i);
+            keys[i] = intern(node.getKey());
+            labels[i] = intern(node.getLabel());
+            nodeTypes[i] = intern(node.getNodeType());
+
+            List<String> paths = new ArrayList<>();
+            if (node.getRelatedFiles() != null) {
+                for (RelatedFileDto file : node.getRelatedFiles()) {
+                    if (file != null && file.getFilePath() != null) {
+                        paths.add(intern(file.getFilePath()));
+                    }
+                }
+            }
+            filePaths[i] = List.copyOf(paths);
+            filePathSets[i] = Set.copyOf(paths);
+
+            if (keys[i] != null) {
+                indexByKey.putIfAbsent(keys[i], i);  // 중복 키는 첫 노드 기준 (기존 findFirst 와 동일)
+            }
+        }
+
+        List<EdgeDto> edges = dto.getEdges() != null ? dto.getEdges() : Collections.emptyList();
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        String[] types = new String[edges.size()];
+        List<EdgeDto> dangling = new ArrayList<>();
+        int[] positions = new int[edges.size()];
+        int[] outDegree = new int[nodeCount];
+        int edgeCount = 0;
+
+        for (int position = 0; position < edges.size(); position++) {
+            EdgeDto edge = edges.get(position);
+            int fromIndex = indexOf(edge.getFromKey());
+            int toIndex = indexOf(edge.getToKey());
+            if (fromIndex == UNKNOWN_NODE || toIndex == UNKNOWN_NODE) {
+                positions[dangling.size()] = position;
+                dangling.add(edge);
+                continue;
+            }
+            from[edgeCount] = fromIndex;
+            to[edgeCount] = toIndex;
+            types[edgeCount] = intern(edge.getEdgeType());
+            outDegree[fromIndex]++;
+            edgeCount++;
+        }
+
+        this.edgeFrom = Arrays.copyOf(from, edgeCount);
+        this.edgeTo = Arrays.copyOf(to, edgeCount);
+        this.edgeTypes = Arrays.copyOf(types, edgeCount);
+        this.danglingEdges = List.copyOf(dangling);
+        this.danglingPositions = Arrays.copyOf(positions, dangling.size());
+
+        this.outOffsets = new int[nodeCount + 1];
+        for (int i = 0; i < nodeCount; i++) {
+            outOffsets[i + 1] = outOffsets[i] + outDegree[i];
+        }
+        this.outTargets = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(outOffsets, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            outTargets[cursor[edgeFrom[e]]++] = edgeTo[e];
+        }
+    }
+
+    public static IndexedMindmapGraph from(MindmapGraphResponseDto dto) {
+        return new IndexedMindmapGraph(dto);
+    }
+
+    public int nodeCount() {
+        return keys.length;
+    }
+
+    /**
+     * 노드 키로 인덱스 조회 (없으면 -1)
+     */
+    public int indexOf(String nodeKey) {
+        if (nodeKey == null) {
+            return UNKNOWN_NODE;
+        }
+        Integer index = indexByKey.get(nodeKey);
+        return index != null ? index : UNKNOWN_NODE;
+    }
+
+    public boolean containsNode(String nodeKey) {
+        return indexOf(nodeKey) != UNKNOWN_NODE;
+    }
+
+    public String keyAt(int index) {
+        return keys[index];
+    }
+
+    public String labelAt(int index) {
+        return labels[index];
+    }
+
+    public String nodeTypeAt(int index) {
+        return nodeTypes[index];
+    }
+
+    public List<String> filePathsAt(int index) {
+        return filePaths[index];
+    }
+
+    public boolean containsFile(int index, String filePath) {
+        return filePath != null && filePathSets[index].contains(filePath);
+    }
+
+    /**
+     * 노드에서 나가는 엣지의 대상 노드 인덱스
+     */
+    public int[] outgoing(int index) {
+        return Arrays.copyOfRange(outTargets, outOffsets[index], outOffsets[index + 1]);
+    }
+
+    /**
+     * 원래 응답 형태(DTO)로 복원 (클라이언트 응답 / L2 저장용)
+     * - 호출마다 새로 생성 (DTO 는 변경 가능하므로 공유하지 않고, 그래프 인스턴스가 DTO 목록을 붙잡지 않도록 함)
+     */
+    public MindmapGraphResponseDto toResponseDto() {
+        if (!success) {
+            return MindmapGraphResponseDto.builder()
+                .success(false)
+                .error(error)
+                .graphMapId(graphMapId)
+                .nodeCount(reportedNodeCount)
+                .build();
+        }
+
+        List<NodeDto> nodes = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            nodes.add(nodeAt(i));
+        }
+
+        return MindmapGraphResponseDto.builder()
+            .success(true)
+            .error(error)
+            .graphMapId(graphMapId)
+            .nodeCount(reportedNodeCount)
+            .nodes(nodes)
+            .edges(edges())
+            .build();
+    }
+
+    /**
+     * 노드 DTO 복원
+     */
+    public NodeDto nodeAt(int index) {
+        List<RelatedFileDto> files = new ArrayList<>(filePaths[index].size());
+        for (String path : filePaths[index]) {
+            files.add(new RelatedFileDto(path));
+        }
+        return new NodeDto(keys[index], labels[index], files, nodeTypes[index]);
+    }
+
+    /**
+     * 전체 엣지 DTO 복원 (노드 목록에 없는 키를 가리키는 엣지 포함, 원래 순서 유지)
+     */
+    public List<EdgeDto> edges() {
+        int total = edgeFrom.length + danglingEdges.size();
+        List<EdgeDto> edges = new ArrayList<>(total);
+        int e = 0;
+        int d = 0;
+        for (int position = 0; position < total; position++) {
+            if (d < danglingPositions.length && danglingPositions[d] == position) {
+                edges.add(danglingEdges.get(d++));
+            } else {
+                edges.add(new EdgeDto(keys[edgeFrom[e]], keys[edgeTo[e]], edgeTypes[e]));
+                e++;
+            }
+        }
+        return edges;
+    }
+
+    public int edgeCount() {
+        return edgeFrom.length + danglingEdges.size();
+    }
+
+    /**
+     * 모든 노드가 null 이 아닌 고유 키를 가지는지 (키 기준 비교 가능 여부)
+     */
+    public boolean hasUniqueKeys() {
+        return indexByKey.size() == keys.length;
+    }
+
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+}
@@ -1,101 +1,377 @@
 package com.teamEWSN.gitdeun.mindmap.util;
 
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
 import com.teamEWSN.gitdeun.common.fastapi.FastApiClient;
 import com.teamEWSN.gitdeun.common.fastapi.dto.MindmapGraphDto;
 import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MindmapGraphCache {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 락 소유자(token)가 일치할 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final RedisTemplate<String, CachedValue<MindmapGraphResponseDto>> mindmapGraphRedisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
     private final FastApiClient fastApiClient;
     private final MindmapL1Cache mindmapL1Cache;
+    private final CacheRevalidator cacheRevalidator;
+    private final CacheCoherenceService cacheCoherenceService;
+
+    // 동일 버전 키에 대해 진행 중인 FastAPI 조회 (노드 내 single-flight)
+    private final ConcurrentMap<String, CompletableFuture<IndexedMindmapGraph>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // soft TTL 이후에는 기존 값을 반환하며 백그라운드 재적재, hard TTL 이후에는 미스 처리
+    @Value("${app.cache.mindmap-graph.soft-ttl-minutes:90}")
+    private long softTtlMinutes;
+
+    @Value("${app.cache.mindmap-graph.hard-ttl-minutes:120}")
+    private long hardTtlMinutes;
+
+    @Value("${app.cache.mindmap-graph.load-timeout-seconds:30}")
+    private long loadTimeoutSeconds;
+
+    // true 이면 Redis 락으로 인스턴스 간에도 조회를 1회로 제한
+    @Value("${app.cache.mindmap-graph.distributed-lock.enabled:false}")
+    private boolean distributedLockEnabled;
+
+    @Value("${app.cache.mindmap-graph.distributed-lock.ttl-seconds:30}")
+    private long lockTtlSeconds;
+
+    @Value("${app.cache.mindmap-graph.distributed-lock.wait-millis:5000}")
+    private long lockWaitMillis;
+
+    @Value("${app.cache.mindmap-graph.distributed-lock.poll-millis:100}")
+    private long lockPollMillis;
+
+    // 그래프 갱신 직렬화 락 (FastAPI 재조회 시간보다 길게 유지)
+    @Value("${app.cache.mindmap-graph.update-lock.ttl-seconds:60}")
+    private long updateLockTtlSeconds;
+
+    @Value("${app.cache.mindmap-graph.update-lock.wait-millis:30000}")
+    private long updateLockWaitMillis;
 
     // L2 캐시: Redis
     public MindmapGraphResponseDto getGraphWithHybridCache(String repoUrl, LocalDateTime lastCommit, String authHeader) {
+        return getIndexedGraph(repoUrl, lastCommit, authHeader).toResponseDto();
+    }
+
+    /**
+     * 노드 키/파일 경로 조회용 인덱스 그래프 (L1 에는 이 형태로 보관)
+     * 조회 실패 시 isSuccess() 가 false 인 그래프를 반환합니다.
+     */
+    public IndexedMindmapGraph getIndexedGraph(String repoUrl, LocalDateTime lastCommit, String authHeader) {
         String mapId = extractMapId(repoUrl);
         String versionedMapId = mapId + ":" + lastCommit.toString(); // 버전 정보를 포함한 키
+        String redisKey = "mindmap:graph:" + versionedMapId;
 
         // 1. L1 캐시 확인 (Caffeine)
-        MindmapGraphResponseDto l1Result = mindmapL1Cache.getGraphFromL1Cache(versionedMapId);
-        if (l1Result != null) {
+        CachedValue<IndexedMindmapGraph> l1Result = mindmapL1Cache.getGraphFromL1Cache(versionedMapId);
+        if (l1Result != null && !cacheRevalidator.isExpired(l1Result, hardTtl())) {
             log.debug("마인드맵 그래프 L1 캐시 히트 - key: {}", versionedMapId);
-            return l1Result;
+            revalidateIfNeeded(l1Result, mapId, versionedMapId, redisKey, authHeader);
+            return l1Result.getValue();
         }
 
         // 2. L2 캐시 확인 (Redis)
+        CachedValue<MindmapGraphResponseDto> l2Result = readFromL2(redisKey);
+        if (l2Result != null && !cacheRevalidator.isExpired(l2Result, hardTtl())) {
+            log.debug("마인드맵 그래프 L2 캐시 히트 - key: {}", redisKey);
+            CachedValue<IndexedMindmapGraph> indexed = promoteToL1(versionedMapId, l2Result);
+            revalidateIfNeeded(indexed, mapId, versionedMapId, redisKey, authHeader);
+            return indexed.getValue();
+        }
+
+        // 3. FastAPI 조회 (동일 키에 대한 동시 요청은 하나의 조회 결과를 공유)
+        return loadSingleFlight(mapId, versionedMapId, redisKey, authHeader);
+    }
+
+    /**
+     * 캐시에 있는 그래프만 조회 (L1 → L2, FastAPI 조회 없음)
+     * 갱신 전 그래프와 비교할 때 사용하며, 없거나 만료되었으면 null 을 반환합니다.
+     */
+    public IndexedMindmapGraph peekIndexedGraph(String repoUrl, LocalDateTime lastCommit) {
+        if (lastCommit == null) {
+            return null;
+        }
+        String versionedMapId = extractMapId(repoUrl) + ":" + lastCommit.toString();
+
+        CachedValue<IndexedMindmapGraph> l1Result = mindmapL1Cache.getGraphFromL1Cache(versionedMapId);
+        if (l1Result != null && !cacheRevalidator.isExpired(l1Result, hardTtl())) {
+            return l1Result.getValue();
+        }
+        CachedValue<MindmapGraphResponseDto> l2Result = readFromL2("mindmap:graph:" + versionedMapId);
+        if (l2Result != null && !cacheRevalidator.isExpired(l2Result, hardTtl())) {
+            return IndexedMindmapGraph.from(l2Result.getValue());
+        }
+        return null;
+    }
+
+    // 캐시 무효화 (마인드맵 새로고침 또는 프롬프트 적용 시)
+    public void evictCache(String repoUrl, LocalDateTime lastCommit) {
+        String mapId = extractMapId(repoUrl);
+        String versionedMapId = mapId + ":" + lastCommit.toString();
         String redisKey = "mindmap:graph:" + versionedMapId;
+
         try {
-            MindmapGraphResponseDto l2Result = (MindmapGraphResponseDto) redisTemplate.opsForValue().get(redisKey);
+            mindmapGraphRedisTemplate.delete(redisKey);
+            mindmapL1Cache.evictL1Cache(versionedMapId);
+            cacheCoherenceService.broadcast("MINDMAP_GRAPH_L1", versionedMapId); // 다른 인스턴스 L1 도 무효화
+            log.info("마인드맵 그래프 캐시 무효화 완료 - key: {}", redisKey);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 실패 - key: {}", redisKey, e);
+        }
+    }
 
-            if (l2Result != null) {
-                log.debug("마인드맵 그래프 L2 캐시 히트 - key: {}", redisKey);
-                mindmapL1Cache.cacheToL1(versionedMapId, l2Result);
-                return l2Result;
+    /**
+     * 같은 저장소의 그래프 갱신(이전 그래프 확보 → 무효화 → 재조회 → SSE 전송)을 인스턴스 간 한 번에 하나씩 실행
+     * 그래프 버전은 전송 시점에 증가하므로, 갱신이 겹치면 나중 버전의 변경분이 먼저 전송될 수 있습니다.
+     * 대기 시간이 지나거나 Redis 장애로 락을 얻지 못하면 ordered=false 로 실행하며,
+     * 이때 호출 측은 변경분 대신 전체 데이터를 전송해야 합니다.
+     */
+    public <T> T runSerializedUpdate(String repoUrl, Function<Boolean, T> update) {
+        String lockKey = "mindmap:graph:update-lock:" + extractMapId(repoUrl);
+        String token = UUID.randomUUID().toString();
+        boolean acquired = acquireUpdateLock(lockKey, token);
+
+        if (!acquired) {
+            log.warn("그래프 갱신 락 획득 실패 - key: {}, 전체 데이터 전송으로 진행", lockKey);
+        }
+        try {
+            return update.apply(acquired);
+        } finally {
+            if (acquired) {
+                releaseLock(lockKey, token);
             }
+        }
+    }
+
+    private boolean acquireUpdateLock(String lockKey, String token) {
+        long deadline = System.currentTimeMillis() + updateLockWaitMillis;
+        try {
+            while (true) {
+                Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofSeconds(updateLockTtlSeconds));
+                if (Boolean.TRUE.equals(acquired)) {
+                    return true;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(lockPollMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         } catch (Exception e) {
-            log.warn("Redis 캐시 조회 실패 - key: {}, FastAPI 직접 호출로 진행", redisKey, e);
+            log.warn("그래프 갱신 락 요청 실패 - key: {}", lockKey, e);
+            return false;
+        }
+    }
+
+    /**
+     * soft TTL 이 지났거나 인기 항목이면 백그라운드에서 다시 적재
+     * 다른 인스턴스가 이미 L2 를 갱신했다면 FastAPI 호출 없이 그 값을 사용합니다.
+     */
+    private void revalidateIfNeeded(CachedValue<IndexedMindmapGraph> entry, String mapId,
+                                    String versionedMapId, String redisKey, String authHeader) {
+        if (!cacheRevalidator.needsRefresh(versionedMapId, entry, softTtl())) {
+            return;
+        }
+
+        cacheRevalidator.revalidate(versionedMapId, () -> {
+            CachedValue<MindmapGraphResponseDto> latest = readFromL2(redisKey);
+            if (latest != null && latest.getLoadedAt() > entry.getLoadedAt()
+                && latest.ageMillis() < softTtl().toMillis()) {
+                promoteToL1(versionedMapId, latest);
+                return;
+            }
+            loadSingleFlight(mapId, versionedMapId, redisKey, authHeader);
+        });
+    }
+
+    /**
+     * 노드 내 single-flight 조회
+     * 먼저 도착한 요청만 FastAPI 를 호출하고, 나머지 요청은 같은 Future 의 결과를 기다립니다.
+     */
+    private IndexedMindmapGraph loadSingleFlight(String mapId, String versionedMapId, String redisKey, String authHeader) {
+        CompletableFuture<IndexedMindmapGraph> myLoad = new CompletableFuture<>();
+        CompletableFuture<IndexedMindmapGraph> existingLoad = inFlightLoads.putIfAbsent(versionedMapId, myLoad);
+
+        if (existingLoad != null) {
+            log.debug("진행 중인 그래프 조회 대기 - key: {}", versionedMapId);
+            return awaitLoad(existingLoad, mapId);
+        }
+
+        try {
+            IndexedMindmapGraph result = distributedLockEnabled
+                ? loadWithRedisLock(mapId, versionedMapId, redisKey, authHeader)
+                : loadAndCache(mapId, versionedMapId, redisKey, authHeader);
+            myLoad.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            myLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 결과는 L1/L2 캐시에 남으므로 완료 즉시 제거 (실패 응답도 공유 후 재시도 가능하도록 제거)
+            inFlightLoads.remove(versionedMapId, myLoad);
+        }
+    }
+
+    private IndexedMindmapGraph awaitLoad(CompletableFuture<IndexedMindmapGraph> load, String mapId) {
+        try {
+            return load.get(loadTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failedResponse(mapId, "그래프 데이터 조회 대기 중단");
+        } catch (TimeoutException e) {
+            log.warn("그래프 조회 대기 시간 초과 - mapId: {}", mapId);
+            return failedResponse(mapId, "그래프 데이터 조회 시간 초과");
+        } catch (ExecutionException e) {
+            return failedResponse(mapId, "그래프 데이터 조회 실패: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * 인스턴스 간 single-flight 조회
+     * 락을 얻은 인스턴스만 FastAPI 를 호출하고, 나머지는 L2 캐시가 채워질 때까지 폴링합니다.
+     * 대기 시간이 지나거나 Redis 장애 시에는 직접 조회로 대체합니다.
+     */
+    private IndexedMindmapGraph loadWithRedisLock(String mapId, String versionedMapId, String redisKey, String authHeader) {
+        String lockKey = "mindmap:graph:lock:" + versionedMapId;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofSeconds(lockTtlSeconds));
+        } catch (Exception e) {
+            log.warn("그래프 조회 락 획득 실패 - key: {}, 직접 조회로 진행", lockKey, e);
+            return loadAndCache(mapId, versionedMapId, redisKey, authHeader);
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return loadAndCache(mapId, versionedMapId, redisKey, authHeader);
+            } finally {
+                releaseLock(lockKey, token);
+            }
+        }
+
+        long waitStartedAt = System.currentTimeMillis();
+        long deadline = waitStartedAt + lockWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(lockPollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            CachedValue<MindmapGraphResponseDto> l2Result = readFromL2(redisKey);
+            if (l2Result != null && l2Result.getLoadedAt() >= waitStartedAt) {
+                log.debug("다른 인스턴스의 그래프 조회 결과 사용 - key: {}", redisKey);
+                return promoteToL1(versionedMapId, l2Result).getValue();
+            }
         }
 
-        // 3. FastAPI 실시간 조회
+        log.debug("그래프 조회 락 대기 시간 초과 - key: {}, 직접 조회로 진행", lockKey);
+        return loadAndCache(mapId, versionedMapId, redisKey, authHeader);
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("그래프 조회 락 해제 실패 - key: {}", lockKey, e);
+        }
+    }
+
+    private IndexedMindmapGraph loadAndCache(String mapId, String versionedMapId, String redisKey, String authHeader) {
         try {
             log.debug("FastAPI 실시간 조회 시작 - mapId: {}", mapId);
             MindmapGraphDto graphDto = fastApiClient.getGraph(mapId, authHeader);
             MindmapGraphResponseDto responseDto = convertToResponseDto(graphDto);
+            CachedValue<MindmapGraphResponseDto> entry = CachedValue.of(responseDto);
 
-            // 4. 양방향 캐싱 (버전 포함된 키 사용)
+            // 4. 양방향 캐싱 (버전 포함된 키 사용, Redis 는 hard TTL 로 만료)
             try {
-                redisTemplate.opsForValue().set(redisKey, responseDto, Duration.ofHours(2)); // L2: 2시간
+                mindmapGraphRedisTemplate.opsForValue().set(redisKey, entry, hardTtl());
                 log.debug("Redis 캐시 저장 완료 - key: {}", redisKey);
             } catch (Exception e) {
                 log.warn("Redis 캐시 저장 실패 - key: {}", redisKey, e);
             }
 
-            mindmapL1Cache.cacheToL1(versionedMapId, responseDto);
-
-            return responseDto;
+            return promoteToL1(versionedMapId, entry).getValue();
 
         } catch (Exception e) {
             log.error("FastAPI 그래프 조회 실패 - mapId: {}", mapId, e);
-            return MindmapGraphResponseDto.builder()
-                .success(false)
-                .error("그래프 데이터 조회 실패: " + e.getMessage())
-                .graphMapId(mapId)
-                .nodeCount(0)
-                .build();
+            return failedResponse(mapId, "그래프 데이터 조회 실패: " + e.getMessage());
         }
     }
 
-    // 캐시 무효화 (마인드맵 새로고침 또는 프롬프트 적용 시)
-    public void evictCache(String repoUrl, LocalDateTime lastCommit) {
-        String mapId = extractMapId(repoUrl);
-        String versionedMapId = mapId + ":" + lastCommit.toString();
-        String redisKey = "mindmap:graph:" + versionedMapId;
+    // L2 의 DTO 를 인덱스 그래프로 변환하여 L1 에 저장 (적재 시각은 유지)
+    private CachedValue<IndexedMindmapGraph> promoteToL1(String versionedMapId, CachedValue<MindmapGraphResponseDto> l2Entry) {
+        CachedValue<IndexedMindmapGraph> indexed =
+            new CachedValue<>(IndexedMindmapGraph.from(l2Entry.getValue()), l2Entry.getLoadedAt());
+        mindmapL1Cache.cacheToL1(versionedMapId, indexed);
+        return indexed;
+    }
 
+    private CachedValue<MindmapGraphResponseDto> readFromL2(String redisKey) {
         try {
-            redisTemplate.delete(redisKey);
-            mindmapL1Cache.evictL1Cache(versionedMapId);
-            log.info("마인드맵 그래프 캐시 무효화 완료 - key: {}", redisKey);
+            // 형식 판별/이전 JSON 형식 호환은 MindmapGraphRedisSerializer 가 처리
+            return mindmapGraphRedisTemplate.opsForValue().get(redisKey);
         } catch (Exception e) {
-            log.warn("캐시 무효화 실패 - key: {}", redisKey, e);
+            log.warn("Redis 캐시 조회 실패 - key: {}, FastAPI 직접 호출로 진행", redisKey, e);
+            return null;
         }
     }
 
     // === Helper Methods ===
+    private Duration softTtl() {
+        return Duration.ofMinutes(softTtlMinutes);
+    }
+
+    private Duration hardTtl() {
+        return Duration.ofMinutes(hardTtlMinutes);
+    }
+
     private String extractMapId(String repoUrl) {
         String[] segments = repoUrl.split("/");
         return segments[segments.length - 1].replaceAll("\\.git$", "");
     }
 
+    private IndexedMindmapGraph failedResponse(String mapId, String error) {
+        return IndexedMindmapGraph.from(MindmapGraphResponseDto.builder()
+            .success(false)
+            .error(error)
+            .graphMapId(mapId)
+            .nodeCount(0)
+            .build());
+    }
+
     private MindmapGraphResponseDto convertToResponseDto(MindmapGraphDto graphDto) {
         return MindmapGraphResponseDto.builder()
             .success(true)
@@ -106,4 +382,4 @@ public class MindmapGraphCache {
             .edges(graphDto.getEdges())
             .build();
     }
-}
\ No newline at end of file
+}
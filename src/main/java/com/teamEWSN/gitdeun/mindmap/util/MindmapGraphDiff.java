@@ -0,0 +1,108 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import com.teamEWSN.gitdeun.common.fastapi.dto.EdgeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 두 그래프 버전 간 변경 내역
+ *
+ * 노드는 키 기준으로 추가/삭제/변경(라벨, 타입, 관련 파일)을 구하고,
+ * 엣지는 (from, to, type) 기준 다중집합 차이로 추가/삭제를 구합니다.
+ * 인덱스 그래프의 키 → 인덱스 조회를 사용하므로 노드/엣지 수에 비례하는 시간이 걸립니다.
+ */
+@Getter
+public final class MindmapGraphDiff {
+
+    private final List<NodeDto> addedNodes = new ArrayList<>();
+    private final List<NodeDto> updatedNodes = new ArrayList<>();
+    private final List<String> removedNodeKeys = new ArrayList<>();
+    private final List<EdgeDto> addedEdges = new ArrayList<>();
+    private final List<EdgeDto> removedEdges = new ArrayList<>();
+    private final int nodeCount;
+    private final int edgeCount;
+
+    private record EdgeKey(String from, String to, String type) {
+    }
+
+    private MindmapGraphDiff(int nodeCount, int edgeCount) {
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * 이전 그래프 → 새 그래프 변경 내역
+     * 이전 그래프가 없거나, 조회 실패 그래프이거나, 키가 고유하지 않아 키 기준 비교가 불가능하면 null
+     */
+    public static MindmapGraphDiff between(IndexedMindmapGraph previous, IndexedMindmapGraph current) {
+        if (previous == null || current == null || !previous.isSuccess() || !current.isSuccess()
+            || !previous.hasUniqueKeys() || !current.hasUniqueKeys()) {
+            return null;
+        }
+
+        MindmapGraphDiff diff = new MindmapGraphDiff(current.nodeCount(), current.edgeCount());
+
+        for (int i = 0; i < current.nodeCount(); i++) {
+            int previousIndex = previous.indexOf(current.keyAt(i));
+            if (previousIndex < 0) {
+                diff.addedNodes.add(current.nodeAt(i));
+            } else if (!sameNode(previous, previousIndex, current, i)) {
+                diff.updatedNodes.add(current.nodeAt(i));
+            }
+        }
+        for (int i = 0; i < previous.nodeCount(); i++) {
+            if (!current.containsNode(previous.keyAt(i))) {
+                diff.removedNodeKeys.add(previous.keyAt(i));
+            }
+        }
+
+        // 이전 엣지 개수를 세어 두고 새 엣지마다 차감 (중복 엣지도 개수만큼 비교)
+        Map<EdgeKey, Integer> remaining = new HashMap<>();
+        for (EdgeDto edge : previous.edges()) {
+            remaining.merge(keyOf(edge), 1, Integer::sum);
+        }
+        for (EdgeDto edge : current.edges()) {
+            EdgeKey key = keyOf(edge);
+            Integer count = remaining.get(key);
+            if (count == null) {
+                diff.addedEdges.add(edge);
+            } else if (count == 1) {
+                remaining.remove(key);
+            } else {
+                remaining.put(key, count - 1);
+            }
+        }
+        remaining.forEach((key, count) -> {
+            for (int i = 0; i < count; i++) {
+                diff.removedEdges.add(new EdgeDto(key.from(), key.to(), key.type()));
+            }
+        });
+        return diff;
+    }
+
+    /** 변경된 노드/엣지 수 */
+    public int changeCount() {
+        return addedNodes.size() + updatedNodes.size() + removedNodeKeys.size()
+            + addedEdges.size() + removedEdges.size();
+    }
+
+    public boolean isEmpty() {
+        return changeCount() == 0;
+    }
+
+    private static boolean sameNode(IndexedMindmapGraph a, int i, IndexedMindmapGraph b, int j) {
+        return Objects.equals(a.labelAt(i), b.labelAt(j))
+            && Objects.equals(a.nodeTypeAt(i), b.nodeTypeAt(j))
+            && a.filePathsAt(i).equals(b.filePathsAt(j));
+    }
+
+    private static EdgeKey keyOf(EdgeDto edge) {
+        return new EdgeKey(edge.getFromKey(), edge.getToKey(), edge.getEdgeType());
+    }
+}
@@ -0,0 +1,118 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 마인드맵 그래프 전용 Redis 값 코덱
+ *
+ * 저장 형식: [MAGIC(1)][VERSION(1)][FLAGS(1)][payload]
+ * - Smile: 반복되는 필드명과 문자열 값(파일 경로, 노드 키)을 back-reference 로 공유하는 바이너리 JSON
+ * - 임계값 이상의 payload 는 Deflate 로 압축
+ * - 헤더가 없는 값은 이전 Jackson JSON 형식으로 간주하여 그대로 읽음
+ */
+public class MindmapGraphRedisSerializer implements RedisSerializer<CachedValue<MindmapGraphResponseDto>> {
+
+    private static final byte MAGIC = 0x47;  // 'G'
+    private static final byte VERSION = 1;
+    private static final byte FLAG_SMILE = 0x01;
+    private static final byte FLAG_DEFLATE = 0x02;
+    private static final int HEADER_SIZE = 3;
+
+    private static final TypeReference<CachedValue<MindmapGraphResponseDto>> CACHED_GRAPH_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final boolean binary;
+    private final int compressionThreshold;
+    private final Duration legacyAge;
+
+    /**
+     * @param legacyAge 적재 시각이 없는 이전 형식 값의 나이 (soft TTL 을 넘기면 hard TTL 전까지는 사용하면서 재검증)
+     */
+    public MindmapGraphRedisSerializer(ObjectMapper jsonMapper, boolean binary, int compressionThreshold, Duration legacyAge) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.binary = binary;
+        this.compressionThreshold = compressionThreshold;
+        this.legacyAge = legacyAge;
+    }
+
+    @Override
+    public byte[] serialize(CachedValue<MindmapGraphResponseDto> value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            byte flags = binary ? FLAG_SMILE : 0;
+            byte[] payload = (binary ? smileMapper : jsonMapper).writeValueAsBytes(value);
+
+            if (payload.length >= compressionThreshold) {
+                payload = DeflateCompressor.compress(payload);
+                flags |= FLAG_DEFLATE;
+            }
+
+            byte[] result = new byte[HEADER_SIZE + payload.length];
+            result[0] = MAGIC;
+            result[1] = VERSION;
+            result[2] = flags;
+            System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("마인드맵 그래프 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public CachedValue<MindmapGraphResponseDto> deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            if (bytes[0] != MAGIC) {
+                return readLegacyJson(bytes);
+            }
+            if (bytes.length < HEADER_SIZE || bytes[1] > VERSION) {
+                throw new SerializationException("지원하지 않는 마인드맵 그래프 캐시 형식 - version: " + bytes[1]);
+            }
+
+            byte flags = bytes[2];
+            byte[] payload = Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+            if ((flags & FLAG_DEFLATE) != 0) {
+                payload = DeflateCompressor.decompress(payload);
+            }
+
+            ObjectMapper mapper = (flags & FLAG_SMILE) != 0 ? smileMapper : jsonMapper;
+            return mapper.readValue(payload, CACHED_GRAPH_TYPE);
+        } catch (IOException e) {
+            throw new SerializationException("마인드맵 그래프 역직렬화 실패", e);
+        }
+    }
+
+    // 헤더 없이 저장된 이전 JSON 값 (CachedValue 이전 형식이면 만료 대신 재검증 대상으로 반환)
+    private CachedValue<MindmapGraphResponseDto> readLegacyJson(byte[] bytes) throws IOException {
+        JsonNode tree = jsonMapper.readTree(bytes);
+        if (tree.has("loadedAt")) {
+            return jsonMapper.convertValue(tree, CACHED_GRAPH_TYPE);
+        }
+        return CachedValue.legacy(jsonMapper.treeToValue(tree, MindmapGraphResponseDto.class), legacyAge);
+    }
+}
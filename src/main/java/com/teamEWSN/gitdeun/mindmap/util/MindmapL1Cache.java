@@ -1,6 +1,5 @@
 package com.teamEWSN.gitdeun.mindmap.util;
 
-import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
@@ -12,13 +11,13 @@ public class MindmapL1Cache {
   // L1 캐시에서 데이터를 가져오는 역할만 수행
   // 캐시가 있으면 반환, 없으면 null 반환
   @Cacheable(value = "MINDMAP_GRAPH_L1", key = "#mapId")
-  public MindmapGraphResponseDto getGraphFromL1Cache(String mapId) {
+  public CachedValue<IndexedMindmapGraph> getGraphFromL1Cache(String mapId) {
     return null;
   }
 
-  // L1 캐시에 데이터를 저장하는 역할만 수행
+  // L1 캐시에 데이터를 저장하는 역할만 수행 (적재 시각 포함)
   @CachePut(value = "MINDMAP_GRAPH_L1", key = "#mapId")
-  public MindmapGraphResponseDto cacheToL1(String mapId, MindmapGraphResponseDto data) {
+  public CachedValue<IndexedMindmapGraph> cacheToL1(String mapId, CachedValue<IndexedMindmapGraph> data) {
     return data;
   }
 
@@ -35,6 +35,11 @@ public interface MindmapMemberRepository extends JpaRepository<MindmapMember, Lo
                                                 @Param("userId") Long userId,
                                                 @Param("roles") Collection<MindmapRole> roles);
 
+    /* 권한 확인용 역할 조회 (단일 쿼리, 삭제된 마인드맵이면 빈 값) */
+    @Query("SELECT m.role FROM MindmapMember m WHERE m.mindmap.id = :mindmapId AND m.user.id = :userId " +
+        "AND m.mindmap.deletedAt IS NULL")
+    Optional<MindmapRole> findRoleByMindmapIdAndUserId(@Param("mindmapId") Long mindmapId, @Param("userId") Long userId);
+
     // 삭제되지 않은 마인드맵의 멤버만 조회(권한 변경)
     @Query("SELECT m FROM MindmapMember m WHERE m.id = :memberId AND m.mindmap.id = :mindmapId " +
         "AND m.mindmap.deletedAt IS NULL")
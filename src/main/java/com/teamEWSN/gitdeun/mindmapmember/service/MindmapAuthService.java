@@ -1,36 +1,114 @@
 package com.teamEWSN.gitdeun.mindmapmember.service;
 
-import com.teamEWSN.gitdeun.mindmap.repository.MindmapRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
 import com.teamEWSN.gitdeun.mindmapmember.entity.MindmapRole;
 import com.teamEWSN.gitdeun.mindmapmember.repository.MindmapMemberRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Optional;
 
+/**
+ * 마인드맵 권한 확인
+ *
+ * (마인드맵, 사용자) 역할을 단일 쿼리로 조회하여 짧은 TTL 로 캐시합니다.
+ * 멤버 역할 변경/추방/초대 수락/마인드맵 삭제 시 evict 로 모든 인스턴스에서 제거합니다.
+ */
 @Service
-@RequiredArgsConstructor
 public class MindmapAuthService {
 
+    private static final String CACHE_NAME = "MINDMAP_PERMISSION";
+    private static final String ALL_USERS = "*";
+
     private final MindmapMemberRepository memberRepository;
-    private final MindmapRepository mindmapRepository;
+    private final CacheCoherenceService cacheCoherenceService;
+
+    // 멤버가 아닌 경우도 Optional.empty() 로 캐시
+    private final Cache<PermissionKey, Optional<MindmapRole>> roles;
+
+    private record PermissionKey(Long mapId, Long userId) {
+    }
+
+    public MindmapAuthService(MindmapMemberRepository memberRepository,
+                              CacheCoherenceService cacheCoherenceService,
+                              @Value("${app.cache.mindmap-permission.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${app.cache.mindmap-permission.max-size:20000}") long maxSize) {
+        this.memberRepository = memberRepository;
+        this.cacheCoherenceService = cacheCoherenceService;
+        this.roles = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    // 다른 인스턴스에서 전파된 무효화 적용 (키: "mapId:userId" 또는 "mapId:*")
+    @PostConstruct
+    void registerInvalidationHandler() {
+        cacheCoherenceService.registerHandler(CACHE_NAME, key -> {
+            if (key == null) {
+                roles.invalidateAll();
+                return;
+            }
+            String[] parts = key.toString().split(":", 2);
+            Long mapId = Long.valueOf(parts[0]);
+            if (ALL_USERS.equals(parts[1])) {
+                roles.asMap().keySet().removeIf(permissionKey -> permissionKey.mapId().equals(mapId));
+            } else {
+                roles.invalidate(new PermissionKey(mapId, Long.valueOf(parts[1])));
+            }
+        });
+    }
 
     /** OWNER 확인 - 삭제되지 않은 마인드맵만 */
     public boolean isOwner(Long mapId, Long userId) {
-        return mindmapRepository.findByIdAndDeletedAtIsNull(mapId).isPresent() &&
-            memberRepository.existsByMindmapIdAndUserIdAndRole(mapId, userId, MindmapRole.OWNER);
+        return getRole(mapId, userId).filter(role -> role == MindmapRole.OWNER).isPresent();
     }
 
     /** 수정 권한(OWNER, EDITOR) - 삭제되지 않은 마인드맵만 */
     public boolean hasEdit(Long mapId, Long userId) {
-        return mindmapRepository.findByIdAndDeletedAtIsNull(mapId).isPresent() &&
-            memberRepository.existsByMindmapIdAndUserIdAndRoleIn(
-                mapId, userId, List.of(MindmapRole.OWNER, MindmapRole.EDITOR));
+        return getRole(mapId, userId).filter(role -> role == MindmapRole.OWNER || role == MindmapRole.EDITOR).isPresent();
     }
 
     /** 열람 권한(모든 멤버) - 삭제되지 않은 마인드맵만 */
     public boolean hasView(Long mapId, Long userId) {
-        return mindmapRepository.findByIdAndDeletedAtIsNull(mapId).isPresent() &&
-            memberRepository.existsByMindmapIdAndUserId(mapId, userId);
+        return getRole(mapId, userId).isPresent();
+    }
+
+    /** 사용자의 역할 - 멤버가 아니거나 삭제된 마인드맵이면 빈 값 */
+    public Optional<MindmapRole> getRole(Long mapId, Long userId) {
+        if (mapId == null || userId == null) {
+            return Optional.empty();
+        }
+        return roles.get(new PermissionKey(mapId, userId),
+            key -> memberRepository.findRoleByMindmapIdAndUserId(key.mapId(), key.userId()));
+    }
+
+    /** 특정 사용자의 권한 캐시 제거 (멤버 추가/탈퇴) */
+    public void evict(Long mapId, Long userId) {
+        evictAfterCommit(mapId + ":" + userId);
+    }
+
+    /** 마인드맵 전체 멤버의 권한 캐시 제거 (역할 변경/추방/삭제) */
+    public void evictMindmap(Long mapId) {
+        evictAfterCommit(mapId + ":" + ALL_USERS);
+    }
+
+    // 즉시 제거하고, 트랜잭션 중이면 커밋 후 한 번 더 제거 (커밋 전 조회로 이전 역할이 다시 캐시되는 경우 대비)
+    private void evictAfterCommit(String key) {
+        cacheCoherenceService.evict(CACHE_NAME, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheCoherenceService.evict(CACHE_NAME, key);
+                }
+            });
+        }
     }
 }
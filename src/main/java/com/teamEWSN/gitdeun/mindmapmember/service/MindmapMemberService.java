@@ -49,6 +49,7 @@ public class MindmapMemberService {
 
         // 대상 멤버 역할 변경
         targetMember.updateRole(newRole);
+        auth.evictMindmap(mapId);
     }
 
     // 멤버 추방
@@ -58,6 +59,7 @@ public class MindmapMemberService {
             throw new GlobalException(ErrorCode.FORBIDDEN_ACCESS);
         }
         memberRepository.deleteByIdAndMindmapId(memberId, mapId);
+        auth.evictMindmap(mapId);
     }
 
 }
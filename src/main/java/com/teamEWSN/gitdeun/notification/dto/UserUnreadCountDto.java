@@ -0,0 +1,7 @@
+package com.teamEWSN.gitdeun.notification.dto;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 (일괄 보정용)
+ */
+public record UserUnreadCountDto(Long userId, Long count) {
+}
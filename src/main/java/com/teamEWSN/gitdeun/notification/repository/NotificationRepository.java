@@ -1,5 +1,6 @@
 package com.teamEWSN.gitdeun.notification.repository;
 
+import com.teamEWSN.gitdeun.notification.dto.UserUnreadCountDto;
 import com.teamEWSN.gitdeun.notification.entity.Notification;
 import com.teamEWSN.gitdeun.user.entity.User;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,6 +24,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 사용자의 읽지 않은 알림 개수 조회
     int countByUserAndReadFalse(User user);
 
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.read = false")
+    int countUnreadByUserId(@Param("userId") Long userId);
+
+    // 여러 사용자의 읽지 않은 알림 개수 일괄 조회 (읽지 않은 알림이 없는 사용자는 결과에 없음)
+    @Query("SELECT new com.teamEWSN.gitdeun.notification.dto.UserUnreadCountDto(n.user.id, COUNT(n)) " +
+        "FROM Notification n WHERE n.user.id IN :userIds AND n.read = false GROUP BY n.user.id")
+    List<UserUnreadCountDto> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
     // 특정 알림이 해당 사용자의 소유인지 확인하며 조회
     Optional<Notification> findByIdAndUser(Long id, User user);
 
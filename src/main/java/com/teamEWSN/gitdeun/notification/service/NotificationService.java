@@ -30,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private final NotificationSseService notificationSseService;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final NotificationMapper notificationMapper;
@@ -167,9 +168,8 @@ public class NotificationService {
         // HTML 형식의 이메일 발송
         sendEmailNotification(invitation.getInvitee().getEmail(), "[Gitdeun] 마인드맵 초대장이 도착했습니다.", emailMessage);
 
-        // 실시간 알림 전송 (웹)
-        int unreadCount = notificationRepository.countByUserAndReadFalse(invitation.getInvitee());
-        notificationSseService.sendUnreadCount(invitation.getInvitee().getId(), unreadCount);
+        // 실시간 알림 전송 (웹) - 개수는 커밋 후 카운터 반영 시 묶어서 전송
+        unreadNotificationCounter.adjust(invitation.getInvitee().getId(), 1);
         notificationSseService.sendNewNotification(invitation.getInvitee().getId(), notificationMapper.toResponseDto(notification));
     }
 
@@ -193,8 +193,7 @@ public class NotificationService {
         // 이메일 발송 (비동기 처리)
         sendEmailNotification(user.getEmail(), "[Gitdeun] 새로운 알림이 도착했습니다.", message);
 
-        int unreadCount = notificationRepository.countByUserAndReadFalse(user);
-        notificationSseService.sendUnreadCount(user.getId(), unreadCount);
+        unreadNotificationCounter.adjust(user.getId(), 1);
 
         // 새 알림 전송
         notificationSseService.sendNewNotification(dto.getUser().getId(),
@@ -216,9 +215,7 @@ public class NotificationService {
      */
     @Transactional(readOnly = true)
     public UnreadNotificationCountDto getUnreadNotificationCount(Long userId) {
-        User user = getUserById(userId);
-        int count = notificationRepository.countByUserAndReadFalse(user);
-        return new UnreadNotificationCountDto(count);
+        return new UnreadNotificationCountDto(unreadNotificationCounter.get(userId));
     }
 
     /**
@@ -235,8 +232,7 @@ public class NotificationService {
             notification.markAsRead();
 
             // 읽음 처리 후, 변경된 '읽지 않은 알림 개수'를 실시간으로 전송
-            int unreadCount = notificationRepository.countByUserAndReadFalse(user);
-            notificationSseService.sendUnreadCount(user.getId(), unreadCount);
+            unreadNotificationCounter.adjust(user.getId(), -1);
         }
     }
 
@@ -249,7 +245,7 @@ public class NotificationService {
         notificationRepository.markAllAsReadByUser(user);
 
         // 변경된 '읽지 않은 알림 개수'(0)를 실시간으로 전송
-        notificationSseService.sendUnreadCount(user.getId(), 0);
+        unreadNotificationCounter.reset(user.getId());
     }
 
     /**
@@ -267,8 +263,7 @@ public class NotificationService {
 
         // 만약 삭제된 알림이 '읽지 않은' 상태인 경우, 개수 조정 후전송
         if (wasUnread) {
-            int unreadCount = notificationRepository.countByUserAndReadFalse(user);
-            notificationSseService.sendUnreadCount(user.getId(), unreadCount);
+            unreadNotificationCounter.adjust(user.getId(), -1);
         }
     }
 
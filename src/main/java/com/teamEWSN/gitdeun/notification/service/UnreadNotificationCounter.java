@@ -0,0 +1,247 @@
+package com.teamEWSN.gitdeun.notification.service;
+
+import com.teamEWSN.gitdeun.notification.dto.UserUnreadCountDto;
+import com.teamEWSN.gitdeun.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 저장소
+ *
+ * 개수를 Redis 카운터로 관리하여 알림 생성/읽음/삭제 때마다 COUNT 쿼리를 실행하지 않습니다.
+ * - 변경은 커밋 후 INCRBY 로 반영하며, 카운터가 없으면(만료/최초) 다음 조회 시 DB 에서 다시 적재합니다.
+ * - 변경된 사용자는 모아 두었다가 짧은 주기로 사용자당 한 번만 SSE 로 전송합니다.
+ * - 변경이 있었던 사용자의 카운터는 주기적으로 GROUP BY 쿼리 한 번으로 DB 값과 맞춥니다.
+ *   보정 중 값이 바뀐 카운터는 덮어쓰지 않고 다음 보정 대상으로 남깁니다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 카운터가 있을 때만 증감 (음수가 되지 않도록 보정), 없으면 nil
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 0 then return nil end " +
+        "local v = redis.call('incrby', KEYS[1], ARGV[1]) " +
+        "if v < 0 then redis.call('set', KEYS[1], 0) v = 0 end " +
+        "redis.call('expire', KEYS[1], ARGV[2]) " +
+        "return v",
+        Long.class);
+
+    // DB 조회 전에 읽은 값과 같을 때만 보정 값으로 교체 (그 사이 증감이 있었으면 건너뜀)
+    // ARGV: TTL, (이전 값 또는 "", 보정 값)...  → 건너뛴 키의 순번(1부터) 목록
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+        "local skipped = {} " +
+        "for i = 1, #KEYS do " +
+        "  local current = redis.call('get', KEYS[i]) or '' " +
+        "  if current == ARGV[i * 2] then " +
+        "    redis.call('set', KEYS[i], ARGV[i * 2 + 1], 'EX', ARGV[1]) " +
+        "  else " +
+        "    table.insert(skipped, tostring(i)) " +
+        "  end " +
+        "end " +
+        "return skipped",
+        List.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final NotificationSseService notificationSseService;
+    private final Duration ttl;
+
+    // SSE 전송 대기 중인 사용자
+    private final Set<Long> pendingPush = ConcurrentHashMap.newKeySet();
+    // 마지막 보정 이후 카운터가 변경된 사용자
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+
+    public UnreadNotificationCounter(RedisTemplate<String, String> stringRedisTemplate,
+                                     NotificationRepository notificationRepository,
+                                     NotificationSseService notificationSseService,
+                                     @Value("${app.notification.unread-count.ttl-hours:24}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.notificationSseService = notificationSseService;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 읽지 않은 알림 개수 (카운터가 없으면 DB 에서 적재)
+     */
+    public int get(Long userId) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key(userId));
+            if (cached != null) {
+                return Integer.parseInt(cached);
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 조회 실패 - DB 조회로 대체 (userId={})", userId, e);
+            return notificationRepository.countUnreadByUserId(userId);
+        }
+        return load(userId);
+    }
+
+    /** 알림 추가/읽음/삭제에 따른 증감 (트랜잭션 중이면 커밋 후 반영) */
+    public void adjust(Long userId, int delta) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(key(userId)),
+                    String.valueOf(delta), String.valueOf(ttl.toSeconds()));
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 개수 갱신 실패 - 카운터 제거 후 재적재 (userId={})", userId, e);
+                evict(userId);
+            }
+            changed(userId);
+        });
+    }
+
+    /** 모두 읽음 처리 (트랜잭션 중이면 커밋 후 반영) */
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForValue().set(key(userId), "0", ttl);
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 개수 초기화 실패 (userId={})", userId, e);
+                evict(userId);
+            }
+            changed(userId);
+        });
+    }
+
+    /**
+     * 변경된 사용자에게 최신 개수를 한 번씩 전송 (같은 주기 내 여러 변경은 하나로 합침)
+     */
+    @Scheduled(fixedDelayString = "${app.notification.unread-count.push-interval-ms:200}")
+    public void flush() {
+        if (pendingPush.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>();
+        for (Long userId : pendingPush) {
+            if (pendingPush.remove(userId) && notificationSseService.hasSubscriber(userId)) {
+                userIds.add(userId);
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<String> values;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(userIds.stream().map(this::key).toList());
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 일괄 조회 실패 - 사용자 수: {}", userIds.size(), e);
+            return;
+        }
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            String value = values != null ? values.get(i) : null;
+            int count = value != null ? Integer.parseInt(value) : load(userId);
+            notificationSseService.sendUnreadCount(userId, count);
+        }
+    }
+
+    /**
+     * 변경이 있었던 사용자의 카운터를 DB 값으로 보정
+     */
+    @Scheduled(fixedDelayString = "${app.notification.unread-count.reconcile-interval-ms:600000}",
+        initialDelayString = "${app.notification.unread-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (touched.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>();
+        for (Long userId : touched) {
+            if (touched.remove(userId)) {
+                userIds.add(userId);
+            }
+        }
+
+        try {
+            List<String> keys = userIds.stream().map(this::key).toList();
+            // DB 조회 전 카운터 값 (보정 시 비교용)
+            List<String> before = stringRedisTemplate.opsForValue().multiGet(keys);
+
+            Map<Long, Long> counts = new HashMap<>();
+            for (UserUnreadCountDto dto : notificationRepository.countUnreadByUserIds(userIds)) {
+                counts.put(dto.userId(), dto.count());
+            }
+
+            List<String> args = new ArrayList<>(1 + userIds.size() * 2);
+            args.add(String.valueOf(ttl.toSeconds()));
+            for (int i = 0; i < userIds.size(); i++) {
+                String previous = before != null ? before.get(i) : null;
+                args.add(previous != null ? previous : "");
+                args.add(String.valueOf(counts.getOrDefault(userIds.get(i), 0L)));
+            }
+            List<?> skipped = stringRedisTemplate.execute(RECONCILE_SCRIPT, keys, args.toArray());
+
+            // 보정 중 값이 바뀐 사용자는 다음 주기에 다시 보정
+            if (skipped != null) {
+                for (Object index : skipped) {
+                    touched.add(userIds.get(Integer.parseInt(String.valueOf(index)) - 1));
+                }
+            }
+            log.debug("읽지 않은 알림 개수 보정 완료 - 사용자 수: {}, 다음 주기로 연기: {}",
+                userIds.size(), skipped != null ? skipped.size() : 0);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 보정 실패 - 카운터 제거 (다음 조회 시 재적재)", e);
+            userIds.forEach(this::evict);
+        }
+    }
+
+    private int load(Long userId) {
+        int count = notificationRepository.countUnreadByUserId(userId);
+        try {
+            // 그 사이 다른 요청이 적재/증감했다면 덮어쓰지 않음
+            stringRedisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), ttl);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 저장 실패 (userId={})", userId, e);
+        }
+        return count;
+    }
+
+    private void changed(Long userId) {
+        touched.add(userId);
+        pendingPush.add(userId);
+    }
+
+    private void evict(Long userId) {
+        try {
+            stringRedisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 카운터 삭제 실패 (userId={})", userId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -93,6 +93,26 @@ public class RecruitmentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 모집 공고 목록 커서 기반 조회 API (무한 스크롤용)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기
+     * @return 공고 목록과 다음 페이지 커서
+     */
+    @GetMapping("/recruitments/cursor")
+    public ResponseEntity<RecruitmentCursorPageResponseDto> searchRecruitmentsByCursor(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) RecruitmentStatus status,
+        @RequestParam(required = false) List<RecruitmentField> field,
+        @RequestParam(required = false) List<DeveloperSkill> languages,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        RecruitmentCursorPageResponseDto response = recruitmentService.searchRecruitmentsByCursor(keyword, status, field, languages, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 모집 공고 수정 API (작성자만 가능)
      *
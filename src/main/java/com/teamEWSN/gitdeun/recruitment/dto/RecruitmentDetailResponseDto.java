@@ -3,8 +3,10 @@ package com.teamEWSN.gitdeun.recruitment.dto;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentField;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
 import com.teamEWSN.gitdeun.userskill.entity.DeveloperSkill;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.With;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,6 +14,7 @@ import java.util.Set;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class RecruitmentDetailResponseDto {
     private Long id;
     private String title;
@@ -24,6 +27,7 @@ public class RecruitmentDetailResponseDto {
 
     private int teamSizeTotal;
     private int recruitQuota;
+    @With
     private int viewCount;
 
     private String recruiterNickname;
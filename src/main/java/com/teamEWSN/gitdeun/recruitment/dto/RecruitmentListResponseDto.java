@@ -26,6 +26,7 @@ public class RecruitmentListResponseDto {
     private LocalDateTime startAt;  // 모집 기간
     private LocalDateTime endAt;
 
+    @With
     private Integer viewCount;
     private Integer recruitQuota;
 
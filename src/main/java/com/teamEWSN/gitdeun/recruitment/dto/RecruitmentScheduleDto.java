@@ -0,0 +1,9 @@
+package com.teamEWSN.gitdeun.recruitment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태 전환 예약용 공고 일정 (모집 시작/마감 시각)
+ */
+public record RecruitmentScheduleDto(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+}
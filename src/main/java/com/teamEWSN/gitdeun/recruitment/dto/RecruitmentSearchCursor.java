@@ -0,0 +1,41 @@
+package com.teamEWSN.gitdeun.recruitment.dto;
+
+import com.teamEWSN.gitdeun.common.exception.ErrorCode;
+import com.teamEWSN.gitdeun.common.exception.GlobalException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 모집 공고 검색 커서 (마지막으로 받은 공고의 정렬 키)
+ * 전문 검색이면 (점수, ID), 그 외에는 ID 만 사용합니다.
+ */
+public record RecruitmentSearchCursor(Double score, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = (score != null ? score + SEPARATOR : "") + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static RecruitmentSearchCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                return new RecruitmentSearchCursor(null, Long.valueOf(raw));
+            }
+            return new RecruitmentSearchCursor(Double.valueOf(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(ErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.teamEWSN.gitdeun.user.entity.User;
 import com.teamEWSN.gitdeun.userskill.entity.DeveloperSkill;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -72,6 +73,7 @@ public class Recruitment extends AuditedEntity {
     // 개발 분야 태그 (선택 필요) - BACKEND/FRONTEND/AI 등
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "recruitment_field_tags")
+    @BatchSize(size = 100)
     @Column(name = "field", nullable = false, length = 32)
     @Enumerated(EnumType.STRING)
     @Builder.Default
@@ -80,6 +82,7 @@ public class Recruitment extends AuditedEntity {
     // 개발 언어 태그 (선택 필요) - 화면 필터/표시용
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "recruitment_language_tags")
+    @BatchSize(size = 100)
     @Column(name = "language", nullable = false, length = 64)
     @Enumerated(EnumType.STRING)
     @Builder.Default
@@ -98,6 +101,7 @@ public class Recruitment extends AuditedEntity {
     // 모집 공고 이미지 (선택)
     @Builder.Default
     @OneToMany(mappedBy = "recruitment", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<RecruitmentImage> recruitmentImages = new ArrayList<>();
 
     // 지원 신청 리스트
@@ -132,5 +136,4 @@ public class Recruitment extends AuditedEntity {
         }
     }
 
-    public void increaseView() { this.viewCount++; }
 }
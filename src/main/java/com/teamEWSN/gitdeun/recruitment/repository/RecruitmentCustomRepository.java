@@ -1,5 +1,6 @@
 package com.teamEWSN.gitdeun.recruitment.repository;
 
+import com.teamEWSN.gitdeun.recruitment.dto.RecruitmentSearchCursor;
 import com.teamEWSN.gitdeun.recruitment.entity.Recruitment;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentField;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
@@ -17,4 +18,21 @@ public interface RecruitmentCustomRepository {
         List<DeveloperSkill> languages,
         Pageable pageable
     );
+
+    // 커서(seek) 기반 검색 - 페이지 깊이와 무관하게 일정한 비용
+    CursorSlice searchRecruitmentsByCursor(
+        String keyword,
+        RecruitmentStatus status,
+        List<RecruitmentField> fields,
+        List<DeveloperSkill> languages,
+        RecruitmentSearchCursor cursor,
+        int size
+    );
+
+    /**
+     * @param content    조회된 공고 (정렬 순서 유지)
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    record CursorSlice(List<Recruitment> content, RecruitmentSearchCursor nextCursor) {
+    }
 }
@@ -1,26 +1,72 @@
 package com.teamEWSN.gitdeun.recruitment.repository;
 
+import com.teamEWSN.gitdeun.recruitment.dto.RecruitmentScheduleDto;
 import com.teamEWSN.gitdeun.recruitment.entity.Recruitment;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecruitmentRepository extends JpaRepository<Recruitment, Long>, RecruitmentCustomRepository{
-    // 스케줄링을 위한 조회
-    List<Recruitment> findAllByStatusAndStartAtBefore(RecruitmentStatus status, LocalDateTime now);
-    List<Recruitment> findAllByStatusAndEndAtBefore(RecruitmentStatus status, LocalDateTime now);
+    // 상태 전환 예약 대상 일정 조회 (모집 예정/모집 중)
+    @Query("SELECT new com.teamEWSN.gitdeun.recruitment.dto.RecruitmentScheduleDto(r.id, r.startAt, r.endAt) " +
+        "FROM Recruitment r WHERE r.status IN :statuses")
+    List<RecruitmentScheduleDto> findSchedulesByStatusIn(@Param("statuses") List<RecruitmentStatus> statuses);
+
+    // 시각이 지난 공고의 상태 일괄 전환 (ids 가 지정되면 해당 공고만)
+    @Modifying
+    @Query("UPDATE Recruitment r SET r.status = :toStatus " +
+        "WHERE r.id IN :ids AND r.status = :fromStatus AND r.startAt <= :now")
+    int startRecruitments(@Param("ids") Collection<Long> ids,
+                          @Param("fromStatus") RecruitmentStatus fromStatus,
+                          @Param("toStatus") RecruitmentStatus toStatus,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Recruitment r SET r.status = :toStatus " +
+        "WHERE r.id IN :ids AND r.status = :fromStatus AND r.endAt <= :now")
+    int closeRecruitments(@Param("ids") Collection<Long> ids,
+                          @Param("fromStatus") RecruitmentStatus fromStatus,
+                          @Param("toStatus") RecruitmentStatus toStatus,
+                          @Param("now") LocalDateTime now);
+
+    // 전체 보정용 (예약 누락 대비)
+    @Modifying
+    @Query("UPDATE Recruitment r SET r.status = :toStatus WHERE r.status = :fromStatus AND r.startAt <= :now")
+    int startAllDue(@Param("fromStatus") RecruitmentStatus fromStatus,
+                    @Param("toStatus") RecruitmentStatus toStatus,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Recruitment r SET r.status = :toStatus WHERE r.status = :fromStatus AND r.endAt <= :now")
+    int closeAllDue(@Param("fromStatus") RecruitmentStatus fromStatus,
+                    @Param("toStatus") RecruitmentStatus toStatus,
+                    @Param("now") LocalDateTime now);
 
     // 내 공고 목록 조회
     @EntityGraph(attributePaths = {"recruiter"})
     Page<Recruitment> findByRecruiterId(Long recruiterId, Pageable pageable);
 
-    // 상태 기반 조회(추천 시)
+    // 상태 기반 조회(추천 인덱스 구성 시) - 언어 태그를 함께 조회
+    @EntityGraph(attributePaths = {"languageTags"})
     List<Recruitment> findAllByStatusIn(List<RecruitmentStatus> statuses);
+
+    // 추천 인덱스 단건 갱신
+    @EntityGraph(attributePaths = {"languageTags"})
+    Optional<Recruitment> findWithLanguageTagsById(Long id);
+
+    // 추천 결과 페이지 구성 (목록 DTO 에 필요한 연관 데이터를 함께 조회)
+    @EntityGraph(attributePaths = {"languageTags", "fieldTags", "recruitmentImages"})
+    List<Recruitment> findAllByIdIn(Collection<Long> ids);
 }
@@ -1,24 +1,36 @@
 package com.teamEWSN.gitdeun.recruitment.repository;
 
-import com.querydsl.core.types.OrderSpecifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamEWSN.gitdeun.common.exception.ErrorCode;
+import com.teamEWSN.gitdeun.common.exception.GlobalException;
+import com.teamEWSN.gitdeun.recruitment.dto.RecruitmentSearchCursor;
 import com.teamEWSN.gitdeun.recruitment.entity.Recruitment;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentField;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
 import com.teamEWSN.gitdeun.userskill.entity.DeveloperSkill;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -27,10 +39,36 @@ import static com.teamEWSN.gitdeun.recruitment.entity.QRecruitment.recruitment;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class RecruitmentRepositoryImpl implements RecruitmentCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final RecruitmentSearchIndex searchIndex;
+
+    // 정규화된 검색 조건별 전체 건수 (짧은 TTL 동안 근사값 허용)
+    private final Cache<CountKey, Long> countCache;
+
+    private record CountKey(String keyword, RecruitmentStatus status,
+                            List<RecruitmentField> fields, List<DeveloperSkill> languages) {
+    }
+
+    /**
+     * @param where         검색 조건 (키워드/상태/분야/언어)
+     * @param fullTextQuery 전문 검색이면 boolean 모드 쿼리, 아니면 null
+     */
+    private record SearchCondition(BooleanExpression[] where, String fullTextQuery) {
+    }
+
+    public RecruitmentRepositoryImpl(JPAQueryFactory queryFactory,
+                                     RecruitmentSearchIndex searchIndex,
+                                     @Value("${app.recruitment.search.count-cache.ttl-seconds:60}") long countTtlSeconds,
+                                     @Value("${app.recruitment.search.count-cache.max-size:1000}") long countMaxSize) {
+        this.queryFactory = queryFactory;
+        this.searchIndex = searchIndex;
+        this.countCache = Caffeine.newBuilder()
+            .maximumSize(countMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(countTtlSeconds))
+            .build();
+    }
 
     @Override
     public Page<Recruitment> searchRecruitments(
@@ -39,49 +77,151 @@ public class RecruitmentRepositoryImpl implements RecruitmentCustomRepository {
         // 키워드 전처리 후 Full-Text Search 활용 여부 확인
         String processed = preprocessKeyword(keyword);
 
-        // 키워드 없으면: 키워드 조건 없이 status/fields/languages 으로 페이지 조회
-        boolean hasKeyword = (processed != null);
-        BooleanExpression keywordExpr = null;
-        boolean useFullTextSearch = false;
-
-        if (hasKeyword) {
-            if (processed.length() == 1) {
-                keywordExpr = titleExactMatch(processed); // 한 글자: 완전 일치 검색
-            } else {
-                useFullTextSearch = isFullTextSearchAvailable(processed);
-                keywordExpr = useFullTextSearch ? titleFullTextSearch(processed) // 두 글자 이상: FTS 또는 Contains
-                    : fallbackContains(processed);
-            }
+        // 키워드 검색은 인메모리 색인 사용 (색인 준비 전에는 DB 검색)
+        Optional<List<RecruitmentSearchIndex.Hit>> indexed = searchIndex(processed, status, fields, languages);
+        if (indexed.isPresent()) {
+            List<RecruitmentSearchIndex.Hit> hits = indexed.get();
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            int to = Math.min(from + pageable.getPageSize(), hits.size());
+            List<Long> pageIds = hits.subList(from, to).stream().map(RecruitmentSearchIndex.Hit::id).toList();
+            return new PageImpl<>(fetchInOrder(pageIds), pageable, hits.size());
         }
 
+        SearchCondition condition = buildCondition(processed, status, fields, languages);
 
         // 엔티티 자체 데이터 조회
         // id 페이지닝
         List<Long> ids = queryFactory.select(recruitment.id).distinct()
             .from(recruitment)
-            .where(keywordExpr, statusEq(status), fieldOrFilter(fields), languageOrFilter(languages))
-            .orderBy(useFullTextSearch ? scoreOrder(processed) : recruitment.id.desc())
+            .where(condition.where())
+            .orderBy(condition.fullTextQuery() != null ? scoreExpr(condition.fullTextQuery()).desc() : recruitment.id.desc())
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        if (ids.isEmpty()) return Page.empty(pageable);
+        if (ids.isEmpty() && pageable.getOffset() == 0) return Page.empty(pageable);
 
         // ID 목록으로 전체 데이터 조회
-        String idCsv = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
-        List<Recruitment> content = queryFactory.selectFrom(recruitment)
+        List<Recruitment> content = fetchInOrder(ids);
+
+        // 전체 카운트 조회 (첫/마지막 페이지에서 알 수 있으면 생략, 그 외에는 조건별 캐시 사용)
+        CountKey countKey = new CountKey(processed, status, normalize(fields), normalize(languages));
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> countCache.get(countKey, key -> count(condition)));
+    }
+
+    @Override
+    public CursorSlice searchRecruitmentsByCursor(
+        String keyword, RecruitmentStatus status, List<RecruitmentField> fields, List<DeveloperSkill> languages,
+        RecruitmentSearchCursor cursor, int size
+    ) {
+        String processed = preprocessKeyword(keyword);
+        SearchCondition condition = buildCondition(processed, status, fields, languages);
+        String fullTextQuery = condition.fullTextQuery();
+        Optional<List<RecruitmentSearchIndex.Hit>> indexed = searchIndex(processed, status, fields, languages);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+        List<RecruitmentSearchCursor> keys;
+        if (indexed.isPresent()) {
+            if (cursor != null && cursor.score() == null) {
+                throw new GlobalException(ErrorCode.INVALID_SEARCH_CURSOR);
+            }
+            RecruitmentSearchIndex.Hit last = cursor != null ? new RecruitmentSearchIndex.Hit(cursor.id(), cursor.score()) : null;
+            keys = indexed.get().stream()
+                .filter(hit -> last == null || RecruitmentSearchIndex.RANKING.compare(hit, last) > 0)
+                .limit(size + 1L)
+                .map(hit -> new RecruitmentSearchCursor(hit.score(), hit.id()))
+                .toList();
+        } else if (fullTextQuery != null) {
+            if (cursor != null && cursor.score() == null) {
+                throw new GlobalException(ErrorCode.INVALID_SEARCH_CURSOR);
+            }
+            NumberExpression<Double> score = scoreExpr(fullTextQuery);
+            keys = queryFactory.select(recruitment.id, score).distinct()
+                .from(recruitment)
+                .where(condition.where())
+                .where(cursor != null
+                    ? score.lt(cursor.score()).or(score.eq(cursor.score()).and(recruitment.id.lt(cursor.id())))
+                    : null)
+                .orderBy(score.desc(), recruitment.id.desc())
+                .limit(size + 1L)
+                .fetch()
+                .stream()
+                .map(tuple -> new RecruitmentSearchCursor(tuple.get(score), tuple.get(recruitment.id)))
+                .toList();
+        } else {
+            keys = queryFactory.select(recruitment.id).distinct()
+                .from(recruitment)
+                .where(condition.where())
+                .where(cursor != null ? recruitment.id.lt(cursor.id()) : null)
+                .orderBy(recruitment.id.desc())
+                .limit(size + 1L)
+                .fetch()
+                .stream()
+                .map(id -> new RecruitmentSearchCursor(null, id))
+                .toList();
+        }
+
+        boolean hasNext = keys.size() > size;
+        List<RecruitmentSearchCursor> page = hasNext ? keys.subList(0, size) : keys;
+        List<Recruitment> content = fetchInOrder(page.stream().map(RecruitmentSearchCursor::id).toList());
+        return new CursorSlice(content, hasNext ? page.get(page.size() - 1) : null);
+    }
+
+    private Optional<List<RecruitmentSearchIndex.Hit>> searchIndex(
+        String processed, RecruitmentStatus status, List<RecruitmentField> fields, List<DeveloperSkill> languages
+    ) {
+        // 한 글자 키워드는 기존과 같이 DB 에서 제목 완전 일치로 검색 (색인은 글자 단위로 어디서든 일치하므로)
+        if (processed == null || processed.length() == 1) {
+            return Optional.empty();
+        }
+        return searchIndex.search(processed, status, fields, languages);
+    }
+
+    private SearchCondition buildCondition(
+        String processed, RecruitmentStatus status, List<RecruitmentField> fields, List<DeveloperSkill> languages
+    ) {
+        // 키워드 없으면: 키워드 조건 없이 status/fields/languages 으로 페이지 조회
+        BooleanExpression keywordExpr = null;
+        String fullTextQuery = null;
+
+        if (processed != null) {
+            if (processed.length() == 1) {
+                keywordExpr = titleExactMatch(processed); // 한 글자: 완전 일치 검색
+            } else if (isFullTextSearchAvailable(processed)) {
+                fullTextQuery = buildBooleanQuery(processed); // 두 글자 이상: FTS 또는 Contains
+                keywordExpr = titleFullTextSearch(fullTextQuery);
+            } else {
+                keywordExpr = fallbackContains(processed);
+            }
+        }
+        return new SearchCondition(new BooleanExpression[]{
+            keywordExpr, statusEq(status), fieldOrFilter(fields), languageOrFilter(languages)}, fullTextQuery);
+    }
+
+    // ID 목록으로 공고 조회 후 ID 순서대로 정렬 (태그/이미지는 @BatchSize 로 한 번에 로딩)
+    private List<Recruitment> fetchInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, Recruitment> byId = queryFactory.selectFrom(recruitment)
             .where(recruitment.id.in(ids))
-            .orderBy(Expressions.numberTemplate(Integer.class,
-                "FIELD({0}, " + idCsv + ")", recruitment.id).asc())
-            .fetch();
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(Recruitment::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
 
-        // 전체 카운트 조회
+    private long count(SearchCondition condition) {
         Long total = queryFactory.select(recruitment.id.countDistinct())
             .from(recruitment)
-            .where(keywordExpr, statusEq(status), fieldOrFilter(fields), languageOrFilter(languages))
+            .where(condition.where())
             .fetchOne();
+        return total != null ? total : 0L;
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    // 조건 순서/중복과 무관하게 같은 캐시 키가 되도록 정렬
+    private static <E extends Enum<E>> List<E> normalize(List<E> values) {
+        return CollectionUtils.isEmpty(values) ? List.of() : List.copyOf(new TreeSet<>(values));
     }
 
     // 키워드 전처리
@@ -133,8 +273,7 @@ public class RecruitmentRepositoryImpl implements RecruitmentCustomRepository {
      * MATCH ... AGAINST 구문 활용
      * WHERE 절: 점수 > 0 판단식
      */
-    private BooleanExpression titleFullTextSearch(String keyword) {
-        String booleanQuery = buildBooleanQuery(keyword); // 기존 전처리/토크나이저 사용
+    private BooleanExpression titleFullTextSearch(String booleanQuery) {
         return Expressions.booleanTemplate(
             "function('match_against_boolean', {0}, {1}, {2}) > 0",
             recruitment.title, recruitment.content, booleanQuery
@@ -150,12 +289,11 @@ public class RecruitmentRepositoryImpl implements RecruitmentCustomRepository {
             .or(recruitment.content.containsIgnoreCase(k));
     }
 
-    // ORDER BY 절: 점수 desc
-    private OrderSpecifier<Double> scoreOrder(String keyword) {
+    // ORDER BY 절 / 커서 비교용 점수
+    private NumberExpression<Double> scoreExpr(String booleanQuery) {
         return Expressions.numberTemplate(Double.class,
-                "function('match_against_boolean', {0}, {1}, {2})",
-                recruitment.title, recruitment.content, buildBooleanQuery(keyword))
-            .desc();
+            "function('match_against_boolean', {0}, {1}, {2})",
+            recruitment.title, recruitment.content, booleanQuery);
     }
 
     // 따옴표 보존 토크나이저 + 빌더
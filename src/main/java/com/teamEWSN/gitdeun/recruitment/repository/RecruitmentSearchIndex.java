@@ -0,0 +1,326 @@
+package com.teamEWSN.gitdeun.recruitment.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
+import com.teamEWSN.gitdeun.common.search.InvertedIndex;
+import com.teamEWSN.gitdeun.common.search.NGramTokenizer;
+import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentField;
+import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
+import com.teamEWSN.gitdeun.userskill.entity.DeveloperSkill;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.teamEWSN.gitdeun.recruitment.entity.QRecruitment.recruitment;
+
+/**
+ * 모집 공고 키워드 검색용 인메모리 역색인
+ *
+ * 제목/본문을 n-gram 으로 색인하고 BM25 로 순위를 매기며, 상태/분야/언어 필터도 메모리에서 처리합니다.
+ * DB 는 결과 페이지의 공고를 ID 로 조회할 때만 사용합니다.
+ * 공고 생성/수정/삭제/상태 변경 시 refresh 로 커밋 후 다시 색인하며 다른 인스턴스에도 전파합니다.
+ * 첫 색인이 끝나기 전에는 검색하지 않으므로(빈 Optional) 호출 측에서 DB 검색으로 대체합니다.
+ */
+@Slf4j
+@Component
+public class RecruitmentSearchIndex {
+
+    private static final String CACHE_NAME = "RECRUITMENT_SEARCH_INDEX";
+    private static final int LOAD_BATCH_SIZE = 500;
+    private static final double TITLE_BOOST = 2.0;
+    private static final double CONTENT_BOOST = 1.0;
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"([^\"]+)\"|(\\S+)");
+
+    private final JPAQueryFactory queryFactory;
+    private final CacheCoherenceService cacheCoherenceService;
+    // 재구성/단건 갱신은 모두 이 실행자에서 순서대로 실행 (Redis 리스너/스케줄러 스레드를 막지 않음)
+    private final Executor indexExecutor;
+    // 대기 중인 전체 재구성이 있으면 추가 요청은 합침
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    // 재구성 중 변경된 공고 (교체 후 다시 반영)
+    private volatile Set<Long> changedDuringRebuild;
+
+    /**
+     * 검색 결과 (점수 높은 순, 같은 점수는 ID 내림차순)
+     */
+    public record Hit(Long id, double score) {
+    }
+
+    public static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+        .thenComparing(Hit::id, Comparator.reverseOrder());
+
+    private record Document(Long id, RecruitmentStatus status, long fieldMask, long languageMask) {
+    }
+
+    private record Source(Long id, String title, String content, RecruitmentStatus status,
+                          long fieldMask, long languageMask) {
+    }
+
+    // 역색인과 문서 정보 (재구성 시 통째로 교체)
+    private static final class Snapshot {
+        final InvertedIndex index = new InvertedIndex(TITLE_BOOST, CONTENT_BOOST);
+        final Map<Integer, Document> documents = new ConcurrentHashMap<>();
+        final Map<Long, Integer> docByRecruitment = new ConcurrentHashMap<>();
+
+        synchronized void put(Source source) {
+            remove(source.id());
+            int doc = index.add(source.title(), source.content());
+            documents.put(doc, new Document(source.id(), source.status(), source.fieldMask(), source.languageMask()));
+            docByRecruitment.put(source.id(), doc);
+        }
+
+        synchronized void remove(Long recruitmentId) {
+            Integer doc = docByRecruitment.remove(recruitmentId);
+            if (doc != null) {
+                index.remove(doc);
+                documents.remove(doc);
+            }
+        }
+    }
+
+    public RecruitmentSearchIndex(JPAQueryFactory queryFactory, CacheCoherenceService cacheCoherenceService,
+                                  @Qualifier("indexExecutor") Executor indexExecutor) {
+        this.queryFactory = queryFactory;
+        this.cacheCoherenceService = cacheCoherenceService;
+        this.indexExecutor = indexExecutor;
+    }
+
+    // 다른 인스턴스에서 전파된 공고 변경 적용 (키: 공고 ID, null 이면 전체 재구성)
+    @PostConstruct
+    void registerInvalidationHandler() {
+        cacheCoherenceService.registerHandler(CACHE_NAME, recruitmentId -> {
+            if (recruitmentId == null) {
+                requestRebuild();
+            } else {
+                submit(() -> reload((Long) recruitmentId));
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    /**
+     * DB 기준으로 전체 재구성 요청 (주기적으로 실행하여 삭제된 문서 정리 및 누락된 변경 보정)
+     * 색인 실행자에서 실행되며, 이미 대기 중인 재구성이 있으면 합칩니다.
+     */
+    @Scheduled(fixedDelayString = "${app.recruitment.search.index.rebuild-interval-ms:3600000}",
+        initialDelayString = "${app.recruitment.search.index.rebuild-interval-ms:3600000}")
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            submit(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private synchronized void rebuild() {
+        changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            Snapshot rebuilt = new Snapshot();
+            Long afterId = 0L;
+            List<Source> batch;
+            do {
+                batch = load(afterId, LOAD_BATCH_SIZE);
+                batch.forEach(rebuilt::put);
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            rebuilt.index.compact();
+
+            Set<Long> changed = changedDuringRebuild;
+            snapshot = rebuilt;
+            changedDuringRebuild = null;
+            changed.forEach(this::reload);
+            log.info("모집 공고 검색 색인 재구성 완료 - 공고 수: {}", rebuilt.index.size());
+        } catch (Exception e) {
+            changedDuringRebuild = null;
+            log.warn("모집 공고 검색 색인 재구성 실패 - 기존 색인 유지", e);
+        }
+    }
+
+    /**
+     * 공고 변경 반영 (트랜잭션 중이면 커밋 후 DB 에서 다시 색인, 다른 인스턴스에도 전파)
+     * recruitmentId 가 null 이면 전체 재구성
+     */
+    public void refresh(Long recruitmentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheCoherenceService.evict(CACHE_NAME, recruitmentId);
+                }
+            });
+        } else {
+            cacheCoherenceService.evict(CACHE_NAME, recruitmentId);
+        }
+    }
+
+    public void refreshAll() {
+        refresh(null);
+    }
+
+    /**
+     * 키워드 검색 (전처리된 키워드 기준)
+     * 공백/따옴표로 나눈 각 단어의 n-gram 을 모두 포함해야 하며, '-' 로 시작하는 단어는 제외 조건입니다.
+     *
+     * @return 점수 순 검색 결과, 색인이 아직 준비되지 않았으면 빈 값
+     */
+    public Optional<List<Hit>> search(String keyword, RecruitmentStatus status,
+                                      List<RecruitmentField> fields, List<DeveloperSkill> languages) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        Set<String> required = new LinkedHashSet<>();
+        List<Set<String>> excluded = new ArrayList<>();
+        Matcher matcher = TOKEN_PATTERN.matcher(keyword);
+        while (matcher.find()) {
+            String token = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            if (matcher.group(2) != null && token.startsWith("-")) {
+                excluded.add(NGramTokenizer.queryTerms(token));
+            } else {
+                required.addAll(NGramTokenizer.queryTerms(token));
+            }
+        }
+
+        long fieldMask = mask(fields);
+        long languageMask = mask(languages);
+        Map<Integer, Double> scores = current.index.search(required, excluded, doc -> {
+            Document document = current.documents.get(doc);
+            return document != null
+                && (status == null || document.status() == status)
+                && (fieldMask == 0 || (document.fieldMask() & fieldMask) != 0)
+                && (languageMask == 0 || (document.languageMask() & languageMask) != 0);
+        });
+
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((doc, score) -> {
+            Document document = current.documents.get(doc);
+            if (document != null) {
+                hits.add(new Hit(document.id(), score));
+            }
+        });
+        hits.sort(RANKING);
+        return Optional.of(hits);
+    }
+
+    private void submit(Runnable task) {
+        try {
+            indexExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rebuildQueued.set(false);
+            log.warn("색인 갱신 작업 등록 실패 (종료 중) - 다음 재구성 시 반영");
+        }
+    }
+
+    private void reload(Long recruitmentId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(recruitmentId);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            List<Source> sources = load(recruitmentId - 1, 1);
+            if (!sources.isEmpty() && sources.get(0).id().equals(recruitmentId)) {
+                current.put(sources.get(0));
+            } else {
+                current.remove(recruitmentId);
+            }
+        } catch (Exception e) {
+            log.warn("모집 공고 검색 색인 갱신 실패 - 공고 ID: {} (다음 재구성 시 반영)", recruitmentId, e);
+        }
+    }
+
+    // afterId 이후 공고를 ID 순으로 최대 limit 개 조회 (태그는 별도 쿼리로 일괄 조회)
+    private List<Source> load(Long afterId, int limit) {
+        List<Tuple> rows = queryFactory
+            .select(recruitment.id, recruitment.title, recruitment.content, recruitment.status)
+            .from(recruitment)
+            .where(recruitment.id.gt(afterId))
+            .orderBy(recruitment.id.asc())
+            .limit(limit)
+            .fetch();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(row -> row.get(recruitment.id)).toList();
+        EnumPath<RecruitmentField> fieldTag = Expressions.enumPath(RecruitmentField.class, "fieldTag");
+        EnumPath<DeveloperSkill> languageTag = Expressions.enumPath(DeveloperSkill.class, "languageTag");
+
+        Map<Long, Long> fieldMasks = new HashMap<>();
+        queryFactory.select(recruitment.id, fieldTag)
+            .from(recruitment)
+            .join(recruitment.fieldTags, fieldTag)
+            .where(recruitment.id.in(ids))
+            .fetch()
+            .forEach(row -> fieldMasks.merge(row.get(recruitment.id), bit(row.get(fieldTag)), (a, b) -> a | b));
+
+        Map<Long, Long> languageMasks = new HashMap<>();
+        queryFactory.select(recruitment.id, languageTag)
+            .from(recruitment)
+            .join(recruitment.languageTags, languageTag)
+            .where(recruitment.id.in(ids))
+            .fetch()
+            .forEach(row -> languageMasks.merge(row.get(recruitment.id), bit(row.get(languageTag)), (a, b) -> a | b));
+
+        List<Source> sources = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long id = row.get(recruitment.id);
+            sources.add(new Source(id, row.get(recruitment.title), row.get(recruitment.content),
+                row.get(recruitment.status), fieldMasks.getOrDefault(id, 0L), languageMasks.getOrDefault(id, 0L)));
+        }
+        return sources;
+    }
+
+    private static long mask(Collection<? extends Enum<?>> values) {
+        long mask = 0L;
+        if (!CollectionUtils.isEmpty(values)) {
+            for (Enum<?> value : values) {
+                mask |= bit(value);
+            }
+        }
+        return mask;
+    }
+
+    private static long bit(Enum<?> value) {
+        return value != null ? 1L << value.ordinal() : 0L;
+    }
+}
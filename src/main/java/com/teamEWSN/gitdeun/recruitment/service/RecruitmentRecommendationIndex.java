@@ -0,0 +1,228 @@
+package com.teamEWSN.gitdeun.recruitment.service;
+
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
+import com.teamEWSN.gitdeun.recruitment.entity.Recruitment;
+import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
+import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentRepository;
+import com.teamEWSN.gitdeun.recruitment.service.util.RecommendationScoreCalculator;
+import com.teamEWSN.gitdeun.userskill.entity.DeveloperSkill;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 추천 공고 인메모리 인덱스
+ *
+ * 모집 중/모집 예정 공고마다 기술 비트마스크(DeveloperSkill ordinal)와 상태/날짜만 보관합니다.
+ * 추천 시 popcount(userMask & postMask) 로 점수를 계산하고, 크기 제한 힙으로 필요한 순위까지만 추립니다.
+ * 공고 생성/수정/삭제/상태 변경 시 refresh 로 커밋 후 다시 적재하며 다른 인스턴스에도 전파합니다.
+ */
+@Slf4j
+@Component
+public class RecruitmentRecommendationIndex {
+
+    private static final String CACHE_NAME = "RECRUITMENT_RECOMMENDATION_INDEX";
+    private static final List<RecruitmentStatus> TARGET_STATUSES =
+        List.of(RecruitmentStatus.RECRUITING, RecruitmentStatus.FORTHCOMING);
+
+    static {
+        if (DeveloperSkill.values().length > Long.SIZE) {
+            throw new IllegalStateException("DeveloperSkill 개수가 비트마스크 크기(64)를 초과합니다.");
+        }
+    }
+
+    private final RecruitmentRepository recruitmentRepository;
+    private final CacheCoherenceService cacheCoherenceService;
+    // 재구성/단건 갱신은 모두 이 실행자에서 순서대로 실행 (Redis 리스너/스케줄러 스레드를 막지 않음)
+    private final Executor indexExecutor;
+    // 대기 중인 전체 재구성이 있으면 추가 요청은 합침
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(Long id, long skillMask, RecruitmentStatus status,
+                         LocalDateTime createdAt, LocalDateTime startAt, LocalDateTime endAt) {
+    }
+
+    /**
+     * 추천 결과
+     * @param ids    요청한 페이지의 공고 ID (점수 높은 순)
+     * @param scores 공고 ID 별 매칭 점수
+     * @param total  점수가 0 보다 큰 전체 공고 수
+     */
+    public record Result(List<Long> ids, Map<Long, Double> scores, long total) {
+    }
+
+    private record Scored(Long id, double score) {
+    }
+
+    // 점수 높은 순, 같은 점수는 ID 오름차순
+    private static final Comparator<Scored> RANKING = Comparator.comparingDouble(Scored::score).reversed()
+        .thenComparing(Scored::id);
+
+    public RecruitmentRecommendationIndex(RecruitmentRepository recruitmentRepository,
+                                          CacheCoherenceService cacheCoherenceService,
+                                          @Qualifier("indexExecutor") Executor indexExecutor) {
+        this.recruitmentRepository = recruitmentRepository;
+        this.cacheCoherenceService = cacheCoherenceService;
+        this.indexExecutor = indexExecutor;
+    }
+
+    // 다른 인스턴스에서 전파된 공고 변경 적용 (키: 공고 ID, null 이면 전체 재구성)
+    @PostConstruct
+    void registerInvalidationHandler() {
+        cacheCoherenceService.registerHandler(CACHE_NAME, recruitmentId -> {
+            if (recruitmentId == null) {
+                requestRebuild();
+            } else {
+                submit(() -> reload((Long) recruitmentId));
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    /**
+     * DB 기준으로 전체 재구성 요청 (주기적으로 실행하여 누락된 변경 보정)
+     * 색인 실행자에서 실행되며, 이미 대기 중인 재구성이 있으면 합칩니다.
+     */
+    @Scheduled(fixedDelayString = "${app.recruitment.recommendation.rebuild-interval-ms:600000}",
+        initialDelayString = "${app.recruitment.recommendation.rebuild-interval-ms:600000}")
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            submit(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    // 재구성과 단건 반영은 모두 단일 스레드 색인 실행자에서 순서대로 실행되므로 서로 겹치지 않음
+    private void rebuild() {
+        try {
+            Map<Long, Entry> rebuilt = new ConcurrentHashMap<>();
+            for (Recruitment recruitment : recruitmentRepository.findAllByStatusIn(TARGET_STATUSES)) {
+                rebuilt.put(recruitment.getId(), toEntry(recruitment));
+            }
+            entries.keySet().retainAll(rebuilt.keySet());
+            entries.putAll(rebuilt);
+            log.info("추천 공고 인덱스 재구성 완료 - 공고 수: {}", entries.size());
+        } catch (Exception e) {
+            log.warn("추천 공고 인덱스 재구성 실패 - 기존 인덱스 유지", e);
+        }
+    }
+
+    /**
+     * 공고 변경 반영 (트랜잭션 중이면 커밋 후 DB 에서 다시 적재, 다른 인스턴스에도 전파)
+     * recruitmentId 가 null 이면 전체 재구성
+     */
+    public void refresh(Long recruitmentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheCoherenceService.evict(CACHE_NAME, recruitmentId);
+                }
+            });
+        } else {
+            cacheCoherenceService.evict(CACHE_NAME, recruitmentId);
+        }
+    }
+
+    /**
+     * 여러 공고가 한 번에 변경된 경우 전체 재구성 (트랜잭션 중이면 커밋 후, 다른 인스턴스에도 전파)
+     */
+    public void refreshAll() {
+        refresh(null);
+    }
+
+    /**
+     * 사용자 기술과 매칭되는 공고의 순위 조회
+     * 상위 (offset + size) 개만 힙에 유지하므로 전체 정렬을 하지 않습니다.
+     */
+    public Result recommend(long userMask, long offset, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        int limit = (int) Math.min(Integer.MAX_VALUE, offset + size);
+
+        // 최소 힙: 루트가 현재 상위 limit 개 중 가장 낮은 순위
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.max(1, limit), RANKING.reversed());
+        long total = 0;
+        for (Entry entry : entries.values()) {
+            double score = RecommendationScoreCalculator.calculate(entry.skillMask(), userMask,
+                entry.status(), entry.createdAt(), entry.startAt(), entry.endAt(), now);
+            if (score <= 0.0) {
+                continue; // 매칭 점수가 0인 경우 제외
+            }
+            total++;
+            if (limit == 0) {
+                continue;
+            }
+            Scored scored = new Scored(entry.id(), score);
+            if (heap.size() < limit) {
+                heap.offer(scored);
+            } else if (RANKING.compare(scored, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(scored);
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING);
+
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = (int) Math.min(offset, ranked.size()); i < ranked.size(); i++) {
+            ids.add(ranked.get(i).id());
+            scores.put(ranked.get(i).id(), ranked.get(i).score());
+        }
+        return new Result(ids, scores, total);
+    }
+
+    private void submit(Runnable task) {
+        try {
+            indexExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rebuildQueued.set(false);
+            log.warn("색인 갱신 작업 등록 실패 (종료 중) - 다음 재구성 시 반영");
+        }
+    }
+
+    private void reload(Long recruitmentId) {
+        try {
+            recruitmentRepository.findWithLanguageTagsById(recruitmentId)
+                .filter(recruitment -> TARGET_STATUSES.contains(recruitment.getStatus()))
+                .ifPresentOrElse(
+                    recruitment -> entries.put(recruitmentId, toEntry(recruitment)),
+                    () -> entries.remove(recruitmentId));
+        } catch (Exception e) {
+            log.warn("추천 공고 인덱스 갱신 실패 - 공고 ID: {} (다음 재구성 시 반영)", recruitmentId, e);
+        }
+    }
+
+    private Entry toEntry(Recruitment recruitment) {
+        return new Entry(recruitment.getId(),
+            RecommendationScoreCalculator.toSkillMask(recruitment.getLanguageTags()),
+            recruitment.getStatus(), recruitment.getCreatedAt(), recruitment.getStartAt(), recruitment.getEndAt());
+    }
+}
@@ -1,42 +1,231 @@
 package com.teamEWSN.gitdeun.recruitment.service;
 
+import com.teamEWSN.gitdeun.recruitment.dto.RecruitmentScheduleDto;
 import com.teamEWSN.gitdeun.recruitment.entity.Recruitment;
 import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
 import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentRepository;
-import lombok.RequiredArgsConstructor;
+import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentSearchIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 모집 공고 상태 전환
+ *
+ * 공고의 모집 시작/마감 시각을 Redis ZSET(score = 전환 시각)에 예약해 두고,
+ * 짧은 주기로 시각이 지난 항목만 꺼내 집합 단위 UPDATE 로 상태를 전환합니다.
+ * 예약은 Redis 에 남아 있으므로 재시작 후에도 유지되며, 시작 시와 매일 자정에 전체 보정을 한 번 더 수행합니다.
+ * UPDATE 는 현재 상태/시각 조건을 포함하므로 여러 인스턴스가 같은 항목을 처리해도 결과가 같습니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RecruitmentSchedulingService {
 
+    private static final String TRANSITION_KEY = "recruitment:status-transitions";
+    private static final String START_PREFIX = "start:";
+    private static final String END_PREFIX = "end:";
+    private static final List<RecruitmentStatus> SCHEDULED_STATUSES =
+        List.of(RecruitmentStatus.FORTHCOMING, RecruitmentStatus.RECRUITING);
+
     private final RecruitmentRepository recruitmentRepository;
+    private final RecruitmentRecommendationIndex recruitmentRecommendationIndex;
+    private final RecruitmentSearchIndex recruitmentSearchIndex;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+
+    public RecruitmentSchedulingService(RecruitmentRepository recruitmentRepository,
+                                        RecruitmentRecommendationIndex recruitmentRecommendationIndex,
+                                        RecruitmentSearchIndex recruitmentSearchIndex,
+                                        RedisTemplate<String, String> stringRedisTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${app.recruitment.status-transition.max-batch-size:500}") int maxBatchSize) {
+        this.recruitmentRepository = recruitmentRepository;
+        this.recruitmentRecommendationIndex = recruitmentRecommendationIndex;
+        this.recruitmentSearchIndex = recruitmentSearchIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 공고의 상태 전환 시각 예약 (생성/수정 시 호출, 같은 공고는 시각만 갱신)
+     * 트랜잭션 중이면 커밋 후에 반영하여 롤백된 변경이 예약되지 않도록 합니다.
+     */
+    public void schedule(Recruitment recruitment) {
+        // 커밋 후 실행되므로 엔티티 대신 현재 값을 캡처
+        Long id = recruitment.getId();
+        RecruitmentStatus status = recruitment.getStatus();
+        LocalDateTime startAt = recruitment.getStartAt();
+        LocalDateTime endAt = recruitment.getEndAt();
+
+        runAfterCommit(() -> {
+            try {
+                ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+                if (status == RecruitmentStatus.FORTHCOMING && startAt != null) {
+                    zSet.add(TRANSITION_KEY, START_PREFIX + id, toScore(startAt));
+                } else {
+                    zSet.remove(TRANSITION_KEY, START_PREFIX + id);
+                }
+                if (status != RecruitmentStatus.CLOSED && endAt != null) {
+                    zSet.add(TRANSITION_KEY, END_PREFIX + id, toScore(endAt));
+                } else {
+                    zSet.remove(TRANSITION_KEY, END_PREFIX + id);
+                }
+            } catch (Exception e) {
+                log.warn("모집 공고 상태 전환 예약 실패 - 공고 ID: {} (자정 보정 시 반영)", id, e);
+            }
+        });
+    }
+
+    /**
+     * 공고 삭제 시 예약 제거 (트랜잭션 중이면 커밋 후)
+     */
+    public void unschedule(Long recruitmentId) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForZSet().remove(TRANSITION_KEY, START_PREFIX + recruitmentId, END_PREFIX + recruitmentId);
+            } catch (Exception e) {
+                log.warn("모집 공고 상태 전환 예약 제거 실패 - 공고 ID: {}", recruitmentId, e);
+            }
+        });
+    }
+
+    /**
+     * 전환 시각이 지난 예약만 처리
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.recruitment.status-transition.poll-interval-ms:30000}")
+    public void processDueTransitions() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> due;
+        try {
+            due = stringRedisTemplate.opsForZSet().rangeByScore(TRANSITION_KEY, 0, toScore(now), 0, maxBatchSize);
+        } catch (Exception e) {
+            log.warn("모집 공고 상태 전환 예약 조회 실패 (다음 주기에 재시도)", e);
+            return;
+        }
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        Set<Long> startIds = new HashSet<>();
+        Set<Long> endIds = new HashSet<>();
+        for (String member : due) {
+            if (member.startsWith(START_PREFIX)) {
+                startIds.add(Long.valueOf(member.substring(START_PREFIX.length())));
+            } else if (member.startsWith(END_PREFIX)) {
+                endIds.add(Long.valueOf(member.substring(END_PREFIX.length())));
+            }
+        }
 
+        // 시작과 마감이 같이 지난 공고는 모집 중을 거쳐 바로 마감되도록 시작 먼저 처리
+        int started = startIds.isEmpty() ? 0 : recruitmentRepository.startRecruitments(
+            startIds, RecruitmentStatus.FORTHCOMING, RecruitmentStatus.RECRUITING, now);
+        int closed = endIds.isEmpty() ? 0 : recruitmentRepository.closeRecruitments(
+            endIds, RecruitmentStatus.RECRUITING, RecruitmentStatus.CLOSED, now);
+
+        // 커밋 후에 예약 제거 (롤백되면 다음 주기에 다시 처리)
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForZSet().remove(TRANSITION_KEY, due.toArray());
+            } catch (Exception e) {
+                log.warn("처리된 상태 전환 예약 제거 실패 (다음 주기에 조건 불일치로 제거)", e);
+            }
+        });
+        startIds.forEach(recruitmentRecommendationIndex::refresh);
+        endIds.forEach(recruitmentRecommendationIndex::refresh);
+        startIds.forEach(recruitmentSearchIndex::refresh);
+        endIds.forEach(recruitmentSearchIndex::refresh);
+        log.info("모집 공고 상태 전환 - 모집 중: {}개, 모집 마감: {}개", started, closed);
+    }
+
+    /**
+     * 시작 시 전체 보정 후 예약 재적재 (Redis 유실 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            // 내부 호출이라 @Transactional 이 적용되지 않으므로 직접 트랜잭션으로 감쌈
+            transactionTemplate.executeWithoutResult(status -> updateRecruitmentStatus());
+            rescheduleAll();
+        } catch (Exception e) {
+            log.warn("모집 공고 상태 전환 예약 초기화 실패 (자정 보정 시 반영)", e);
+        }
+    }
+
+    /**
+     * 예약 누락을 대비한 전체 보정 (매일 자정)
+     */
     @Transactional
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정 실행
     public void updateRecruitmentStatus() {
-        log.info("모집 공고 상태 업데이트 스케줄러 시작");
         LocalDateTime now = LocalDateTime.now();
 
-        // 모집 예정 -> 모집 중
-        List<Recruitment> startingRecruitments = recruitmentRepository
-            .findAllByStatusAndStartAtBefore(RecruitmentStatus.FORTHCOMING, now);
-        startingRecruitments.forEach(r -> r.setStatus(RecruitmentStatus.RECRUITING));
-        log.info("{}개의 공고를 '모집 중'으로 변경했습니다.", startingRecruitments.size());
+        // 모집 예정 -> 모집 중 -> 모집 마감 순으로 집합 단위 UPDATE
+        int started = recruitmentRepository.startAllDue(RecruitmentStatus.FORTHCOMING, RecruitmentStatus.RECRUITING, now);
+        int closed = recruitmentRepository.closeAllDue(RecruitmentStatus.RECRUITING, RecruitmentStatus.CLOSED, now);
 
-        // 모집 중 -> 모집 마감
-        List<Recruitment> closingRecruitments = recruitmentRepository
-            .findAllByStatusAndEndAtBefore(RecruitmentStatus.RECRUITING, now);
-        closingRecruitments.forEach(r -> r.setStatus(RecruitmentStatus.CLOSED));
-        log.info("{}개의 공고를 '모집 마감'으로 변경했습니다.", closingRecruitments.size());
-        log.info("모집 공고 상태 업데이트 스케줄러 종료");
+        if (started + closed > 0) {
+            recruitmentRecommendationIndex.refreshAll();
+            recruitmentSearchIndex.refreshAll();
+        }
+        log.info("모집 공고 상태 전체 보정 - 모집 중: {}개, 모집 마감: {}개", started, closed);
     }
-}
 
+    private void rescheduleAll() {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (RecruitmentScheduleDto schedule : recruitmentRepository.findSchedulesByStatusIn(SCHEDULED_STATUSES)) {
+            if (schedule.startAt() != null) {
+                tuples.add(new DefaultTypedTuple<>(START_PREFIX + schedule.id(), toScore(schedule.startAt())));
+            }
+            if (schedule.endAt() != null) {
+                tuples.add(new DefaultTypedTuple<>(END_PREFIX + schedule.id(), toScore(schedule.endAt())));
+            }
+        }
+        if (tuples.isEmpty()) {
+            return;
+        }
+        // 이미 모집 중인 공고의 시작 예약은 처리 시 조건에 맞지 않아 그대로 제거됨
+        List<ZSetOperations.TypedTuple<String>> list = new ArrayList<>(tuples);
+        for (int from = 0; from < list.size(); from += maxBatchSize) {
+            stringRedisTemplate.opsForZSet().add(TRANSITION_KEY,
+                new HashSet<>(list.subList(from, Math.min(list.size(), from + maxBatchSize))));
+        }
+        log.info("모집 공고 상태 전환 예약 재적재 완료 - 예약 수: {}", list.size());
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static double toScore(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
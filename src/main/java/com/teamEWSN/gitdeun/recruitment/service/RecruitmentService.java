@@ -3,8 +3,10 @@ package com.teamEWSN.gitdeun.recruitment.service;
 import com.teamEWSN.gitdeun.recruitment.dto.*;
 import com.teamEWSN.gitdeun.recruitment.entity.*;
 import com.teamEWSN.gitdeun.recruitment.mapper.RecruitmentMapper;
+import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentCustomRepository;
 import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentImageRepository;
 import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentRepository;
+import com.teamEWSN.gitdeun.recruitment.repository.RecruitmentSearchIndex;
 import com.teamEWSN.gitdeun.recruitment.service.util.RecommendationScoreCalculator;
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.exception.GlobalException;
@@ -31,11 +33,17 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class RecruitmentService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final RecruitmentRepository recruitmentRepository;
     private final RecruitmentImageRepository recruitmentImageRepository;
     private final UserRepository userRepository;
     private final RecruitmentMapper recruitmentMapper;
     private final S3BucketService s3BucketService;
+    private final RecruitmentViewCounter recruitmentViewCounter;
+    private final RecruitmentRecommendationIndex recruitmentRecommendationIndex;
+    private final RecruitmentSchedulingService recruitmentSchedulingService;
+    private final RecruitmentSearchIndex recruitmentSearchIndex;
 
     /**
      * 새로운 모집 공고를 생성합니다.
@@ -62,6 +70,9 @@ public class RecruitmentService {
         recruitment.setStatus(initialStatus);
 
         Recruitment savedRecruitment = recruitmentRepository.save(recruitment);
+        recruitmentRecommendationIndex.refresh(savedRecruitment.getId());
+        recruitmentSchedulingService.schedule(savedRecruitment);
+        recruitmentSearchIndex.refresh(savedRecruitment.getId());
 
         if (!CollectionUtils.isEmpty(images)) {
             List<RecruitmentImage> savedImages = uploadAndSaveImages(savedRecruitment, images);
@@ -83,7 +94,7 @@ public class RecruitmentService {
 
         List<RecruitmentListResponseDto> content = recruitmentPage.getContent().stream()
             .map(recruitment -> {
-                RecruitmentListResponseDto dto = recruitmentMapper.toListResponseDto(recruitment);
+                RecruitmentListResponseDto dto = withPendingViews(recruitmentMapper.toListResponseDto(recruitment));
                 // 썸네일 URL 설정
                 return addThumbnailUrl(dto, recruitment.getRecruitmentImages());
             })
@@ -94,17 +105,18 @@ public class RecruitmentService {
 
     /**
      * 특정 모집 공고의 상세 정보를 조회합니다.
-     * 이 메서드가 호출될 때마다 해당 공고의 조회수가 1 증가합니다.
+     * 이 메서드가 호출될 때마다 해당 공고의 조회수가 1 증가합니다. (카운터에 누적 후 주기적으로 일괄 반영)
      * @param recruitmentId 조회할 공고의 ID
      * @return 공고의 상세 정보 DTO
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public RecruitmentDetailResponseDto getRecruitment(Long recruitmentId) {
         Recruitment recruitment = recruitmentRepository.findById(recruitmentId)
             .orElseThrow(() -> new GlobalException(ErrorCode.RECRUITMENT_NOT_FOUND));
 
-        recruitment.increaseView();
-        return recruitmentMapper.toDetailResponseDto(recruitment);
+        recruitmentViewCounter.increment(recruitmentId);
+        return recruitmentMapper.toDetailResponseDto(recruitment)
+            .withViewCount(recruitmentViewCounter.merge(recruitmentId, recruitment.getViewCount()));
     }
 
     /**
@@ -118,7 +130,31 @@ public class RecruitmentService {
     @Transactional(readOnly = true)
     public Page<RecruitmentListResponseDto> searchRecruitments(String keyword, RecruitmentStatus status, List<RecruitmentField> fields, List<DeveloperSkill> languages, Pageable pageable) {
         return recruitmentRepository.searchRecruitments(keyword, status, fields, languages, pageable)
-            .map(recruitmentMapper::toListResponseDto);
+            .map(recruitmentMapper::toListResponseDto)
+            .map(this::withPendingViews);
+    }
+
+    /**
+     * 커서 기반으로 모집 공고를 검색합니다. (무한 스크롤용)
+     * OFFSET/전체 건수 없이 마지막 공고 이후만 조회하므로 페이지 깊이와 무관하게 일정한 비용이 듭니다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_CURSOR_PAGE_SIZE)
+     * @return 검색 결과와 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public RecruitmentCursorPageResponseDto searchRecruitmentsByCursor(String keyword, RecruitmentStatus status, List<RecruitmentField> fields, List<DeveloperSkill> languages, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        RecruitmentCustomRepository.CursorSlice slice = recruitmentRepository.searchRecruitmentsByCursor(
+            keyword, status, fields, languages, RecruitmentSearchCursor.decode(cursor), pageSize);
+
+        return RecruitmentCursorPageResponseDto.builder()
+            .content(slice.content().stream()
+                .map(recruitmentMapper::toListResponseDto)
+                .map(this::withPendingViews)
+                .toList())
+            .nextCursor(slice.nextCursor() != null ? slice.nextCursor().encode() : null)
+            .hasNext(slice.nextCursor() != null)
+            .build();
     }
 
     /**
@@ -145,6 +181,9 @@ public class RecruitmentService {
         }
 
         recruitmentMapper.updateRecruitmentFromDto(requestDto, recruitment);
+        recruitmentRecommendationIndex.refresh(recruitmentId);
+        recruitmentSchedulingService.schedule(recruitment);
+        recruitmentSearchIndex.refresh(recruitmentId);
 
         // 이미지 업데이트 - 삭제 후 새 이미지 추가
         deleteUnusedImages(recruitment, requestDto.getKeepImageIds());
@@ -171,6 +210,9 @@ public class RecruitmentService {
             throw new GlobalException(ErrorCode.FORBIDDEN_ACCESS);
         }
         recruitmentRepository.delete(recruitment);
+        recruitmentRecommendationIndex.refresh(recruitmentId);
+        recruitmentSchedulingService.unschedule(recruitmentId);
+        recruitmentSearchIndex.refresh(recruitmentId);
     }
 
     /**
@@ -190,44 +232,33 @@ public class RecruitmentService {
             .map(userSkill -> DeveloperSkill.valueOf(userSkill.getSkill().toUpperCase()))
             .collect(Collectors.toSet());
 
-        // RECRUITING과 FORTHCOMING 상태인 공고만 조회
-        List<RecruitmentStatus> targetStatuses = List.of(
-            RecruitmentStatus.RECRUITING,
-            RecruitmentStatus.FORTHCOMING
-        );
-
-        List<Recruitment> recruitments = recruitmentRepository.findAllByStatusIn(targetStatuses);
-
-        // 매칭 점수 계산 및 정렬
-        List<RecruitmentListResponseDto> matchedRecruitments = recruitments.stream()
-            .map(recruitment -> {
-                // 기본 DTO 생성
-                RecruitmentListResponseDto dto = recruitmentMapper.toListResponseDto(recruitment);
-
-                // 썸네일 URL 설정
-                dto = addThumbnailUrl(dto, recruitment.getRecruitmentImages());
+        // 추천 인덱스에서 매칭 점수 순으로 요청한 페이지의 공고 ID 만 추림 (RECRUITING, FORTHCOMING 상태)
+        RecruitmentRecommendationIndex.Result result = recruitmentRecommendationIndex.recommend(
+            RecommendationScoreCalculator.toSkillMask(userSkills), pageable.getOffset(), pageable.getPageSize());
 
-                // 매칭 점수 계산 및 설정
-                double matchScore = RecommendationScoreCalculator.calculate(recruitment, userSkills);
-                dto = withMatchScore(dto, matchScore);
+        // 해당 페이지의 공고만 한 번에 조회하여 DTO 구성
+        Map<Long, Recruitment> recruitments = recruitmentRepository.findAllByIdIn(result.ids()).stream()
+            .collect(Collectors.toMap(Recruitment::getId, recruitment -> recruitment, (a, b) -> a));
 
-                return dto;
-            })
-            .filter(dto -> dto.getMatchScore() > 0.0) // 매칭 점수가 0인 경우 제외
-            .sorted((a, b) -> Double.compare(b.getMatchScore(), a.getMatchScore())) // 점수 높은 순 정렬
+        List<RecruitmentListResponseDto> pagedContent = result.ids().stream()
+            .map(recruitments::get)
+            .filter(Objects::nonNull)
+            .map(recruitment -> withPendingViews(recruitmentMapper.toListResponseDto(recruitment))
+                .withMatchScore(result.scores().get(recruitment.getId())))
             .collect(Collectors.toList());
 
-        // 페이징 적용
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), matchedRecruitments.size());
-        List<RecruitmentListResponseDto> pagedContent = start < matchedRecruitments.size() ?
-            matchedRecruitments.subList(start, end) : new ArrayList<>();
-
-        return new PageImpl<>(pagedContent, pageable, matchedRecruitments.size());
+        return new PageImpl<>(pagedContent, pageable, result.total());
     }
 
     // =============== Private Helper Methods ===============
 
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 증가분을 더합니다.
+     */
+    private RecruitmentListResponseDto withPendingViews(RecruitmentListResponseDto dto) {
+        return dto.withViewCount(recruitmentViewCounter.merge(dto.getId(), dto.getViewCount()));
+    }
+
     /**
      * DTO에 썸네일 URL을 추가합니다.
      */
@@ -242,45 +273,7 @@ public class RecruitmentService {
             .map(RecruitmentImage::getImageUrl)
             .orElse(null);
 
-        return withThumbnailUrl(dto, thumbnailUrl);
-    }
-
-    /**
-     * DTO에 매칭 점수를 추가합니다.
-     */
-    private RecruitmentListResponseDto withMatchScore(RecruitmentListResponseDto dto, Double matchScore) {
-        return RecruitmentListResponseDto.builder()
-            .id(dto.getId())
-            .title(dto.getTitle())
-            .thumbnailUrl(dto.getThumbnailUrl())
-            .status(dto.getStatus())
-            .languageTags(dto.getLanguageTags())
-            .fieldTags(dto.getFieldTags())
-            .startAt(dto.getStartAt())
-            .endAt(dto.getEndAt())
-            .recruitQuota(dto.getRecruitQuota())
-            .viewCount(dto.getViewCount())
-            .matchScore(matchScore)
-            .build();
-    }
-
-    /**
-     * DTO에 썸네일 URL을 추가합니다.
-     */
-    private RecruitmentListResponseDto withThumbnailUrl(RecruitmentListResponseDto dto, String thumbnailUrl) {
-        return RecruitmentListResponseDto.builder()
-            .id(dto.getId())
-            .title(dto.getTitle())
-            .thumbnailUrl(thumbnailUrl)
-            .status(dto.getStatus())
-            .languageTags(dto.getLanguageTags())
-            .fieldTags(dto.getFieldTags())
-            .startAt(dto.getStartAt())
-            .endAt(dto.getEndAt())
-            .recruitQuota(dto.getRecruitQuota())
-            .viewCount(dto.getViewCount())
-            .matchScore(dto.getMatchScore())
-            .build();
+        return dto.withThumbnailUrl(thumbnailUrl);
     }
 
     /**
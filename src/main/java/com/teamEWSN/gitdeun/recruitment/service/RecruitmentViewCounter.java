@@ -0,0 +1,105 @@
+package com.teamEWSN.gitdeun.recruitment.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모집 공고 조회수 카운터
+ *
+ * 조회 시 공고별 LongAdder 에 누적만 하고, 주기적으로 증가분을 JDBC 배치 UPDATE 로 반영합니다.
+ * 조회 응답에는 아직 반영되지 않은 증가분을 더해 최신 값을 보여줍니다.
+ */
+@Slf4j
+@Component
+public class RecruitmentViewCounter {
+
+    private static final String UPDATE_SQL = "UPDATE recruitment SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 에 반영 중인 증가분 (반영 도중 조회해도 값이 줄어들지 않도록)
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // 직전 주기에 증가분이 없던 공고 (한 주기 더 없으면 adder 정리)
+    private final Set<Long> idle = ConcurrentHashMap.newKeySet();
+
+    public RecruitmentViewCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void increment(Long recruitmentId) {
+        pending.computeIfAbsent(recruitmentId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * DB 에 저장된 조회수에 반영 대기 중인 증가분을 더한 값
+     */
+    public int merge(Long recruitmentId, Integer persistedCount) {
+        LongAdder adder = pending.get(recruitmentId);
+        long delta = (adder != null ? adder.sum() : 0L) + inFlight.getOrDefault(recruitmentId, 0L);
+        return (int) Math.min(Integer.MAX_VALUE, (persistedCount != null ? persistedCount : 0) + delta);
+    }
+
+    @Scheduled(fixedDelayString = "${app.recruitment.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((recruitmentId, adder) -> {
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 방금 조회된 공고의 adder 를 바로 지우면, 이미 참조를 얻은 increment 가 버려진 adder 에 더해져 유실될 수 있음
+                // → 두 주기 연속으로 증가분이 없을 때만 제거하고, 제거 직후 남은 값은 다시 옮김
+                if (idle.add(recruitmentId)) {
+                    return;
+                }
+                idle.remove(recruitmentId);
+                if (pending.remove(recruitmentId, adder)) {
+                    long late = adder.sum();
+                    if (late != 0) {
+                        pending.computeIfAbsent(recruitmentId, id -> new LongAdder()).add(late);
+                    }
+                }
+                return;
+            }
+            idle.remove(recruitmentId);
+            // 반영 중인 증가분으로 옮김 (sum 이후 들어온 증가분은 adder 에 남아 다음 주기에 반영)
+            inFlight.merge(recruitmentId, delta, Long::sum);
+            adder.add(-delta);
+            deltas.put(recruitmentId, delta);
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+            log.debug("모집 공고 조회수 일괄 반영 완료 - 공고 수: {}", deltas.size());
+        } catch (Exception e) {
+            log.warn("모집 공고 조회수 일괄 반영 실패 - 공고 수: {} (다음 주기에 재시도)", deltas.size(), e);
+            deltas.forEach((recruitmentId, delta) ->
+                pending.computeIfAbsent(recruitmentId, id -> new LongAdder()).add(delta));
+        } finally {
+            deltas.forEach((recruitmentId, delta) ->
+                inFlight.computeIfPresent(recruitmentId, (id, value) -> value - delta == 0 ? null : value - delta));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
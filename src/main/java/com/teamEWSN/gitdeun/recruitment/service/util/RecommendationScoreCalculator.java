@@ -17,39 +17,64 @@ public class RecommendationScoreCalculator {
      * @return 0.0 ~ 1.0 사이의 매칭 점수
      */
     public static double calculate(Recruitment recruitment, Set<DeveloperSkill> userSkills) {
+        return calculate(toSkillMask(recruitment.getLanguageTags()), toSkillMask(userSkills),
+            recruitment.getStatus(), recruitment.getCreatedAt(), recruitment.getStartAt(), recruitment.getEndAt(),
+            LocalDateTime.now());
+    }
+
+    /**
+     * 기술 비트마스크 기반 매칭 점수 계산 (추천 인덱스용)
+     * @param postMask 공고 기술 비트마스크
+     * @param userMask 사용자 기술 비트마스크
+     * @return 0.0 ~ 1.0 사이의 매칭 점수
+     */
+    public static double calculate(long postMask, long userMask, RecruitmentStatus status,
+                                   LocalDateTime createdAt, LocalDateTime startAt, LocalDateTime endAt,
+                                   LocalDateTime now) {
         double score = 0.0;
 
         // 1. 기본 매칭 점수 계산 (단순 매칭만 사용)
-        score = calculateSimpleScore(recruitment.getLanguageTags(), userSkills);
+        score = calculateSimpleScore(postMask, userMask);
 
         // 2. 상태별 점수 조정
-        score = applyStatusAdjustment(score, recruitment);
+        score = applyStatusAdjustment(score, status);
 
         // 3. 날짜별 점수 조정
-        score = applyDateAdjustment(score, recruitment);
+        score = applyDateAdjustment(score, status, createdAt, startAt, endAt, now);
 
         return score;
     }
 
+    /**
+     * 기술 집합을 DeveloperSkill ordinal 기반 비트마스크로 변환
+     */
+    public static long toSkillMask(Set<DeveloperSkill> skills) {
+        long mask = 0L;
+        if (skills != null) {
+            for (DeveloperSkill skill : skills) {
+                mask |= 1L << skill.ordinal();
+            }
+        }
+        return mask;
+    }
+
     /**
      * 단순 매칭 점수 계산 (모든 기술의 중요도가 동일)
      */
-    private static double calculateSimpleScore(Set<DeveloperSkill> languageTags, Set<DeveloperSkill> userSkills) {
-        if (languageTags.isEmpty()) return 0.0;
+    private static double calculateSimpleScore(long postMask, long userMask) {
+        if (postMask == 0L) return 0.0;
 
-        long matchCount = languageTags.stream()
-            .mapToLong(tag -> userSkills.contains(tag) ? 1 : 0)
-            .sum();
+        int matchCount = Long.bitCount(postMask & userMask);
 
-        return (double) matchCount / languageTags.size();
+        return (double) matchCount / Long.bitCount(postMask);
     }
 
     /**
      * 공고 상태에 따른 점수 조정
      */
-    private static double applyStatusAdjustment(double score, Recruitment recruitment) {
+    private static double applyStatusAdjustment(double score, RecruitmentStatus status) {
         // 모집 중인 공고가 모집 예정 공고보다 우선순위 높음
-        if (recruitment.getStatus() == RecruitmentStatus.RECRUITING) {
+        if (status == RecruitmentStatus.RECRUITING) {
             score += 0.05;
         }
 
@@ -59,23 +84,24 @@ public class RecommendationScoreCalculator {
     /**
      * 공고 등록일/마감일에 따른 점수 조정
      */
-    private static double applyDateAdjustment(double score, Recruitment recruitment) {
+    private static double applyDateAdjustment(double score, RecruitmentStatus status, LocalDateTime createdAt,
+                                              LocalDateTime startAt, LocalDateTime endAt, LocalDateTime now) {
         // 최근 등록된 공고에 가산점 부여
-        if (recruitment.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7))) {
+        if (createdAt.isAfter(now.minusDays(7))) {
             score += 0.05;
         }
 
         // 마감이 임박한 경우 가산점
-        if (recruitment.getStatus() == RecruitmentStatus.RECRUITING) {
-            long daysUntilEnd = ChronoUnit.DAYS.between(LocalDateTime.now(), recruitment.getEndAt());
+        if (status == RecruitmentStatus.RECRUITING) {
+            long daysUntilEnd = ChronoUnit.DAYS.between(now, endAt);
             if (daysUntilEnd <= 2) {
                 score += 0.03;
             }
         }
 
         // 모집 예정인 공고는 시작일이 가까울수록 점수 상승
-        if (recruitment.getStatus() == RecruitmentStatus.FORTHCOMING) {
-            long daysUntilStart = ChronoUnit.DAYS.between(LocalDateTime.now(), recruitment.getStartAt());
+        if (status == RecruitmentStatus.FORTHCOMING) {
+            long daysUntilStart = ChronoUnit.DAYS.between(now, startAt);
 
             if (daysUntilStart <= 3) {
                 // 3일 이내에 시작하는 공고는 가산점
@@ -4,6 +4,7 @@ import com.teamEWSN.gitdeun.common.exception.GlobalException;
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.jwt.BlacklistService;
 import com.teamEWSN.gitdeun.common.jwt.RefreshTokenService;
+import com.teamEWSN.gitdeun.common.jwt.UserPrincipalCache;
 import com.teamEWSN.gitdeun.common.oauth.service.GitHubApiHelper;
 import com.teamEWSN.gitdeun.common.oauth.service.GoogleApiHelper;
 import com.teamEWSN.gitdeun.common.oauth.entity.SocialConnection;
@@ -27,6 +28,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final RefreshTokenService refreshTokenService;
     private final BlacklistService blacklistService;
+    private final UserPrincipalCache userPrincipalCache;
     private final UserRepository userRepository;
     private final HandleGenerator handleGenerator;
     private final GoogleApiHelper googleApiHelper;
@@ -79,6 +81,8 @@ public class UserService {
 
         // 깃든 서비스 DB에서 soft-delete 처리
         user.markAsDeleted();
+        // 인증 주체 캐시 제거 (이전 형식 토큰 대비)
+        userPrincipalCache.evict(userId);
     }
 
     // 아이디로 회원 검색
@@ -1,5 +1,6 @@
 package com.teamEWSN.gitdeun.userskill.service;
 
+import com.teamEWSN.gitdeun.common.cache.CacheCoherenceService;
 import com.teamEWSN.gitdeun.common.exception.ErrorCode;
 import com.teamEWSN.gitdeun.common.exception.GlobalException;
 import com.teamEWSN.gitdeun.user.entity.User;
@@ -15,6 +16,8 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,6 +29,7 @@ public class UserSkillService {
 
     private final UserRepository userRepository;
     private final UserSkillRepository userSkillRepository;
+    private final CacheCoherenceService cacheCoherenceService;
 
     // 기술 최대 선택 개수 상수화
     private static final int MAX_SKILL_COUNT = 15;
@@ -100,10 +104,26 @@ public class UserSkillService {
 
         userSkillRepository.saveAll(newSkills);
 
+        // 커밋 후 로컬(커밋 전 조회로 다시 캐시된 경우 대비)과 다른 인스턴스의 캐시 제거 (롤백 시 전파하지 않음)
+        evictAfterCommit(userId);
+
         log.info("사용자 기술 갱신 완료 - userId: {}, 기술 수: {} -> {}",
             userId, existingSkills.size(), selectedSkills.size());
     }
 
+    private void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheCoherenceService.evict("userSkills", userId);
+                }
+            });
+        } else {
+            cacheCoherenceService.evict("userSkills", userId);
+        }
+    }
+
     /**
      * 기술 선택 유효성 검증
      */
@@ -34,6 +34,7 @@ public class VisitHistoryService {
     private final MindmapMemberRepository mindmapMemberRepository;
     private final MindmapService mindmapService;
     private final MindmapAuthService mindmapAuthService;
+    private final VisitHistoryWriteBuffer visitHistoryWriteBuffer;
 
     public VisitHistoryService(UserService userService,
                                VisitHistoryRepository visitHistoryRepository,
@@ -41,7 +42,8 @@ public class VisitHistoryService {
                                VisitHistoryMapper visitHistoryMapper,
                                MindmapMemberRepository mindmapMemberRepository,
                                @Lazy MindmapService mindmapService,
-                               MindmapAuthService mindmapAuthService) {
+                               MindmapAuthService mindmapAuthService,
+                               VisitHistoryWriteBuffer visitHistoryWriteBuffer) {
         this.userService = userService;
         this.visitHistoryRepository = visitHistoryRepository;
         this.pinnedHistoryRepository = pinnedHistoryRepository;
@@ -49,6 +51,7 @@ public class VisitHistoryService {
         this.mindmapMemberRepository = mindmapMemberRepository;
         this.mindmapService = mindmapService;
         this.mindmapAuthService = mindmapAuthService;
+        this.visitHistoryWriteBuffer = visitHistoryWriteBuffer;
     }
 
     // 마인드맵 생성 시 호출되어 방문 기록을 생성
@@ -67,19 +70,9 @@ public class VisitHistoryService {
         visitHistoryRepository.save(visitHistory);
     }
 
-    @Transactional
-    public void recordOrUpdateVisit(User user, Mindmap mindmap) {
-        visitHistoryRepository.findByUserIdAndMindmapId(user.getId(), mindmap.getId())
-            .ifPresentOrElse(
-                // 방문 기록이 있으면: 마지막 방문 시간만 갱신
-                visitHistory -> {
-                    // visitHistory.setLastVisitedAt(LocalDateTime.now()); // Setter가 있다면 사용
-                    visitHistory.updateLastVisitedAt(); // 또는 엔티티 내부에 갱신 메소드 구현
-                    visitHistoryRepository.save(visitHistory);
-                },
-                // 방문 기록이 없으면: 새로 생성
-                () -> createVisitHistory(user, mindmap)
-            );
+    // 방문 기록 생성 또는 갱신 (요청 경로에서는 버퍼에만 기록, 주기적으로 일괄 반영)
+    public void recordOrUpdateVisit(Long userId, Long mindmapId) {
+        visitHistoryWriteBuffer.recordVisit(userId, mindmapId);
     }
 
     //  핀 고정되지 않은 방문 기록 조회
@@ -126,9 +119,11 @@ public class VisitHistoryService {
             // 소유자가 아닌 경우, 마인드맵의 멤버 탈퇴
             mindmapMemberRepository.findByMindmapIdAndUserId(mindmapId, userId)
                 .ifPresent(mindmapMemberRepository::delete);
+            mindmapAuthService.evict(mindmapId, userId);
         }
 
-        // 마지막으로 방문 기록을 삭제
+        // 마지막으로 방문 기록을 삭제 (반영 대기 중인 방문도 버림)
+        visitHistoryWriteBuffer.discard(userId, mindmapId);
         visitHistoryRepository.delete(visitHistory);
     }
 
@@ -0,0 +1,152 @@
+package com.teamEWSN.gitdeun.visithistory.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방문 기록 write-behind 버퍼
+ *
+ * 마인드맵 조회 시 (사용자, 마인드맵) 별 마지막 방문 시각만 메모리에 모아두고,
+ * 주기적으로(그리고 종료 시) JDBC 배치로 한 번에 반영합니다.
+ * - 기존 기록: UPDATE 배치 (더 최근 시각일 때만 갱신)
+ * - 기록이 없던 항목: 마인드맵이 삭제되지 않았고 아직 멤버인 경우에만 INSERT 배치
+ * 시각은 JPA(hibernate.jdbc.time_zone=UTC)와 같은 방식으로 UTC Calendar 를 지정해 바인딩합니다.
+ */
+@Slf4j
+@Component
+public class VisitHistoryWriteBuffer {
+
+    private static final String UPDATE_SQL =
+        "UPDATE visit_history SET last_visited_at = GREATEST(last_visited_at, ?) " +
+        "WHERE user_id = ? AND mindmap_id = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO visit_history (user_id, mindmap_id, last_visited_at) " +
+        "SELECT ?, m.id, ? FROM mindmap m " +
+        "WHERE m.id = ? AND m.deleted_at IS NULL " +
+        "AND EXISTS (SELECT 1 FROM mindmap_member mm WHERE mm.mindmap_id = m.id AND mm.user_id = ?) " +
+        "AND NOT EXISTS (SELECT 1 FROM visit_history v WHERE v.user_id = ? AND v.mindmap_id = m.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxBatchSize;
+
+    private final Map<VisitKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private record VisitKey(Long userId, Long mindmapId) {
+    }
+
+    public VisitHistoryWriteBuffer(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.visit-history.max-batch-size:500}") int maxBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void recordVisit(Long userId, Long mindmapId) {
+        pending.merge(new VisitKey(userId, mindmapId), LocalDateTime.now(), VisitHistoryWriteBuffer::latest);
+    }
+
+    // 방문 기록 삭제 시 반영 대기 중인 방문도 버림
+    public void discard(Long userId, Long mindmapId) {
+        pending.remove(new VisitKey(userId, mindmapId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.visit-history.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<VisitKey, LocalDateTime>> batch = new ArrayList<>();
+        for (VisitKey key : pending.keySet()) {
+            // remove 로 꺼내야 그 사이 들어온 방문은 다음 flush 에 반영됨
+            LocalDateTime visitedAt = pending.remove(key);
+            if (visitedAt != null) {
+                batch.add(Map.entry(key, visitedAt));
+            }
+            if (batch.size() >= maxBatchSize) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        write(batch);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<Map.Entry<VisitKey, LocalDateTime>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // JVM 시간대(LocalDateTime) → UTC 로 변환하여 저장 (Calendar 는 스레드 안전하지 않으므로 호출마다 생성)
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        try {
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Map.Entry<VisitKey, LocalDateTime> entry = batch.get(i);
+                    ps.setTimestamp(1, Timestamp.valueOf(entry.getValue()), utc);
+                    ps.setLong(2, entry.getKey().userId());
+                    ps.setLong(3, entry.getKey().mindmapId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+
+            // 갱신된 행이 없는 항목만 INSERT (드라이버가 건수를 알려주지 않으면(-2) 갱신된 것으로 간주)
+            List<Map.Entry<VisitKey, LocalDateTime>> inserts = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (updated[i] == 0) {
+                    inserts.add(batch.get(i));
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        VisitKey key = inserts.get(i).getKey();
+                        ps.setLong(1, key.userId());
+                        ps.setTimestamp(2, Timestamp.valueOf(inserts.get(i).getValue()), utc);
+                        ps.setLong(3, key.mindmapId());
+                        ps.setLong(4, key.userId());
+                        ps.setLong(5, key.userId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return inserts.size();
+                    }
+                });
+            }
+            log.debug("방문 기록 일괄 반영 완료 - 갱신: {}, 신규: {}", batch.size() - inserts.size(), inserts.size());
+        } catch (Exception e) {
+            log.warn("방문 기록 일괄 반영 실패 - 항목 수: {} (다음 주기에 재시도)", batch.size(), e);
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), VisitHistoryWriteBuffer::latest));
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,87 @@
+package com.teamEWSN.gitdeun.common.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+    private int springBackend;
+    private int reactFrontend;
+    private int backendBoot;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(2.0, 1.0);  // 제목, 본문
+        springBackend = index.add("스프링 백엔드", "자바 개발자 모집");
+        reactFrontend = index.add("리액트 프론트엔드", "자바스크립트 개발자 모집");
+        backendBoot = index.add("백엔드 개발자", "스프링 부트 경험자");
+    }
+
+    @Test
+    void requiredTermsAreIntersectedAcrossFields() {
+        assertThat(search("백엔드").keySet()).containsExactlyInAnyOrder(springBackend, backendBoot);
+        // "자바" 는 둘 다 있지만 "백엔드" 는 하나뿐
+        assertThat(search("백엔드 자바").keySet()).containsExactly(springBackend);
+        // 필드가 달라도 모든 토큰을 포함하면 일치
+        assertThat(search("백엔드 부트").keySet()).containsExactly(backendBoot);
+    }
+
+    @Test
+    void unknownTermMatchesNothing() {
+        assertThat(search("파이썬")).isEmpty();
+        assertThat(index.search(Set.of(), List.of(), doc -> true)).isEmpty();
+    }
+
+    @Test
+    void excludedGroupRemovesOnlyDocumentsContainingAllOfIt() {
+        Map<Integer, Double> scores = index.search(NGramTokenizer.queryTerms("백엔드"),
+            List.of(NGramTokenizer.queryTerms("스프링 부트")), doc -> true);
+
+        // springBackend 는 "스프링" 만 있고 "부트" 는 없으므로 남음
+        assertThat(scores.keySet()).containsExactly(springBackend);
+    }
+
+    @Test
+    void filterIsAppliedToCandidates() {
+        Map<Integer, Double> scores = index.search(NGramTokenizer.queryTerms("개발자"), List.of(),
+            doc -> doc != reactFrontend);
+
+        assertThat(scores.keySet()).containsExactlyInAnyOrder(springBackend, backendBoot);
+    }
+
+    @Test
+    void removedDocumentIsTombstoned() {
+        index.remove(springBackend);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(search("백엔드").keySet()).containsExactly(backendBoot);
+        assertThat(search("스프링 백엔드").keySet()).containsExactly(backendBoot);
+
+        // 다시 추가하면 새 문서 번호로 검색됨
+        int readded = index.add("스프링 백엔드", "자바 개발자 모집");
+        assertThat(readded).isNotEqualTo(springBackend);
+        assertThat(search("백엔드 자바").keySet()).containsExactly(readded);
+    }
+
+    @Test
+    void titleMatchScoresHigherThanContentMatch() {
+        InvertedIndex boosted = new InvertedIndex(2.0, 1.0);
+        int inTitle = boosted.add("자바", "기타");
+        int inContent = boosted.add("기타", "자바");
+
+        Map<Integer, Double> scores = boosted.search(NGramTokenizer.queryTerms("자바"), List.of(), doc -> true);
+
+        assertThat(scores.get(inTitle)).isGreaterThan(scores.get(inContent));
+    }
+
+    private Map<Integer, Double> search(String keyword) {
+        return index.search(NGramTokenizer.queryTerms(keyword), List.of(), doc -> true);
+    }
+}
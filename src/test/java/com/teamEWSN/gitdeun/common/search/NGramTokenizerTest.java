@@ -0,0 +1,55 @@
+package com.teamEWSN.gitdeun.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    @Test
+    void indexTermsContainUnigramsAndBigramsWithFrequency() {
+        Map<String, Integer> terms = NGramTokenizer.indexTerms("자바 자바");
+
+        assertThat(terms).containsOnlyKeys("자", "바", "자바");
+        assertThat(terms.get("자")).isEqualTo(2);
+        assertThat(terms.get("자바")).isEqualTo(2);
+    }
+
+    @Test
+    void hangulAndOtherRunsAreSplit() {
+        // 한글/영문 경계에서 끊기므로 "g백" 같은 토큰은 만들지 않음
+        assertThat(NGramTokenizer.queryTerms("Spring백엔드"))
+            .containsExactly("sp", "pr", "ri", "in", "ng", "백엔", "엔드");
+    }
+
+    @Test
+    void oneCharacterRunBecomesUnigram() {
+        assertThat(NGramTokenizer.queryTerms("웹 개발")).containsExactly("웹", "개발");
+    }
+
+    @Test
+    void textIsNormalizedBeforeTokenizing() {
+        assertThat(NGramTokenizer.queryTerms("ＪＡＶＡ")).containsExactly("ja", "av", "va");
+    }
+
+    @Test
+    void queryMatchesWordWithParticleOrWithoutSpace() {
+        assertThat(NGramTokenizer.indexTerms("백엔드를 모집합니다").keySet())
+            .containsAll(NGramTokenizer.queryTerms("백엔드"));
+        assertThat(NGramTokenizer.indexTerms("백엔드개발자").keySet())
+            .containsAll(NGramTokenizer.queryTerms("백엔드 개발자"));
+    }
+
+    @Test
+    void lengthCountsUnigramsOnly() {
+        assertThat(NGramTokenizer.length(NGramTokenizer.indexTerms("백엔드 개발자"))).isEqualTo(6);
+    }
+
+    @Test
+    void emptyTextHasNoTerms() {
+        assertThat(NGramTokenizer.indexTerms(null)).isEmpty();
+        assertThat(NGramTokenizer.queryTerms("  - !")).isEmpty();
+    }
+}
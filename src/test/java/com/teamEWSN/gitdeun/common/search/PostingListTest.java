@@ -0,0 +1,53 @@
+package com.teamEWSN.gitdeun.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingListTest {
+
+    @Test
+    void postingsRoundTripThroughVarIntEncoding() {
+        // 1바이트/다중 바이트 varint 경계를 모두 포함
+        int[][] postings = {{0, 1}, {1, 127}, {128, 128}, {70_000, 16_384}, {Integer.MAX_VALUE, 3}};
+        PostingList list = new PostingList();
+        for (int[] posting : postings) {
+            list.add(posting[0], posting[1]);
+        }
+
+        assertThat(read(list)).containsExactly(postings);
+        assertThat(list.count()).isEqualTo(postings.length);
+    }
+
+    @Test
+    void trimKeepsContents() {
+        PostingList list = new PostingList();
+        for (int doc = 0; doc < 100; doc += 3) {
+            list.add(doc, doc + 1);
+        }
+        List<int[]> before = read(list);
+
+        list.trim();
+
+        assertThat(read(list)).containsExactlyElementsOf(before);
+    }
+
+    @Test
+    void documentsMustBeAddedInIncreasingOrder() {
+        PostingList list = new PostingList();
+        list.add(5, 1);
+
+        assertThatThrownBy(() -> list.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> list.add(4, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<int[]> read(PostingList list) {
+        List<int[]> postings = new ArrayList<>();
+        list.forEach((doc, frequency) -> postings.add(new int[]{doc, frequency}));
+        return postings;
+    }
+}
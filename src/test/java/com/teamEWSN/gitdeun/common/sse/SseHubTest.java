@@ -0,0 +1,111 @@
+package com.teamEWSN.gitdeun.common.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHubTest {
+
+    private static final String TOPIC = "mindmap:1";
+    private static final int QUEUE_CAPACITY = 64;
+
+    private SseHub sseHub;
+
+    @BeforeEach
+    void setUp() {
+        sseHub = new SseHub(new ObjectMapper(), QUEUE_CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseHub.shutdown();
+    }
+
+    @Test
+    void replayLargerThanQueueIsReplacedByResync() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        List<SseHub.Event> missed = events(QUEUE_CAPACITY + 36);
+
+        SseHub.Connection connection = sseHub.subscribe(TOPIC, emitter, null, () -> missed);
+        connection.send("connected", "ok");
+
+        List<String> sent = emitter.await(2);
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0)).contains("event:" + SseHub.RESYNC).contains("id:1000-100");
+        assertThat(sent.get(1)).contains("event:connected");
+        assertThat(emitter.completed).isFalse();
+        assertThat(sseHub.subscriberCount(TOPIC)).isEqualTo(1);
+    }
+
+    @Test
+    void replayThenLiveEventsAreDeliveredInOrderWithoutDuplicates() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        List<SseHub.Event> missed = events(3);
+
+        sseHub.subscribe(TOPIC, emitter, null, () -> missed);
+        // 재전송과 겹치는 실시간 이벤트는 건너뜀
+        sseHub.deliver(TOPIC, missed.get(2));
+        sseHub.deliver(TOPIC, new SseHub.Event("1000-4", "mindmap-patch", "{}", false));
+
+        List<String> sent = emitter.await(4);
+        assertThat(sent).hasSize(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(sent.get(i)).contains("id:1000-" + (i + 1));
+        }
+    }
+
+    @Test
+    void resyncFromEventBusKeepsConnectionOpen() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        sseHub.subscribe(TOPIC, emitter, null, () -> List.of(SseHub.Event.resync("2000-0")));
+
+        List<String> sent = emitter.await(1);
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).contains("event:" + SseHub.RESYNC).contains("id:2000-0");
+        assertThat(sseHub.subscriberCount(TOPIC)).isEqualTo(1);
+    }
+
+    private static List<SseHub.Event> events(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(i -> new SseHub.Event("1000-" + i, "mindmap-patch", "{\"seq\":" + i + "}", false))
+            .toList();
+    }
+
+    // 전송된 이벤트를 문자열로 기록하는 emitter
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sent.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        // writer 가 count 건 이상 전송할 때까지 대기 (최대 2초) 후 잠시 더 기다려 초과 전송도 확인
+        List<String> await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+            return List.copyOf(sent);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.teamEWSN.gitdeun.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FPP = 0.01;
+
+    @Test
+    void insertedValuesAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("token-" + i);
+        }
+
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredValue() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("token-" + i);
+        }
+
+        long falsePositives = IntStream.range(0, INSERTIONS)
+            .filter(i -> filter.mightContain("absent-" + i))
+            .count();
+
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(FPP * 3);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(0, FPP);
+
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.mightContain("token")).isFalse();
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < INSERTIONS; i += threads) {
+                        filter.put("token-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+}
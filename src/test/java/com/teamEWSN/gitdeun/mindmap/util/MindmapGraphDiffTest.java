@@ -0,0 +1,120 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import com.teamEWSN.gitdeun.common.fastapi.dto.EdgeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.RelatedFileDto;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MindmapGraphDiffTest {
+
+    @Test
+    void returnsNullWhenGraphsCannotBeComparedByKey() {
+        IndexedMindmapGraph graph = graph(List.of(node("a", "A")), List.of());
+        IndexedMindmapGraph failed = IndexedMindmapGraph.from(MindmapGraphResponseDto.builder()
+            .success(false)
+            .error("timeout")
+            .build());
+        IndexedMindmapGraph duplicateKeys = graph(List.of(node("a", "A"), node("a", "A2")), List.of());
+
+        assertThat(MindmapGraphDiff.between(null, graph)).isNull();
+        assertThat(MindmapGraphDiff.between(failed, graph)).isNull();
+        assertThat(MindmapGraphDiff.between(graph, failed)).isNull();
+        assertThat(MindmapGraphDiff.between(duplicateKeys, graph)).isNull();
+    }
+
+    @Test
+    void identicalGraphsHaveNoChanges() {
+        List<NodeDto> nodes = List.of(node("a", "A", "src/A.java"), node("b", "B"));
+        List<EdgeDto> edges = List.of(edge("a", "b", "contains"));
+
+        MindmapGraphDiff diff = MindmapGraphDiff.between(graph(nodes, edges), graph(nodes, edges));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.getNodeCount()).isEqualTo(2);
+        assertThat(diff.getEdgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nodesAreAddedUpdatedAndRemovedByKey() {
+        IndexedMindmapGraph previous = graph(List.of(
+            node("same", "Same", "src/Same.java"),
+            node("renamed", "Old"),
+            node("files", "Files", "src/A.java"),
+            node("removed", "Removed")), List.of());
+        IndexedMindmapGraph current = graph(List.of(
+            node("same", "Same", "src/Same.java"),
+            node("renamed", "New"),
+            node("files", "Files", "src/A.java", "src/B.java"),
+            node("added", "Added")), List.of());
+
+        MindmapGraphDiff diff = MindmapGraphDiff.between(previous, current);
+
+        assertThat(keys(diff.getAddedNodes())).containsExactly("added");
+        assertThat(keys(diff.getUpdatedNodes())).containsExactly("renamed", "files");
+        assertThat(diff.getRemovedNodeKeys()).containsExactly("removed");
+        assertThat(diff.changeCount()).isEqualTo(4);
+    }
+
+    @Test
+    void edgesAreComparedAsMultiset() {
+        List<NodeDto> nodes = List.of(node("a", "A"), node("b", "B"), node("c", "C"));
+        IndexedMindmapGraph previous = graph(nodes, List.of(
+            edge("a", "b", "contains"),
+            edge("a", "b", "contains"),
+            edge("a", "c", "contains")));
+        IndexedMindmapGraph current = graph(nodes, List.of(
+            edge("a", "b", "contains"),
+            edge("a", "c", "contains"),
+            edge("a", "c", "suggestion")));
+
+        MindmapGraphDiff diff = MindmapGraphDiff.between(previous, current);
+
+        assertThat(edgeKeys(diff.getAddedEdges())).containsExactly("a>c:suggestion");
+        assertThat(edgeKeys(diff.getRemovedEdges())).containsExactly("a>b:contains");
+        assertThat(diff.getAddedNodes()).isEmpty();
+    }
+
+    @Test
+    void edgesToUnknownNodesAreCompared() {
+        List<NodeDto> nodes = List.of(node("a", "A"));
+        IndexedMindmapGraph previous = graph(nodes, List.of(edge("a", "missing", "contains")));
+        IndexedMindmapGraph current = graph(nodes, List.of(edge("a", "other", "contains")));
+
+        MindmapGraphDiff diff = MindmapGraphDiff.between(previous, current);
+
+        assertThat(edgeKeys(diff.getAddedEdges())).containsExactly("a>other:contains");
+        assertThat(edgeKeys(diff.getRemovedEdges())).containsExactly("a>missing:contains");
+    }
+
+    private static IndexedMindmapGraph graph(List<NodeDto> nodes, List<EdgeDto> edges) {
+        return IndexedMindmapGraph.from(MindmapGraphResponseDto.builder()
+            .success(true)
+            .nodeCount(nodes.size())
+            .nodes(nodes)
+            .edges(edges)
+            .build());
+    }
+
+    private static NodeDto node(String key, String label, String... filePaths) {
+        List<RelatedFileDto> files = Arrays.stream(filePaths).map(RelatedFileDto::new).toList();
+        return new NodeDto(key, label, files, "file");
+    }
+
+    private static EdgeDto edge(String from, String to, String type) {
+        return new EdgeDto(from, to, type);
+    }
+
+    private static List<String> keys(List<NodeDto> nodes) {
+        return nodes.stream().map(NodeDto::getKey).toList();
+    }
+
+    private static List<String> edgeKeys(List<EdgeDto> edges) {
+        return edges.stream().map(edge -> edge.getFromKey() + ">" + edge.getToKey() + ":" + edge.getEdgeType()).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.teamEWSN.gitdeun.mindmap.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamEWSN.gitdeun.common.fastapi.dto.EdgeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.NodeDto;
+import com.teamEWSN.gitdeun.common.fastapi.dto.RelatedFileDto;
+import com.teamEWSN.gitdeun.mindmap.dto.MindmapGraphResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MindmapGraphRedisSerializerTest {
+
+    private static final Duration LEGACY_AGE = Duration.ofMinutes(90);
+
+    // Spring Boot 기본 ObjectMapper 와 같이 알 수 없는 필드는 무시
+    private final ObjectMapper jsonMapper = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void smileValueRoundTrips() {
+        MindmapGraphRedisSerializer serializer = new MindmapGraphRedisSerializer(jsonMapper, true, Integer.MAX_VALUE, LEGACY_AGE);
+        CachedValue<MindmapGraphResponseDto> value = new CachedValue<>(graph(3), 1_700_000_000_000L);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x47);
+        assertThat(bytes[2]).isEqualTo((byte) 0x01);  // Smile, 압축 없음
+        assertSameGraph(serializer.deserialize(bytes), value);
+    }
+
+    @Test
+    void largeValueIsCompressed() {
+        MindmapGraphRedisSerializer serializer = new MindmapGraphRedisSerializer(jsonMapper, true, 64, LEGACY_AGE);
+        CachedValue<MindmapGraphResponseDto> value = new CachedValue<>(graph(200), 1_700_000_000_000L);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[2]).isEqualTo((byte) 0x03);  // Smile + Deflate
+        assertSameGraph(serializer.deserialize(bytes), value);
+    }
+
+    @Test
+    void jsonCodecRoundTrips() {
+        MindmapGraphRedisSerializer serializer = new MindmapGraphRedisSerializer(jsonMapper, false, 64, LEGACY_AGE);
+        CachedValue<MindmapGraphResponseDto> value = new CachedValue<>(graph(50), 1_700_000_000_000L);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[2]).isEqualTo((byte) 0x02);  // JSON + Deflate
+        assertSameGraph(serializer.deserialize(bytes), value);
+    }
+
+    @Test
+    void legacyJsonWithoutLoadedAtIsStaleButNotExpired() throws Exception {
+        MindmapGraphRedisSerializer serializer = new MindmapGraphRedisSerializer(jsonMapper, true, 8192, LEGACY_AGE);
+        MindmapGraphResponseDto graph = graph(3);
+        byte[] legacy = jsonMapper.writeValueAsBytes(graph);
+
+        long before = System.currentTimeMillis();
+        CachedValue<MindmapGraphResponseDto> read = serializer.deserialize(legacy);
+        long after = System.currentTimeMillis();
+
+        // soft TTL 만큼 지난 값으로 읽혀 재검증 대상이 되지만, hard TTL 로 바로 만료되지는 않음
+        assertThat(read.getLoadedAt()).isBetween(before - LEGACY_AGE.toMillis(), after - LEGACY_AGE.toMillis());
+        assertSameGraph(read, new CachedValue<>(graph, read.getLoadedAt()));
+    }
+
+    @Test
+    void legacyJsonCachedValueKeepsLoadedAt() throws Exception {
+        MindmapGraphRedisSerializer serializer = new MindmapGraphRedisSerializer(jsonMapper, true, 8192, LEGACY_AGE);
+        CachedValue<MindmapGraphResponseDto> value = new CachedValue<>(graph(3), 1_700_000_000_000L);
+
+        CachedValue<MindmapGraphResponseDto> read = serializer.deserialize(jsonMapper.writeValueAsBytes(value));
+
+        assertSameGraph(read, value);
+    }
+
+    @Test
+    void emptyAndUnknownVersionValues() {
+        MindmapGraphRedisSerializer serializer = new MindmapGraphRedisSerializer(jsonMapper, true, 8192, LEGACY_AGE);
+
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThatThrownBy(() -> serializer.deserialize(new byte[]{0x47, 99, 0x01}))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    private static MindmapGraphResponseDto graph(int nodeCount) {
+        List<NodeDto> nodes = new ArrayList<>();
+        List<EdgeDto> edges = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new NodeDto("node-" + i, "Node " + i,
+                List.of(new RelatedFileDto("src/main/java/com/example/Node" + i + ".java")), "file"));
+            if (i > 0) {
+                edges.add(new EdgeDto("node-0", "node-" + i, "contains"));
+            }
+        }
+        return MindmapGraphResponseDto.builder()
+            .success(true)
+            .graphMapId("repo")
+            .nodeCount(nodeCount)
+            .nodes(nodes)
+            .edges(edges)
+            .build();
+    }
+
+    private static void assertSameGraph(CachedValue<MindmapGraphResponseDto> actual,
+                                        CachedValue<MindmapGraphResponseDto> expected) {
+        assertThat(actual.getLoadedAt()).isEqualTo(expected.getLoadedAt());
+        MindmapGraphResponseDto a = actual.getValue();
+        MindmapGraphResponseDto e = expected.getValue();
+        assertThat(a.getSuccess()).isEqualTo(e.getSuccess());
+        assertThat(a.getGraphMapId()).isEqualTo(e.getGraphMapId());
+        assertThat(a.getNodeCount()).isEqualTo(e.getNodeCount());
+        assertThat(a.getNodes().stream().map(NodeDto::getKey).toList())
+            .containsExactlyElementsOf(e.getNodes().stream().map(NodeDto::getKey).toList());
+        assertThat(a.getNodes().stream().map(node -> node.getRelatedFiles().get(0).getFilePath()).toList())
+            .containsExactlyElementsOf(e.getNodes().stream().map(node -> node.getRelatedFiles().get(0).getFilePath()).toList());
+        assertThat(a.getEdges().stream().map(edge -> edge.getFromKey() + ">" + edge.getToKey() + ":" + edge.getEdgeType()).toList())
+            .containsExactlyElementsOf(e.getEdges().stream().map(edge -> edge.getFromKey() + ">" + edge.getToKey() + ":" + edge.getEdgeType()).toList());
+    }
+}
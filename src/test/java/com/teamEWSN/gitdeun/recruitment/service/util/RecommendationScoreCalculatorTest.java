@@ -0,0 +1,92 @@
+package com.teamEWSN.gitdeun.recruitment.service.util;
+
+import com.teamEWSN.gitdeun.recruitment.entity.RecruitmentStatus;
+import com.teamEWSN.gitdeun.userskill.entity.DeveloperSkill;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RecommendationScoreCalculatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+    // 날짜 가산/감점이 없는 조건 (등록 30일 전, 시작 7일 후, 마감 30일 후)
+    private static final LocalDateTime OLD = NOW.minusDays(30);
+    private static final LocalDateTime START = NOW.plusDays(7);
+    private static final LocalDateTime END = NOW.plusDays(30);
+
+    @Test
+    void skillMaskHasOneBitPerSkill() {
+        assertThat(RecommendationScoreCalculator.toSkillMask(null)).isZero();
+        assertThat(RecommendationScoreCalculator.toSkillMask(Set.of())).isZero();
+        assertThat(RecommendationScoreCalculator.toSkillMask(Set.of(DeveloperSkill.JAVA)))
+            .isEqualTo(1L << DeveloperSkill.JAVA.ordinal());
+        assertThat(Long.bitCount(RecommendationScoreCalculator.toSkillMask(EnumSet.allOf(DeveloperSkill.class))))
+            .isEqualTo(DeveloperSkill.values().length);
+    }
+
+    @Test
+    void maskScoreMatchesSetIntersection() {
+        Random random = new Random(42);
+        DeveloperSkill[] skills = DeveloperSkill.values();
+        for (int round = 0; round < 500; round++) {
+            Set<DeveloperSkill> postSkills = randomSkills(random, skills);
+            Set<DeveloperSkill> userSkills = randomSkills(random, skills);
+
+            double expected = 0.0;
+            if (!postSkills.isEmpty()) {
+                long matched = postSkills.stream().filter(userSkills::contains).count();
+                expected = (double) matched / postSkills.size();
+            }
+
+            assertThat(score(postSkills, userSkills, RecruitmentStatus.FORTHCOMING, OLD, START, END))
+                .isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    void statusAndDateAdjustmentsAreApplied() {
+        Set<DeveloperSkill> post = Set.of(DeveloperSkill.JAVA, DeveloperSkill.KOTLIN);
+        Set<DeveloperSkill> user = Set.of(DeveloperSkill.JAVA);
+
+        // 모집 중 +0.05
+        assertThat(score(post, user, RecruitmentStatus.RECRUITING, OLD, START, END)).isCloseTo(0.55, within(1e-9));
+        // 최근 등록 +0.05, 마감 임박 +0.03
+        assertThat(score(post, user, RecruitmentStatus.RECRUITING, NOW.minusDays(1), START, NOW.plusDays(1)))
+            .isCloseTo(0.63, within(1e-9));
+        // 시작 임박 +0.02, 시작까지 2주 초과 -0.05
+        assertThat(score(post, user, RecruitmentStatus.FORTHCOMING, OLD, NOW.plusDays(2), END)).isCloseTo(0.52, within(1e-9));
+        assertThat(score(post, user, RecruitmentStatus.FORTHCOMING, OLD, NOW.plusDays(20), END)).isCloseTo(0.45, within(1e-9));
+    }
+
+    @Test
+    void scoreStaysWithinZeroAndOne() {
+        Set<DeveloperSkill> post = Set.of(DeveloperSkill.JAVA);
+
+        assertThat(score(post, post, RecruitmentStatus.RECRUITING, NOW, START, NOW.plusDays(1))).isEqualTo(1.0);
+        assertThat(score(post, Set.of(DeveloperSkill.GO), RecruitmentStatus.FORTHCOMING, OLD, NOW.plusDays(20), END))
+            .isEqualTo(0.0);
+        assertThat(score(Set.of(), post, RecruitmentStatus.FORTHCOMING, OLD, START, END)).isEqualTo(0.0);
+    }
+
+    private static double score(Set<DeveloperSkill> postSkills, Set<DeveloperSkill> userSkills, RecruitmentStatus status,
+                                LocalDateTime createdAt, LocalDateTime startAt, LocalDateTime endAt) {
+        return RecommendationScoreCalculator.calculate(
+            RecommendationScoreCalculator.toSkillMask(postSkills), RecommendationScoreCalculator.toSkillMask(userSkills),
+            status, createdAt, startAt, endAt, NOW);
+    }
+
+    private static Set<DeveloperSkill> randomSkills(Random random, DeveloperSkill[] skills) {
+        Set<DeveloperSkill> selected = EnumSet.noneOf(DeveloperSkill.class);
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            selected.add(skills[random.nextInt(skills.length)]);
+        }
+        return selected;
+    }
+}